@@ -1,14 +1,51 @@
 package com.nhnacademy.environment.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.Map;
 
 @Configuration
 @Slf4j
-public class TaskSchedulerConfig {
+public class TaskSchedulerConfig implements SchedulingConfigurer {
+
+    /** @Scheduled 주기 작업 전용 스케줄러 스레드 수. */
+    @Value("${scheduling.jobs.pool-size:4}")
+    private int jobPoolSize = 4;
+
+    /**
+     * @Scheduled 작업(통계 스냅샷 갱신, 실시간 버퍼 폴링, 예측 캐시 갱신, 리포트 정리 등)을
+     * WebSocket 전송 스케줄러가 아닌 전용 스케줄러에서 실행하도록 등록합니다.
+     * - 느린 InfluxDB / MySQL 조회가 WebSocket 실시간 전송 스레드를 점유하지 않도록 분리합니다.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(scheduledJobTaskScheduler());
+    }
+
+    /**
+     * @Scheduled 주기 작업을 위한 Task Scheduler
+     */
+    @Bean
+    public ThreadPoolTaskScheduler scheduledJobTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(jobPoolSize);
+        scheduler.setThreadNamePrefix("scheduled-job-");
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.initialize();
+
+        log.info("Scheduled Job TaskScheduler 초기화 완료 - 풀 크기: {}", jobPoolSize);
+        return scheduler;
+    }
 
     /**
      * WebSocket 실시간 데이터 전송을 위한 Task Scheduler
@@ -25,4 +62,75 @@ public class TaskSchedulerConfig {
         log.info("WebSocket TaskScheduler 초기화 완료 - 풀 크기: 10");
         return scheduler;
     }
+
+    /**
+     * 대시보드 통계 병렬 집계를 위한 Task Executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor statsTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("stats-executor-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("Stats TaskExecutor 초기화 완료 - 코어 풀 크기: 4, 최대 풀 크기: 8");
+        return executor;
+    }
+
+    /**
+     * 예측 화면 조회(InfluxDB / MySQL 병렬 조회)를 위한 Task Executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor predictionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("prediction-executor-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("Prediction TaskExecutor 초기화 완료 - 코어 풀 크기: 4, 최대 풀 크기: 8");
+        return executor;
+    }
+
+    /**
+     * AI 리포트 비동기 작업(InfluxDB 조회 + Gemini 호출)을 위한 Task Executor
+     * - 작업자 수와 대기열 크기를 제한해 느린 LLM 호출이 요청 스레드(Tomcat)를 점유하지 않도록 합니다.
+     * - 대기열이 가득 차면 TaskRejectedException 이 발생합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reportTaskExecutor(@Value("${report.job.workers:4}") int workers,
+                                                     @Value("${report.job.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("report-executor-");
+        // 요청 스레드의 traceId 를 작업 스레드 로그에도 남김
+        executor.setTaskDecorator(task -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    task.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("Report TaskExecutor 초기화 완료 - 작업자 수: {}, 대기열 크기: {}", workers, queueCapacity);
+        return executor;
+    }
 }
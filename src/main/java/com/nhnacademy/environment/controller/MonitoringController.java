@@ -0,0 +1,141 @@
+package com.nhnacademy.environment.controller;
+
+import com.nhnacademy.environment.prediction.service.PredictionCacheService;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.query.QueryCostGuard;
+import com.nhnacademy.environment.report.service.ReportCacheService;
+import com.nhnacademy.environment.report.service.ReportJobService;
+import com.nhnacademy.environment.timeseries.service.LatestValueService;
+import com.nhnacademy.environment.timeseries.service.RecentDataStore;
+import com.nhnacademy.environment.websocket.interceptor.AuthHandshakeInterceptor;
+import com.nhnacademy.environment.websocket.manager.ConnectionQuotaManager;
+import com.nhnacademy.environment.websocket.service.CompanyDomainResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 서버 내부 상태 모니터링 컨트롤러
+ * 쿼리 실행 통계 등 운영 지표를 제공합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/environment/metrics")
+@RequiredArgsConstructor
+public class MonitoringController {
+
+    private final InfluxQueryExecutor queryExecutor;
+    private final QueryCostGuard queryCostGuard;
+    private final PredictionCacheService predictionCacheService;
+    private final RecentDataStore recentDataStore;
+    private final LatestValueService latestValueService;
+    private final AuthHandshakeInterceptor authHandshakeInterceptor;
+    private final CompanyDomainResolver companyDomainResolver;
+    private final ConnectionQuotaManager connectionQuotaManager;
+    private final ReportJobService reportJobService;
+    private final ReportCacheService reportCacheService;
+
+    /**
+     * InfluxDB 쿼리 single-flight 통계 조회.
+     * 실제 실행된 쿼리 수와 동일 쿼리 공유로 절약된 쿼리 수를 반환합니다.
+     */
+    @GetMapping("/influx-queries")
+    public ResponseEntity<Map<String, Object>> getInfluxQueryStats() {
+        return ResponseEntity.ok(queryExecutor.getStats());
+    }
+
+    /**
+     * InfluxDB 쿼리 회사별 동시 실행 / 대기열 통계 조회.
+     * 회사별 실행 중 수, 대기열 길이, 평균 / 최대 대기 시간을 반환합니다.
+     */
+    @GetMapping("/influx-tenants")
+    public ResponseEntity<Map<String, Object>> getInfluxTenantStats() {
+        return ResponseEntity.ok(queryExecutor.getTenantStats());
+    }
+
+    /**
+     * 쿼리 비용 제한 통계 조회.
+     * 결과 크기 한도 초과로 집계 전환 / 잘라내기 / 거절된 횟수를 반환합니다.
+     */
+    @GetMapping("/query-guard")
+    public ResponseEntity<Map<String, Object>> getQueryGuardStats() {
+        return ResponseEntity.ok(queryCostGuard.getStats());
+    }
+
+    /**
+     * 예측 데이터 캐시 통계 조회.
+     * 적중률, 캐시 항목 수, 현재 최신 예측 id 를 반환합니다.
+     */
+    @GetMapping("/forecast-cache")
+    public ResponseEntity<Map<String, Object>> getForecastCacheStats() {
+        return ResponseEntity.ok(predictionCacheService.getStats());
+    }
+
+    /**
+     * 최근 데이터 인메모리 저장소 통계 조회.
+     * 회사 / 시계열 수와 메모리 응답 및 InfluxDB 위임 횟수를 반환합니다.
+     */
+    @GetMapping("/recent-buffer")
+    public ResponseEntity<Map<String, Object>> getRecentBufferStats() {
+        return ResponseEntity.ok(recentDataStore.getStats());
+    }
+
+    /**
+     * 최신값 조회 통계.
+     * 메모리 / 캐시 응답 수와 InfluxDB last() 쿼리 수를 반환합니다.
+     */
+    @GetMapping("/latest-values")
+    public ResponseEntity<Map<String, Object>> getLatestValueStats() {
+        return ResponseEntity.ok(latestValueService.getStats());
+    }
+
+    /**
+     * WebSocket handshake 토큰 검증 통계.
+     * 검증 캐시 응답 수와 실제 서명 검증 수를 반환합니다.
+     */
+    @GetMapping("/websocket-auth")
+    public ResponseEntity<Map<String, Object>> getWebSocketAuthStats() {
+        return ResponseEntity.ok(authHandshakeInterceptor.getStats());
+    }
+
+    /**
+     * WebSocket handshake companyDomain 조회 통계.
+     * 캐시 / stale 응답 수, Member API 호출 수, circuit breaker 상태를 반환합니다.
+     */
+    @GetMapping("/company-domain")
+    public ResponseEntity<Map<String, Object>> getCompanyDomainStats() {
+        return ResponseEntity.ok(companyDomainResolver.getStats());
+    }
+
+    /**
+     * 실시간 연결(WebSocket / SSE) 제한 사용률 조회.
+     * 전체 / 회사별 연결 수, 제한 값, 거절 횟수를 반환합니다.
+     */
+    @GetMapping("/connections")
+    public ResponseEntity<Map<String, Object>> getConnectionStats() {
+        return ResponseEntity.ok(connectionQuotaManager.getStats());
+    }
+
+    /**
+     * AI 리포트 비동기 작업 통계 조회.
+     * 등록 / 거절 / 완료 / 실패 / 취소 수와 현재 대기 / 실행 중인 작업 수를 반환합니다.
+     */
+    @GetMapping("/report-jobs")
+    public ResponseEntity<Map<String, Object>> getReportJobStats() {
+        return ResponseEntity.ok(reportJobService.getStats());
+    }
+
+    /**
+     * AI 리포트 캐시 통계 조회.
+     * 적중률(hitRatio), 적중 / 미적중 수, 캐시 항목 수를 반환합니다.
+     */
+    @GetMapping("/report-cache")
+    public ResponseEntity<Map<String, Object>> getReportCacheStats() {
+        return ResponseEntity.ok(reportCacheService.getStats());
+    }
+}
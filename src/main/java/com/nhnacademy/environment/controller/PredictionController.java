@@ -120,14 +120,9 @@ public class PredictionController {
         String actualCompanyDomain = CompanyDomainContext.get();
         log.info("전체 예측 조회 - companyDomain: {}, deviceId: {}", actualCompanyDomain, deviceId);
 
-        Map<String, ResourcePredictionDto> allData = new HashMap<>();
-
-        allData.put("cpu", predictionService.getCpuPredictionData(
-                actualCompanyDomain, deviceId, hoursBack, hoursForward));
-        allData.put("memory", predictionService.getMemoryPredictionData(
-                actualCompanyDomain, deviceId, hoursBack, hoursForward));
-        allData.put("disk", predictionService.getDiskPredictionData(
-                actualCompanyDomain, deviceId, hoursBack, hoursForward));
+        // InfluxDB 1회 + MySQL 1회 (병렬)
+        Map<String, ResourcePredictionDto> allData = predictionService.getAllPredictionData(
+                actualCompanyDomain, deviceId, hoursBack, hoursForward);
 
         return ResponseEntity.ok(allData);
     }
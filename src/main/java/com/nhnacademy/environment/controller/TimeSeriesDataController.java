@@ -4,19 +4,30 @@ import com.nhnacademy.environment.config.annotation.CompanyDomainContext;
 import com.nhnacademy.environment.config.annotation.HasRole;
 import com.nhnacademy.environment.config.annotation.NormalizeCompanyDomain;
 import com.nhnacademy.environment.config.translation.TranslationConfig;
+import com.nhnacademy.environment.query.QueryCostGuard;
 import com.nhnacademy.environment.timeseries.dto.ChartDataDto;
+import com.nhnacademy.environment.timeseries.dto.ChartSeriesSelector;
+import com.nhnacademy.environment.timeseries.dto.LatestValueSelector;
 import com.nhnacademy.environment.timeseries.dto.TimeSeriesDataDto;
 import com.nhnacademy.environment.timeseries.service.TimeSeriesDataService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -34,27 +45,60 @@ public class TimeSeriesDataController {
     @Autowired
     private final Map<String, String> translationMap;
 
+    /**
+     * /current/batch, /chart/batch 한 번에 조회할 수 있는 최대 selector 수
+     */
+    @Value("${latest.batch.max-selectors:100}")
+    private int maxBatchSelectors = 100;
+
     /**
      * 특정 origin 의 시계열 데이터를 필터 기준으로 조회.
      *
      * @param companyDomain 회사 도메인
      * @param range         범위 (기본 180분)
+     * @param maxPoints     응답 최대 점 개수 (LTTB 다운샘플링, 미지정 시 시계열당 기본 목표 점 개수로 집계).
+     *                      시계열이 많으면 시계열당 최소 3점을 유지하므로 합계가 maxPoints 를 넘을 수 있음
      * @param allParams     measurement, location 등 필터용 파라미터
-     * @return 측정값별 시계열 데이터 Map
+     * @return 측정값별 시계열 데이터 Map.
+     *         결과 크기 한도를 넘어 집계 / 잘라내기를 적용했으면 X-Query-* 헤더로 알려줍니다.
      */
     @NormalizeCompanyDomain
     @GetMapping("/time-series")
     //@HasRole({"ROLE_ADMIN", "ROLE_OWNER", "ROLE_USER"})
-    public Map<String, List<TimeSeriesDataDto>> getTimeSeriesData(
+    public ResponseEntity<Map<String, List<TimeSeriesDataDto>>> getTimeSeriesData(
             @PathVariable String companyDomain,
             @RequestParam(defaultValue = "180") int range,
+            @RequestParam(defaultValue = "0") int maxPoints,
             @RequestParam Map<String, String> allParams
     ) {
         allParams.remove("range");
+        allParams.remove("maxPoints");
         allParams.put("companyDomain", CompanyDomainContext.get());
 
-        log.info("/time-series 요청 도착 - companyDomain: {}, range: {}, filters: {}", CompanyDomainContext.get(), range, allParams);
-        return timeSeriesDataService.getTimeSeriesData(allParams, range);
+        log.info("/time-series 요청 도착 - companyDomain: {}, range: {}, maxPoints: {}, filters: {}",
+                CompanyDomainContext.get(), range, maxPoints, allParams);
+
+        // ★★★ 결과 크기 사전 추정 (한도 초과 시 거절 / 집계 / 잘라내기) ★★★
+        QueryCostGuard.QueryPlan plan = timeSeriesDataService.planTimeSeriesQuery(allParams, range, maxPoints);
+        if (plan.action() == QueryCostGuard.Action.REJECT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("조회 결과가 너무 큽니다. (추정 %d점) range 를 줄이거나 maxPoints 를 지정해주세요.",
+                            plan.estimatedPoints()));
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (plan.truncated()) {
+            response.header("X-Query-Truncated", "true")
+                    .header("X-Query-Plan", plan.action().name())
+                    .header("X-Query-Estimated-Points", String.valueOf(plan.estimatedPoints()));
+            if (plan.aggregateEvery() != null) {
+                response.header("X-Query-Aggregate-Window", plan.aggregateEvery());
+            }
+            if (plan.perSeriesLimit() > 0) {
+                response.header("X-Query-Per-Series-Limit", String.valueOf(plan.perSeriesLimit()));
+            }
+        }
+        return response.body(timeSeriesDataService.getTimeSeriesData(allParams, range, maxPoints, plan));
     }
 
 
@@ -125,6 +169,8 @@ public class TimeSeriesDataController {
      * @param sensor        측정 항목 이름 (예: temperature)
      * @param origin        데이터 출처
      * @param rangeMinutes  데이터 조회 시간 (기본 5분)
+     * @param maxPoints     응답 최대 점 개수 (LTTB 다운샘플링, 미지정 시 시계열당 기본 목표 점 개수로 집계).
+     *                      시계열이 많으면 시계열당 최소 3점을 유지하므로 합계가 maxPoints 를 넘을 수 있음
      * @return 차트에 사용할 시계열 데이터 DTO
      */
     @NormalizeCompanyDomain
@@ -134,14 +180,56 @@ public class TimeSeriesDataController {
             @PathVariable String companyDomain,
             @PathVariable String sensor,
             @RequestParam String origin,
-            @RequestParam(defaultValue = "5") int rangeMinutes
+            @RequestParam(defaultValue = "5") int rangeMinutes,
+            @RequestParam(defaultValue = "0") int maxPoints
     ) {
         Map<String, String> filters = new HashMap<>();
         filters.put("origin", origin);
         filters.put("companyDomain", CompanyDomainContext.get());
 
         log.debug("chart called: companyDomain={}, origin={}, rangeMinutes={}", CompanyDomainContext.get(), origin, rangeMinutes);
-        return timeSeriesDataService.getChartData(sensor, "value", filters, rangeMinutes);
+        return timeSeriesDataService.getChartData(sensor, "value", filters, rangeMinutes, maxPoints);
+    }
+
+    /**
+     * 여러 센서 타일의 라인 차트 데이터 일괄 조회.
+     * 타일마다 /chart/type/{sensor} 를 호출하는 대신 하나의 Flux 쿼리로 모든 시계열을 조회하여 key 별로 나누어 반환합니다.
+     *
+     * @param companyDomain 회사 도메인
+     * @param rangeMinutes  데이터 조회 시간 (기본 5분)
+     * @param maxPoints     차트당 최대 점 개수 (지정 시 모든 차트가 같은 집계 간격 사용)
+     * @param selectors     차트 조건 목록 (key, measurement, field, origin, location, gatewayId, deviceId)
+     * @return key → 차트 데이터 DTO
+     */
+    @NormalizeCompanyDomain
+    @PostMapping("/chart/batch")
+    //@HasRole({"ROLE_ADMIN", "ROLE_OWNER", "ROLE_USER"})
+    public Map<String, ChartDataDto> getChartDataBatch(
+            @PathVariable String companyDomain,
+            @RequestParam(defaultValue = "5") int rangeMinutes,
+            @RequestParam(defaultValue = "0") int maxPoints,
+            @RequestBody List<ChartSeriesSelector> selectors
+    ) {
+        if (selectors.size() > maxBatchSelectors) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 번에 조회할 수 있는 selector 는 최대 " + maxBatchSelectors + "개입니다.");
+        }
+        if (selectors.stream().anyMatch(selector -> selector.getMeasurement() == null || selector.getMeasurement().isBlank())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "모든 selector 에 measurement 가 필요합니다.");
+        }
+
+        log.debug("chart batch called: companyDomain={}, selectors={}, rangeMinutes={}",
+                CompanyDomainContext.get(), selectors.size(), rangeMinutes);
+
+        List<ChartDataDto> charts = timeSeriesDataService.getChartDataBatch(
+                CompanyDomainContext.get(), selectors, rangeMinutes, maxPoints);
+
+        Map<String, ChartDataDto> result = new LinkedHashMap<>();
+        for (int i = 0; i < selectors.size(); i++) {
+            String key = selectors.get(i).getKey();
+            result.put(key != null && !key.isBlank() ? key : String.valueOf(i), charts.get(i));
+        }
+        return result;
     }
 
     /**
@@ -201,4 +289,42 @@ public class TimeSeriesDataController {
         }
         return latestData;
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 게이지의 최신값 일괄 조회.
+     * 게이지마다 /current 를 호출하는 대신 한 번의 요청으로 모든 selector 의 최신값을 반환합니다.
+     * (인메모리 저장소 / 최신값 캐시에 없는 selector 만 하나의 Flux last() 쿼리로 조회)
+     *
+     * @param companyDomain 회사 도메인
+     * @param selectors     시계열 선택 조건 목록 (key, origin, location, measurement, field, gatewayId, deviceId)
+     * @return key → 최신 데이터 (없으면 null)
+     */
+    @NormalizeCompanyDomain
+    @PostMapping("/current/batch")
+    // @HasRole(...) // 필요시 권한 설정
+    public Map<String, TimeSeriesDataDto> getCurrentValues(
+            @PathVariable String companyDomain,
+            @RequestBody List<LatestValueSelector> selectors
+    ) {
+        if (selectors.size() > maxBatchSelectors) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "한 번에 조회할 수 있는 selector 는 최대 " + maxBatchSelectors + "개입니다.");
+        }
+
+        List<Map<String, String>> filtersList = new ArrayList<>(selectors.size());
+        for (LatestValueSelector selector : selectors) {
+            filtersList.add(selector.toFilters(CompanyDomainContext.get()));
+        }
+
+        log.info("/current/batch 요청 - company: {}, selector 수: {}", companyDomain, selectors.size());
+
+        List<TimeSeriesDataDto> latest = timeSeriesDataService.getLatestTimeSeriesData(filtersList);
+
+        Map<String, TimeSeriesDataDto> result = new LinkedHashMap<>();
+        for (int i = 0; i < selectors.size(); i++) {
+            String key = selectors.get(i).getKey();
+            result.put(key != null && !key.isBlank() ? key : String.valueOf(i), latest.get(i));
+        }
+        return result;
+    }
+}
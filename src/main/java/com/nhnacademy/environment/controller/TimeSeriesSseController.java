@@ -5,9 +5,13 @@ import com.nhnacademy.environment.config.annotation.CompanyDomainContext;
 import com.nhnacademy.environment.config.annotation.HasRole;
 import com.nhnacademy.environment.timeseries.dto.TimeSeriesDataDto;
 import com.nhnacademy.environment.timeseries.service.TimeSeriesDataService;
+import com.nhnacademy.environment.websocket.manager.ConnectionQuotaManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,6 +21,8 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.Executors;
 
 @Slf4j
@@ -35,6 +41,11 @@ public class TimeSeriesSseController {
      */
     private final ObjectMapper objectMapper;
 
+    /**
+     * 실시간 연결 수 제한 (WebSocket 과 합산).
+     */
+    private final ConnectionQuotaManager connectionQuotaManager;
+
     /**
      * 시계열 데이터를 SSE 방식으로 스트리밍합니다.
      * 프론트에서는 `/time-series-stream` 요청 후 `data:` 이벤트를 통해 수신.
@@ -42,27 +53,48 @@ public class TimeSeriesSseController {
      * @param companyDomain 회사 도메인 (경로 파라미터)
      * @param origin         origin 값 (sensor_data, server_data 등)
      * @param range          시간 범위 (기본값: 180분)
+     * @param maxPoints      이벤트당 최대 점 개수 (LTTB 다운샘플링, 미지정 시 시계열당 기본 목표 점 개수로 집계).
+     *                       시계열이 많으면 시계열당 최소 3점을 유지하므로 합계가 maxPoints 를 넘을 수 있음
      * @param allParams      measurement, location 등 필터 조건
-     * @return SseEmitter 스트림 응답
+     * @return SseEmitter 스트림 응답, 연결 수 제한 초과 시 429 + Retry-After
      */
     @GetMapping(value = "/time-series-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     //@HasRole({"ROLE_ADMIN", "ROLE_OWNER", "ROLE_USER"})
-    public SseEmitter streamTimeSeriesData(
+    public ResponseEntity<SseEmitter> streamTimeSeriesData(
             @PathVariable String companyDomain,
             @RequestParam String origin,
             @RequestParam(defaultValue = "180") int range,
+            @RequestParam(defaultValue = "0") int maxPoints,
             @RequestParam Map<String, String> allParams
     ) {
         allParams.remove("range");
+        allParams.remove("maxPoints");
         allParams.put("companyDomain", CompanyDomainContext.get());
         allParams.put("origin", origin);
 
+        // 연결 수 제한 확인
+        String quotaDomain = allParams.get("companyDomain") != null
+                ? allParams.get("companyDomain")
+                : companyDomain.split("\\.")[0];
+        String connectionId = "sse-" + UUID.randomUUID();
+        Optional<ConnectionQuotaManager.Rejection> rejection =
+                connectionQuotaManager.acquire(ConnectionQuotaManager.Channel.SSE, quotaDomain, connectionId);
+        if (rejection.isPresent()) {
+            log.warn("SSE 연결 거절: companyDomain={}, 사유={}", quotaDomain, rejection.get().reason());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(rejection.get().retryAfterSeconds()))
+                    .build();
+        }
+
         SseEmitter emitter = new SseEmitter(60 * 60 * 1000L); // timeout 1시간
+        emitter.onCompletion(() -> connectionQuotaManager.release(connectionId));
+        emitter.onTimeout(() -> connectionQuotaManager.release(connectionId));
+        emitter.onError(e -> connectionQuotaManager.release(connectionId));
         Executors.newSingleThreadExecutor().execute(() -> {
             try {
                 while (true) {
                     Map<String, List<TimeSeriesDataDto>> data =
-                            timeSeriesDataService.getTimeSeriesData(allParams, range);
+                            timeSeriesDataService.getTimeSeriesData(allParams, range, maxPoints);
 
                     emitter.send(SseEmitter.event()
                             .name("time-series-update")
@@ -78,6 +110,6 @@ public class TimeSeriesSseController {
             }
         });
         log.info("SSE 연결 요청 도착: origin={}, filters={}", origin, allParams);
-        return emitter;
+        return ResponseEntity.ok(emitter);
     }
 }
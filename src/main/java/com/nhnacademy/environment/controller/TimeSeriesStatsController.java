@@ -1,12 +1,15 @@
 package com.nhnacademy.environment.controller;
 
+import com.nhnacademy.environment.timeseries.dto.DeviceDto;
 import com.nhnacademy.environment.timeseries.service.TimeSeriesStatsService;
+import com.nhnacademy.environment.timeseries.service.TrafficAccumulatorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -23,18 +26,23 @@ public class TimeSeriesStatsController {
 
     /**
      * 서비스 개수 조회 (gatewayId 기준)
+     * mode=EXACT|APPROXIMATE 로 계산 방식을 지정할 수 있습니다. (미지정 시 stats.distinct-count.mode)
+     * 응답의 mode 는 실제로 사용한 방식입니다. (스케치 준비 전에는 APPROXIMATE 요청도 EXACT)
      */
     @GetMapping("/{companyDomain}/services/count")
-    public ResponseEntity<Map<String, Object>> getServiceCount(@PathVariable String companyDomain) {
+    public ResponseEntity<Map<String, Object>> getServiceCount(@PathVariable String companyDomain,
+                                                               @RequestParam(required = false) TimeSeriesStatsService.CountMode mode) {
         log.info("서비스 개수 조회 요청 - companyDomain: {}", companyDomain);
 
         try {
-            int count = statsService.countUniqueServices(companyDomain);
+            TimeSeriesStatsService.DeviceCount result = statsService.countUniqueServices(companyDomain, mode);
+            int count = result.count();
 
             Map<String, Object> response = new HashMap<>();
             response.put("count", count);
             response.put("companyDomain", companyDomain);
             response.put("type", "services");
+            response.put("mode", result.mode());
             response.put("success", true);
 
             log.info("서비스 개수 조회 완료 - count: {}", count);
@@ -59,16 +67,19 @@ public class TimeSeriesStatsController {
      * 서버 개수 조회 (IP 형태 deviceId 기준)
      */
     @GetMapping("/{companyDomain}/servers/count")
-    public ResponseEntity<Map<String, Object>> getServerCount(@PathVariable String companyDomain) {
+    public ResponseEntity<Map<String, Object>> getServerCount(@PathVariable String companyDomain,
+                                                              @RequestParam(required = false) TimeSeriesStatsService.CountMode mode) {
         log.info("서버 개수 조회 요청 - companyDomain: {}", companyDomain);
 
         try {
-            int count = statsService.countUniqueServers(companyDomain);
+            TimeSeriesStatsService.DeviceCount result = statsService.countUniqueServers(companyDomain, mode);
+            int count = result.count();
 
             Map<String, Object> response = new HashMap<>();
             response.put("count", count);
             response.put("companyDomain", companyDomain);
             response.put("type", "servers");
+            response.put("mode", result.mode());
             response.put("success", true);
 
             log.info("서버 개수 조회 완료 - count: {}", count);
@@ -93,16 +104,19 @@ public class TimeSeriesStatsController {
      * 센서 개수 조회 (센서 ID 형태 deviceId 기준)
      */
     @GetMapping("/{companyDomain}/sensors/count")
-    public ResponseEntity<Map<String, Object>> getSensorCount(@PathVariable String companyDomain) {
+    public ResponseEntity<Map<String, Object>> getSensorCount(@PathVariable String companyDomain,
+                                                              @RequestParam(required = false) TimeSeriesStatsService.CountMode mode) {
         log.info("센서 개수 조회 요청 - companyDomain: {}", companyDomain);
 
         try {
-            int count = statsService.countUniqueSensors(companyDomain);
+            TimeSeriesStatsService.DeviceCount result = statsService.countUniqueSensors(companyDomain, mode);
+            int count = result.count();
 
             Map<String, Object> response = new HashMap<>();
             response.put("count", count);
             response.put("companyDomain", companyDomain);
             response.put("type", "sensors");
+            response.put("mode", result.mode());
             response.put("success", true);
 
             log.info("센서 개수 조회 완료 - count: {}", count);
@@ -123,6 +137,44 @@ public class TimeSeriesStatsController {
         }
     }
 
+    /**
+     * 장비 목록 조회 (최근 30일 인벤토리 기준)
+     * location 을 지정하면 해당 location 의 장비만 반환합니다.
+     */
+    @GetMapping("/{companyDomain}/devices")
+    public ResponseEntity<Map<String, Object>> getDeviceList(@PathVariable String companyDomain,
+                                                             @RequestParam(required = false) String location) {
+        log.info("장비 목록 조회 요청 - companyDomain: {}, location: {}", companyDomain, location);
+
+        try {
+            List<DeviceDto> devices = statsService.getDeviceList(companyDomain, location);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("devices", devices);
+            response.put("count", devices.size());
+            response.put("companyDomain", companyDomain);
+            response.put("type", "devices");
+            response.put("success", true);
+
+            log.info("장비 목록 조회 완료 - count: {}", devices.size());
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("장비 목록 조회 실패", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("devices", List.of());
+            errorResponse.put("count", 0);
+            errorResponse.put("companyDomain", companyDomain);
+            errorResponse.put("type", "devices");
+            errorResponse.put("success", false);
+            errorResponse.put("error", true);
+            errorResponse.put("message", "장비 목록 조회 실패");
+
+            return ResponseEntity.ok(errorResponse);
+        }
+    }
+
     /**
      * 아웃바운드 트래픽 조회.
      */
@@ -157,6 +209,80 @@ public class TimeSeriesStatsController {
         }
     }
 
+    /**
+     * 인바운드 트래픽 조회.
+     */
+    @GetMapping("/{companyDomain}/traffic/inbound")
+    public ResponseEntity<Map<String, Object>> getInboundTraffic(@PathVariable String companyDomain) {
+        log.info("인바운드 트래픽 조회 요청 - companyDomain: {}", companyDomain);
+
+        try {
+            Map<String, Object> trafficData = statsService.calculateInboundTraffic(companyDomain);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("traffic", trafficData);
+            response.put("companyDomain", companyDomain);
+            response.put("type", "inbound_traffic");
+            response.put("success", true);
+
+            log.info("인바운드 트래픽 조회 완료 - {}", trafficData.get("formattedValue"));
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("인바운드 트래픽 조회 실패", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("traffic", Map.of("formattedValue", "0.0 MB"));
+            errorResponse.put("companyDomain", companyDomain);
+            errorResponse.put("type", "inbound_traffic");
+            errorResponse.put("success", false);
+            errorResponse.put("error", true);
+            errorResponse.put("message", "트래픽 조회 실패");
+
+            return ResponseEntity.ok(errorResponse);
+        }
+    }
+
+    /**
+     * 장비별 트래픽 조회 (최근 24시간, 많은 순).
+     * direction: outbound | inbound
+     */
+    @GetMapping("/{companyDomain}/traffic/{direction}/devices")
+    public ResponseEntity<Map<String, Object>> getTrafficByDevice(@PathVariable String companyDomain,
+                                                                  @PathVariable String direction) {
+        log.info("장비별 트래픽 조회 요청 - companyDomain: {}, direction: {}", companyDomain, direction);
+
+        try {
+            TrafficAccumulatorService.Direction trafficDirection =
+                    TrafficAccumulatorService.Direction.valueOf(direction.toUpperCase());
+            List<Map<String, Object>> devices = statsService.getTrafficByDevice(companyDomain, trafficDirection);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("devices", devices);
+            response.put("count", devices.size());
+            response.put("companyDomain", companyDomain);
+            response.put("type", direction.toLowerCase() + "_traffic_by_device");
+            response.put("period", "24h");
+            response.put("success", true);
+
+            log.info("장비별 트래픽 조회 완료 - count: {}", devices.size());
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("장비별 트래픽 조회 실패", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("devices", List.of());
+            errorResponse.put("count", 0);
+            errorResponse.put("companyDomain", companyDomain);
+            errorResponse.put("success", false);
+            errorResponse.put("error", true);
+            errorResponse.put("message", "장비별 트래픽 조회 실패");
+
+            return ResponseEntity.ok(errorResponse);
+        }
+    }
+
     /**
      * 통합 통계 정보 조회. (권장)
      * 서비스/서버/센서 개수를 한 번에 조회하여 네트워크 효율성 향상
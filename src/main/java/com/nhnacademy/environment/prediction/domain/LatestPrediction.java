@@ -8,8 +8,22 @@ import lombok.Setter;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+/**
+ * 최신 예측 결과 (latest_predictions)
+ * <p>
+ * 예측 화면 조회는 (company_domain, device_id, resource_type, target_time) 조건으로 이루어지므로
+ * 해당 컬럼 순서의 복합 인덱스를 사용합니다. predicted_value, confidence_score 까지 포함하여
+ * {@link com.nhnacademy.environment.prediction.dto.PredictionPoint} 프로젝션 조회는 인덱스만으로 처리됩니다.
+ * <p>
+ * batch_id 인덱스는 예측 캐시 무효화 확인(MAX(batch_id))용입니다.
+ * ddl-auto 를 사용하지 않으므로 인덱스는 {@code db/latest_predictions_index.sql} 로 직접 생성합니다.
+ */
 @Entity
-@Table(name = "latest_predictions")
+@Table(name = "latest_predictions", indexes = {
+        @Index(name = "idx_latest_predictions_lookup",
+                columnList = "company_domain, device_id, resource_type, target_time, predicted_value, confidence_score"),
+        @Index(name = "idx_latest_predictions_batch", columnList = "batch_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
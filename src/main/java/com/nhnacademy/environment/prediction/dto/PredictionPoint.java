@@ -0,0 +1,19 @@
+package com.nhnacademy.environment.prediction.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * latest_predictions 조회용 프로젝션
+ * <p>
+ * 예측 화면에 필요한 컬럼만 조회하여 엔티티 로딩(영속성 컨텍스트 등록)과 행 크기를 줄입니다.
+ *
+ * @param resourceType    리소스 타입 (cpu, mem, disk 등)
+ * @param targetTime      예측 대상 시각
+ * @param predictedValue  예측값
+ * @param confidenceScore 신뢰도
+ */
+public record PredictionPoint(String resourceType,
+                              LocalDateTime targetTime,
+                              Double predictedValue,
+                              Double confidenceScore) {
+}
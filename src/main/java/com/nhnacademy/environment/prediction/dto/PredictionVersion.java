@@ -0,0 +1,16 @@
+package com.nhnacademy.environment.prediction.dto;
+
+/**
+ * latest_predictions 테이블 버전 (예측 캐시 무효화 확인용)
+ * <p>
+ * 세 값 중 하나라도 바뀌면 테이블 내용이 바뀐 것으로 봅니다.
+ * 새 행 추가는 maxId, 행 삭제 / 교체는 rowCount, 같은 행을 새 batch 로 덮어쓰기(UPDATE)는 maxBatchId 로 감지합니다.
+ *
+ * @param maxId      최대 id (예측 데이터가 없으면 null)
+ * @param rowCount   전체 행 수
+ * @param maxBatchId 최대 batch_id (사전순, 예측 데이터가 없으면 null)
+ */
+public record PredictionVersion(Long maxId,
+                                Long rowCount,
+                                String maxBatchId) {
+}
@@ -2,26 +2,61 @@ package com.nhnacademy.environment.prediction.repository;
 
 
 import com.nhnacademy.environment.prediction.domain.LatestPrediction;
+import com.nhnacademy.environment.prediction.dto.PredictionPoint;
+import com.nhnacademy.environment.prediction.dto.PredictionVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface LatestPredictionRepository extends JpaRepository<LatestPrediction, Long> {
 
-    @Query("SELECT lp FROM LatestPrediction lp WHERE lp.companyDomain = :companyDomain " +
+    /**
+     * 예측 데이터 조회 (프로젝션, idx_latest_predictions_lookup 사용)
+     */
+    @Query("SELECT new com.nhnacademy.environment.prediction.dto.PredictionPoint(" +
+            "lp.resourceType, lp.targetTime, lp.predictedValue, lp.confidenceScore) " +
+            "FROM LatestPrediction lp WHERE lp.companyDomain = :companyDomain " +
             "AND lp.deviceId = :deviceId AND lp.resourceType = :resourceType " +
             "AND lp.targetTime BETWEEN :startTime AND :endTime " +
             "ORDER BY lp.targetTime ASC")
-    List<LatestPrediction> findPredictions(
+    List<PredictionPoint> findPredictionPoints(
             @Param("companyDomain") String companyDomain,
             @Param("deviceId") String deviceId,
             @Param("resourceType") String resourceType,
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime
     );
-}
\ No newline at end of file
+
+    /**
+     * 여러 리소스 타입의 예측 데이터를 한 번에 조회 (resource_type IN (...), 프로젝션)
+     */
+    @Query("SELECT new com.nhnacademy.environment.prediction.dto.PredictionPoint(" +
+            "lp.resourceType, lp.targetTime, lp.predictedValue, lp.confidenceScore) " +
+            "FROM LatestPrediction lp WHERE lp.companyDomain = :companyDomain " +
+            "AND lp.deviceId = :deviceId AND lp.resourceType IN :resourceTypes " +
+            "AND lp.targetTime BETWEEN :startTime AND :endTime " +
+            "ORDER BY lp.targetTime ASC")
+    List<PredictionPoint> findPredictionPointsByResourceTypes(
+            @Param("companyDomain") String companyDomain,
+            @Param("deviceId") String deviceId,
+            @Param("resourceTypes") Collection<String> resourceTypes,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime
+    );
+
+    /**
+     * latest_predictions 테이블 버전 - MAX(id), COUNT(*), MAX(batch_id) (예측 캐시 무효화 확인용)
+     * <p>
+     * MAX(id) 만으로는 기존 행을 새 batch 로 덮어쓰거나(UPDATE) 삭제하는 기록 방식을 감지하지 못하므로
+     * 행 수와 batch_id 최댓값을 함께 확인합니다. (PK / idx_latest_predictions_batch 인덱스로 조회)
+     */
+    @Query("SELECT new com.nhnacademy.environment.prediction.dto.PredictionVersion(" +
+            "MAX(lp.id), COUNT(lp.id), MAX(lp.batchId)) FROM LatestPrediction lp")
+    PredictionVersion findPredictionVersion();
+}
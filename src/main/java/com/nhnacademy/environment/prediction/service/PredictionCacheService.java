@@ -0,0 +1,214 @@
+package com.nhnacademy.environment.prediction.service;
+
+import com.nhnacademy.environment.prediction.dto.PredictionPoint;
+import com.nhnacademy.environment.prediction.dto.PredictionVersion;
+import com.nhnacademy.environment.prediction.repository.LatestPredictionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예측 데이터 캐시 서비스
+ * <p>
+ * - latest_predictions 는 외부 모델이 새 batch 결과를 기록할 때만 바뀌므로,
+ * (companyDomain, deviceId, resourceType) 별 예측 시계열을 적재 당시의 테이블 버전과 함께 메모리에 보관합니다.<br>
+ * - 주기적으로 테이블 버전(max(id), 행 수, max(batch_id))만 조회하여 값이 바뀌면 캐시를 비웁니다.
+ * 새 행 추가뿐 아니라 기존 행 삭제 / 새 batch 로 덮어쓰기도 감지합니다.<br>
+ * - 캐시는 현재 시각 기준 넓은 구간(기본 -1일 ~ +7일)을 한 번에 적재하고, 요청 구간은 메모리에서 잘라 반환합니다.
+ */
+@Slf4j
+@Service
+public class PredictionCacheService {
+
+    private final LatestPredictionRepository predictionRepository;
+
+    /**
+     * Key: companyDomain|deviceId|resourceType
+     */
+    private final Map<String, CachedSeries> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * 마지막으로 확인한 테이블 버전 (아직 확인 전이면 null)
+     */
+    private volatile PredictionVersion currentVersion;
+    private volatile boolean batchProbed;
+
+    @Value("${prediction.cache.window-back-hours:24}")
+    private long windowBackHours = 24;
+
+    @Value("${prediction.cache.window-forward-hours:168}")
+    private long windowForwardHours = 168;
+
+    @Value("${prediction.cache.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    public PredictionCacheService(LatestPredictionRepository predictionRepository) {
+        this.predictionRepository = predictionRepository;
+    }
+
+    /**
+     * 캐시된 예측 시계열 (적재 당시 테이블 버전과 적재 구간)
+     */
+    private record CachedSeries(PredictionVersion version, LocalDateTime from, LocalDateTime to,
+                                List<PredictionPoint> points) {
+
+        private boolean covers(PredictionVersion version, LocalDateTime startTime, LocalDateTime endTime) {
+            return Objects.equals(this.version, version) && !startTime.isBefore(from) && !endTime.isAfter(to);
+        }
+    }
+
+    /**
+     * 리소스 타입별 예측 데이터를 반환합니다.
+     * 캐시에 없는 리소스 타입만 한 번의 resource_type IN 쿼리로 적재합니다.
+     *
+     * @return key: resourceType, value: 구간 내 예측 데이터 (시간순)
+     */
+    public Map<String, List<PredictionPoint>> getPredictions(String companyDomain, String deviceId,
+                                                             Collection<String> resourceTypes,
+                                                             LocalDateTime startTime, LocalDateTime endTime) {
+        PredictionVersion version = getCurrentVersion();
+
+        Map<String, List<PredictionPoint>> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String resourceType : resourceTypes) {
+            CachedSeries series = cache.get(key(companyDomain, deviceId, resourceType));
+            if (series != null && series.covers(version, startTime, endTime)) {
+                result.put(resourceType, slice(series.points(), startTime, endTime));
+                hitCount.incrementAndGet();
+            } else {
+                missing.add(resourceType);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return result;
+        }
+        missCount.addAndGet(missing.size());
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = min(now.minusHours(windowBackHours), startTime);
+        LocalDateTime to = max(now.plusHours(windowForwardHours), endTime);
+
+        Map<String, List<PredictionPoint>> loaded = new HashMap<>();
+        for (String resourceType : missing) {
+            loaded.put(resourceType, new ArrayList<>());
+        }
+        for (PredictionPoint point : predictionRepository.findPredictionPointsByResourceTypes(
+                companyDomain, deviceId, missing, from, to)) {
+            List<PredictionPoint> points = loaded.get(point.resourceType());
+            if (points != null) {
+                points.add(point);
+            }
+        }
+
+        if (cache.size() + missing.size() > maxEntries) {
+            log.info("예측 캐시 최대 항목 수 초과 - 전체 비움 ({} 건)", cache.size());
+            cache.clear();
+        }
+        loaded.forEach((resourceType, points) -> {
+            List<PredictionPoint> unmodifiable = List.copyOf(points);
+            cache.put(key(companyDomain, deviceId, resourceType), new CachedSeries(version, from, to, unmodifiable));
+            result.put(resourceType, slice(unmodifiable, startTime, endTime));
+        });
+
+        log.debug("예측 캐시 적재 - companyDomain: {}, deviceId: {}, resourceTypes: {}, version: {}",
+                companyDomain, deviceId, missing, version);
+        return result;
+    }
+
+    /**
+     * 단일 리소스 타입의 예측 데이터를 반환합니다.
+     */
+    public List<PredictionPoint> getPredictions(String companyDomain, String deviceId, String resourceType,
+                                                LocalDateTime startTime, LocalDateTime endTime) {
+        return getPredictions(companyDomain, deviceId, List.of(resourceType), startTime, endTime)
+                .getOrDefault(resourceType, List.of());
+    }
+
+    /**
+     * 테이블 버전을 조회하여 새 모델 결과가 기록되었으면 캐시를 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${prediction.cache.batch-poll-ms:60000}",
+            initialDelayString = "${prediction.cache.batch-poll-ms:60000}")
+    public void pollLatestBatch() {
+        try {
+            refreshVersion(predictionRepository.findPredictionVersion());
+        } catch (Exception e) {
+            log.warn("예측 테이블 버전 조회 실패 - 기존 캐시 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 통계 (적중률, 항목 수, 현재 테이블 버전)
+     */
+    public Map<String, Object> getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("entries", cache.size());
+        stats.put("invalidations", invalidationCount.get());
+        PredictionVersion version = currentVersion;
+        stats.put("latestPredictionId", version != null ? version.maxId() : null);
+        stats.put("predictionRows", version != null ? version.rowCount() : null);
+        stats.put("latestBatchId", version != null ? version.maxBatchId() : null);
+        return stats;
+    }
+
+    private PredictionVersion getCurrentVersion() {
+        if (!batchProbed) {
+            pollLatestBatch();
+        }
+        return currentVersion;
+    }
+
+    private synchronized void refreshVersion(PredictionVersion latestVersion) {
+        if (batchProbed && Objects.equals(currentVersion, latestVersion)) {
+            return;
+        }
+        if (batchProbed) {
+            log.info("예측 테이블 변경 감지 ({} → {}) - 예측 캐시 비움 ({} 건)",
+                    currentVersion, latestVersion, cache.size());
+            invalidationCount.incrementAndGet();
+        }
+        cache.clear();
+        currentVersion = latestVersion;
+        batchProbed = true;
+    }
+
+    private static List<PredictionPoint> slice(List<PredictionPoint> points, LocalDateTime startTime, LocalDateTime endTime) {
+        return points.stream()
+                .filter(point -> !point.targetTime().isBefore(startTime) && !point.targetTime().isAfter(endTime))
+                .toList();
+    }
+
+    private static String key(String companyDomain, String deviceId, String resourceType) {
+        return companyDomain + "|" + deviceId + "|" + resourceType;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -1,31 +1,41 @@
 package com.nhnacademy.environment.prediction.service;
 
-import com.influxdb.client.QueryApi;
 import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
-import com.nhnacademy.environment.prediction.domain.LatestPrediction;
+import com.nhnacademy.environment.prediction.dto.PredictionPoint;
 import com.nhnacademy.environment.prediction.dto.ResourcePredictionDto;
 import com.nhnacademy.environment.prediction.dto.TimeSeriesDataPoint;
 import com.nhnacademy.environment.prediction.repository.LatestPredictionRepository;
-import lombok.RequiredArgsConstructor;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.query.QueryPriority;
+import com.nhnacademy.environment.util.AggregationWindowPlanner;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ResourcePredictionService {
 
     private final LatestPredictionRepository predictionRepository;
-    private final QueryApi queryApi;
+    private final PredictionCacheService predictionCacheService;
+    private final InfluxQueryExecutor queryExecutor;
+    private final Executor predictionTaskExecutor;
+
+    // 과거 데이터 목표 점 개수와 최소 집계 간격 (예측 데이터가 30분 단위로 정렬되어 있음)
+    private static final int HISTORY_TARGET_POINTS = 48;
+    private static final Duration MIN_HISTORY_WINDOW = Duration.ofMinutes(30);
 
     @Value("${influxdb.org}")
     private String influxOrg;
@@ -33,6 +43,16 @@ public class ResourcePredictionService {
     @Value("${influxdb.bucket}")
     private String influxBucket;
 
+    public ResourcePredictionService(LatestPredictionRepository predictionRepository,
+                                     PredictionCacheService predictionCacheService,
+                                     InfluxQueryExecutor queryExecutor,
+                                     @Qualifier("predictionTaskExecutor") Executor predictionTaskExecutor) {
+        this.predictionRepository = predictionRepository;
+        this.predictionCacheService = predictionCacheService;
+        this.queryExecutor = queryExecutor;
+        this.predictionTaskExecutor = predictionTaskExecutor;
+    }
+
     /**
      * CPU 사용률 데이터 (과거 + 현재 + 예측)
      */
@@ -111,6 +131,151 @@ public class ResourcePredictionService {
                 .build();
     }
 
+    /**
+     * CPU / 메모리 / 디스크 데이터를 한 번에 조회
+     * InfluxDB 과거 데이터(gatewayId 별 1회 쿼리)와 MySQL 예측 데이터(resource_type IN 1회 쿼리)를 병렬로 조회합니다.
+     *
+     * @return key: cpu, memory, disk
+     */
+    public Map<String, ResourcePredictionDto> getAllPredictionData(String companyDomain, String deviceId,
+                                                                   int hoursBack, int hoursForward) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime alignedNow = now.truncatedTo(ChronoUnit.HOURS)
+                .plusMinutes((now.getMinute() / 30) * 30);
+
+        LocalDateTime startTime = alignedNow.minusHours(hoursBack);
+        LocalDateTime endTime = alignedNow.plusHours(hoursForward);
+
+        log.info("전체 예측 데이터 조회 시작 - companyDomain={}, deviceId={}, {} ~ {}",
+                companyDomain, deviceId, startTime, endTime);
+
+        CompletableFuture<Map<String, List<TimeSeriesDataPoint>>> historicalFuture = CompletableFuture.supplyAsync(
+                () -> getHistoricalDataByGateway(companyDomain, deviceId, startTime, alignedNow), predictionTaskExecutor);
+        Map<String, List<TimeSeriesDataPoint>> predicted =
+                getPredictedDataByResource(companyDomain, deviceId, alignedNow, endTime);
+        Map<String, List<TimeSeriesDataPoint>> historical = historicalFuture.join();
+
+        Map<String, ResourcePredictionDto> allData = new HashMap<>();
+        allData.put("cpu", ResourcePredictionDto.builder()
+                .resourceType("cpu")
+                .historicalData(historical.getOrDefault("cpu", new ArrayList<>()))
+                .predictedData(predicted.getOrDefault("cpu", new ArrayList<>()))
+                .splitTime(alignedNow)
+                .build());
+        allData.put("memory", ResourcePredictionDto.builder()
+                .resourceType("memory")
+                .historicalData(historical.getOrDefault("mem", new ArrayList<>()))
+                .predictedData(predicted.getOrDefault("mem", new ArrayList<>()))
+                .splitTime(alignedNow)
+                .build());
+        allData.put("disk", ResourcePredictionDto.builder()
+                .resourceType("disk")
+                .historicalData(historical.getOrDefault("disk", new ArrayList<>()))
+                .predictedData(predicted.getOrDefault("disk", new ArrayList<>()))
+                .splitTime(alignedNow)
+                .build());
+
+        log.info("전체 예측 데이터 조회 완료 - 과거: {}, 예측: {}",
+                historical.values().stream().mapToInt(List::size).sum(),
+                predicted.values().stream().mapToInt(List::size).sum());
+
+        return allData;
+    }
+
+    /**
+     * InfluxDB에서 CPU / 메모리 / 디스크 과거 데이터를 한 번의 쿼리로 조회 (gatewayId 별, 기본 30분 집계)
+     * CPU 는 usage_idle 을 사용률(100 - idle)로 변환합니다.
+     *
+     * @return key: cpu, mem, disk
+     */
+    private Map<String, List<TimeSeriesDataPoint>> getHistoricalDataByGateway(String companyDomain, String deviceId,
+                                                                              LocalDateTime startTime, LocalDateTime endTime) {
+        String fluxQuery = String.format("""
+            from(bucket: "%s")
+            |> range(start: %s, stop: %s)
+            |> filter(fn: (r) => r["companyDomain"] == "%s")
+            |> filter(fn: (r) => r["deviceId"] == "%s")
+            |> filter(fn: (r) => r["location"] == "server_resource_data")
+            |> filter(fn: (r) => (r["gatewayId"] == "cpu" and r["measurement"] == "usage_idle")
+                or (r["gatewayId"] == "mem" and r["measurement"] == "used_percent")
+                or (r["gatewayId"] == "disk" and r["measurement"] == "used_percent"))
+            |> group(columns: ["gatewayId"])
+            |> aggregateWindow(every: %s, fn: mean, createEmpty: false)
+            |> yield(name: "mean")
+            """, influxBucket, startTime.atZone(ZoneId.systemDefault()).toInstant(),
+                endTime.atZone(ZoneId.systemDefault()).toInstant(), companyDomain, deviceId, historyWindow(startTime, endTime));
+
+        log.debug("InfluxDB Flux Query (리소스 통합):\n{}", fluxQuery);
+
+        Map<String, List<TimeSeriesDataPoint>> result = new HashMap<>();
+        try {
+            for (FluxTable table : queryExecutor.query(fluxQuery, influxOrg, QueryPriority.BATCH)) {
+                for (FluxRecord record : table.getRecords()) {
+                    Object gatewayId = record.getValueByKey("gatewayId");
+                    if (gatewayId == null || !(record.getValue() instanceof Number number) || record.getTime() == null) {
+                        continue;
+                    }
+                    double value = "cpu".equals(gatewayId) ? 100.0 - number.doubleValue() : number.doubleValue();
+
+                    result.computeIfAbsent(gatewayId.toString(), key -> new ArrayList<>())
+                            .add(TimeSeriesDataPoint.builder()
+                                    .timestamp(LocalDateTime.ofInstant(record.getTime(), ZoneId.systemDefault()))
+                                    .value(value)
+                                    .build());
+                }
+            }
+            result.values().forEach(points -> points.sort(Comparator.comparing(TimeSeriesDataPoint::getTimestamp)));
+
+        } catch (Exception e) {
+            log.error("리소스 통합 과거 데이터 조회 실패: {}", e.getMessage(), e);
+        }
+        return result;
+    }
+
+    /**
+     * CPU / 메모리 / 디스크 예측 데이터 조회 (캐시 미스 시 MySQL 한 번의 쿼리로 조회)
+     * 메모리는 'mem' 을 우선 사용하고, 없으면 'memory' 로 저장된 데이터를 사용합니다.
+     *
+     * @return key: cpu, mem, disk
+     */
+    private Map<String, List<TimeSeriesDataPoint>> getPredictedDataByResource(String companyDomain, String deviceId,
+                                                                              LocalDateTime startTime, LocalDateTime endTime) {
+        Map<String, List<PredictionPoint>> predictions = predictionCacheService.getPredictions(
+                companyDomain, deviceId, List.of("cpu", "mem", "memory", "disk"), startTime, endTime);
+
+        Map<String, List<TimeSeriesDataPoint>> result = new HashMap<>();
+        predictions.forEach((resourceType, points) -> {
+            if (!points.isEmpty()) {
+                result.put(resourceType, points.stream()
+                        .map(this::toDataPoint)
+                        .sorted(Comparator.comparing(TimeSeriesDataPoint::getTimestamp))
+                        .collect(Collectors.toList()));
+            }
+        });
+
+        List<TimeSeriesDataPoint> memory = result.remove("memory");
+        if (memory != null) {
+            result.putIfAbsent("mem", memory);
+        }
+        log.info("통합 예측 조회 결과: {} 건", result.values().stream().mapToInt(List::size).sum());
+        return result;
+    }
+
+    private TimeSeriesDataPoint toDataPoint(PredictionPoint prediction) {
+        return TimeSeriesDataPoint.builder()
+                .timestamp(prediction.targetTime())
+                .value(prediction.predictedValue())
+                .confidenceScore(prediction.confidenceScore())
+                .build();
+    }
+
+    /**
+     * 과거 데이터 집계 간격 - 조회 구간이 길어지면 30분보다 넓은 간격으로 약 48개 점을 유지합니다.
+     */
+    private static String historyWindow(LocalDateTime startTime, LocalDateTime endTime) {
+        return AggregationWindowPlanner.every(Duration.between(startTime, endTime), HISTORY_TARGET_POINTS, MIN_HISTORY_WINDOW);
+    }
+
     /**
      * InfluxDB에서 과거 CPU 데이터 조회
      */
@@ -124,15 +289,15 @@ public class ResourcePredictionService {
             |> filter(fn: (r) => r["location"] == "server_resource_data")
             |> filter(fn: (r) => r["gatewayId"] == "cpu")
             |> filter(fn: (r) => r["measurement"] == "usage_idle")
-            |> aggregateWindow(every: 30m, fn: mean, createEmpty: false)
+            |> aggregateWindow(every: %s, fn: mean, createEmpty: false)
             |> yield(name: "mean")
             """, influxBucket, startTime.atZone(ZoneId.systemDefault()).toInstant(),
-                endTime.atZone(ZoneId.systemDefault()).toInstant(), companyDomain, deviceId);
+                endTime.atZone(ZoneId.systemDefault()).toInstant(), companyDomain, deviceId, historyWindow(startTime, endTime));
 
-        log.debug("InfluxDB Flux Query (30분 집계):\n{}", fluxQuery);
+        log.debug("InfluxDB Flux Query:\n{}", fluxQuery);
 
         try {
-            List<FluxTable> tables = queryApi.query(fluxQuery, influxOrg);
+            List<FluxTable> tables = queryExecutor.query(fluxQuery, influxOrg, QueryPriority.BATCH);
             List<TimeSeriesDataPoint> dataPoints = new ArrayList<>();
 
             for (FluxTable table : tables) {
@@ -187,13 +352,14 @@ public class ResourcePredictionService {
             |> filter(fn: (r) => r["location"] == "server_resource_data")
             |> filter(fn: (r) => r["gatewayId"] == "%s")
             |> filter(fn: (r) => r["measurement"] == "%s")
-            |> aggregateWindow(every: 30m, fn: mean, createEmpty: false)
+            |> aggregateWindow(every: %s, fn: mean, createEmpty: false)
             |> yield(name: "mean")
             """, influxBucket, startTime.atZone(ZoneId.systemDefault()).toInstant(),
-                endTime.atZone(ZoneId.systemDefault()).toInstant(), companyDomain, deviceId, gatewayId, measurement);
+                endTime.atZone(ZoneId.systemDefault()).toInstant(), companyDomain, deviceId, gatewayId, measurement,
+                historyWindow(startTime, endTime));
 
         try {
-            List<FluxTable> tables = queryApi.query(fluxQuery, influxOrg);
+            List<FluxTable> tables = queryExecutor.query(fluxQuery, influxOrg, QueryPriority.BATCH);
             List<TimeSeriesDataPoint> dataPoints = new ArrayList<>();
 
             for (FluxTable table : tables) {
@@ -218,32 +384,28 @@ public class ResourcePredictionService {
     }
 
     /**
-     * MySQL에서 예측 데이터 조회 - 있는 그대로만 반환
+     * 예측 데이터 조회 - 있는 그대로만 반환 (최신 예측 id 기준 캐시, 미스 시 MySQL 조회)
      */
     private List<TimeSeriesDataPoint> getPredictedData(String companyDomain, String deviceId,
                                                        String resourceType, LocalDateTime startTime, LocalDateTime endTime) {
         log.info("MySQL 예측 데이터 조회: companyDomain={}, deviceId={}, resourceType={}, {} ~ {}",
                 companyDomain, deviceId, resourceType, startTime, endTime);
 
-        List<LatestPrediction> predictions = predictionRepository.findPredictions(
+        List<PredictionPoint> predictions = predictionCacheService.getPredictions(
                 companyDomain, deviceId, resourceType, startTime, endTime);
 
-        log.info("MySQL 조회 결과: {} 건의 예측 데이터 (resourceType={})", predictions.size(), resourceType);
+        log.info("예측 조회 결과: {} 건의 예측 데이터 (resourceType={})", predictions.size(), resourceType);
 
         // ★★★ 디버그: 실제 DB에 있는 resourceType 값들 확인 ★★★
         if (predictions.isEmpty() && "memory".equals(resourceType)) {
             log.warn("'memory'로 조회 실패. 'mem'으로 재시도...");
-            predictions = predictionRepository.findPredictions(
+            predictions = predictionCacheService.getPredictions(
                     companyDomain, deviceId, "mem", startTime, endTime);
             log.info("'mem'으로 재조회 결과: {} 건", predictions.size());
         }
 
         return predictions.stream()
-                .map(p -> TimeSeriesDataPoint.builder()
-                        .timestamp(p.getTargetTime())
-                        .value(p.getPredictedValue())
-                        .confidenceScore(p.getConfidenceScore())
-                        .build())
+                .map(this::toDataPoint)
                 .sorted((a, b) -> a.getTimestamp().compareTo(b.getTimestamp()))
                 .collect(Collectors.toList());
     }
@@ -266,7 +428,7 @@ public class ResourcePredictionService {
     """, influxBucket, companyDomain, deviceId);
 
         try {
-            List<FluxTable> tables = queryApi.query(fluxQuery, influxOrg);
+            List<FluxTable> tables = queryExecutor.query(fluxQuery, influxOrg, QueryPriority.BATCH);
             long influxCount = 0;
             if (!tables.isEmpty() && !tables.get(0).getRecords().isEmpty()) {
                 influxCount = ((Number) tables.get(0).getRecords().get(0).getValue()).longValue();
@@ -279,7 +441,7 @@ public class ResourcePredictionService {
         // 2. MySQL 예측 데이터 존재 여부 확인 (각 리소스 타입별)
         Map<String, Integer> predictionCounts = new HashMap<>();
         for (String resourceType : Arrays.asList("cpu", "memory", "mem", "disk")) {
-            List<LatestPrediction> predictions = predictionRepository.findPredictions(
+            List<PredictionPoint> predictions = predictionRepository.findPredictionPoints(
                     companyDomain, deviceId, resourceType,
                     LocalDateTime.now().minusDays(1),
                     LocalDateTime.now().plusDays(1));
@@ -301,7 +463,7 @@ public class ResourcePredictionService {
 
         List<Map<String, String>> availableData = new ArrayList<>();
         try {
-            List<FluxTable> tables = queryApi.query(availableQuery, influxOrg);
+            List<FluxTable> tables = queryExecutor.query(availableQuery, influxOrg, QueryPriority.BATCH);
             Set<String> uniqueDeviceIds = new HashSet<>();
 
             for (FluxTable table : tables) {
@@ -338,13 +500,13 @@ public class ResourcePredictionService {
      */
     public Double getPredictionConfidence(String companyDomain, String deviceId,
                                           String resourceType, LocalDateTime targetTime) {
-        List<LatestPrediction> predictions = predictionRepository.findPredictions(
+        List<PredictionPoint> predictions = predictionRepository.findPredictionPoints(
                 companyDomain, deviceId, resourceType,
                 targetTime.minusMinutes(15),
                 targetTime.plusMinutes(15));
 
         if (!predictions.isEmpty()) {
-            return predictions.get(0).getConfidenceScore();
+            return predictions.get(0).confidenceScore();
         }
         return null;
     }
@@ -0,0 +1,208 @@
+package com.nhnacademy.environment.query;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * InfluxDB Flux 쿼리 실행을 담당하는 컴포넌트입니다.
+ * <p>
+ * 동일한 Flux 쿼리(문자열 리터럴 밖의 공백 정규화 기준), 조직(org), 우선순위로 동시에 들어온 요청은
+ * 하나의 in-flight {@link CompletableFuture} 를 공유하여 InfluxDB 에는 한 번만 쿼리합니다. (single-flight)<br>
+ * 우선순위를 키에 포함하므로 INTERACTIVE 요청이 대기열에 묶인 BATCH 요청 뒤에서 기다리지 않습니다.<br>
+ * 쿼리가 끝나면 즉시 in-flight 목록에서 제거되므로 결과를 캐싱하지는 않습니다.
+ * <p>
+ * 실제로 InfluxDB 에 보내는 쿼리는 {@link QueryFairScheduler} 에서 실행 자리를 얻은 뒤 실행됩니다.
+ * 회사(tenant)는 Flux 의 companyDomain 필터 값으로 구분합니다.
+ */
+@Slf4j
+@Component
+public class InfluxQueryExecutor {
+
+    /** r["companyDomain"] == "x" 또는 r.companyDomain == "x" 형식의 필터. */
+    private static final Pattern COMPANY_DOMAIN_FILTER =
+            Pattern.compile("r(?:\\[\"companyDomain\"]|\\.companyDomain)\\s*==\\s*\"([^\"]+)\"");
+
+    /** InfluxDB 쿼리 API 입니다. */
+    private final QueryApi queryApi;
+
+    /**
+     * 현재 실행 중인 쿼리 목록.
+     * Key: org + 정규화된 Flux 쿼리, Value: 쿼리 결과 Future
+     */
+    private final Map<String, CompletableFuture<List<FluxTable>>> inFlight = new ConcurrentHashMap<>();
+
+    /** 회사별 동시 실행 수 제한 / 공정 대기열. */
+    private final QueryFairScheduler scheduler;
+
+    /** 실제로 InfluxDB 에 전송된 쿼리 수. */
+    private final AtomicLong executedCount = new AtomicLong();
+
+    /** in-flight 쿼리에 합류하여 절약된 쿼리 수. */
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public InfluxQueryExecutor(QueryApi queryApi) {
+        this(queryApi, new QueryFairScheduler());
+    }
+
+    @Autowired
+    public InfluxQueryExecutor(QueryApi queryApi, QueryFairScheduler scheduler) {
+        this.queryApi = queryApi;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Flux 쿼리를 실행합니다. 동일 쿼리가 이미 실행 중이면 그 결과를 함께 받습니다.
+     * <p>
+     * 반환된 테이블 목록은 여러 호출자가 공유할 수 있으므로 읽기 전용으로 사용해야 합니다.
+     *
+     * @param flux Flux 쿼리 문자열
+     * @param org  InfluxDB 조직 이름
+     * @return 쿼리 결과 테이블 목록
+     */
+    public List<FluxTable> query(String flux, String org) {
+        return query(flux, org, QueryPriority.INTERACTIVE);
+    }
+
+    /**
+     * 우선순위를 지정해 Flux 쿼리를 실행합니다.
+     *
+     * @param flux     Flux 쿼리 문자열
+     * @param org      InfluxDB 조직 이름
+     * @param priority 대기열 우선순위 (리포트, 장기간 집계는 BATCH)
+     * @return 쿼리 결과 테이블 목록
+     * @throws QueryRejectedException 실행 자리를 기다리다 시간이 초과된 경우
+     */
+    public List<FluxTable> query(String flux, String org, QueryPriority priority) {
+        String key = org + "|" + priority + "|" + normalize(flux);
+
+        CompletableFuture<List<FluxTable>> newFuture = new CompletableFuture<>();
+        CompletableFuture<List<FluxTable>> existing = inFlight.putIfAbsent(key, newFuture);
+
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            log.debug("동일 쿼리 실행 중 - 결과 공유 대기 (절약된 쿼리 누적: {})", coalescedCount.get());
+            return await(existing);
+        }
+
+        String tenant = tenantOf(flux);
+        try {
+            scheduler.acquire(tenant, priority);
+            try {
+                executedCount.incrementAndGet();
+                List<FluxTable> tables = queryApi.query(flux, org);
+                newFuture.complete(tables);
+                return tables;
+            } finally {
+                scheduler.release(tenant);
+            }
+        } catch (Throwable t) {
+            // Error(OOM 등)도 완료 처리해야 합류한 호출자가 join() 에서 영원히 기다리지 않음
+            newFuture.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, newFuture);
+        }
+    }
+
+    /**
+     * single-flight 통계 정보를 반환합니다. (모니터링용)
+     *
+     * @return 실행/절약된 쿼리 수 및 현재 in-flight 쿼리 수
+     */
+    public Map<String, Object> getStats() {
+        long executed = executedCount.get();
+        long coalesced = coalescedCount.get();
+        long total = executed + coalesced;
+
+        return Map.of(
+                "executedQueries", executed,
+                "coalescedQueries", coalesced,
+                "inFlightQueries", inFlight.size(),
+                "savedRatio", total == 0 ? 0.0 : Math.round(coalesced * 10000.0 / total) / 100.0
+        );
+    }
+
+    /**
+     * 회사별 동시 실행 / 대기열 통계를 반환합니다. (모니터링용)
+     */
+    public Map<String, Object> getTenantStats() {
+        return scheduler.getStats();
+    }
+
+    /**
+     * Flux 의 companyDomain 필터 값으로 tenant 를 구합니다.
+     * 필터가 없거나 여러 회사를 함께 조회하면 {@link QueryFairScheduler#SHARED_TENANT} 입니다.
+     */
+    static String tenantOf(String flux) {
+        Matcher matcher = COMPANY_DOMAIN_FILTER.matcher(flux);
+        String tenant = null;
+        while (matcher.find()) {
+            if (tenant != null && !tenant.equals(matcher.group(1))) {
+                return QueryFairScheduler.SHARED_TENANT;
+            }
+            tenant = matcher.group(1);
+        }
+        return tenant != null ? tenant : QueryFairScheduler.SHARED_TENANT;
+    }
+
+    /**
+     * 공백 차이만 있는 쿼리를 같은 쿼리로 취급하기 위해 연속 공백을 하나로 줄입니다.
+     * 문자열 리터럴("...") 안의 공백은 값의 일부이므로 그대로 둡니다.
+     */
+    static String normalize(String flux) {
+        StringBuilder normalized = new StringBuilder(flux.length());
+        boolean inString = false;
+        boolean pendingSpace = false;
+        for (int i = 0; i < flux.length(); i++) {
+            char c = flux.charAt(i);
+            if (inString) {
+                normalized.append(c);
+                if (c == '\\' && i + 1 < flux.length()) {
+                    normalized.append(flux.charAt(++i));
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            if (c == '"') {
+                inString = true;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+
+    private List<FluxTable> await(CompletableFuture<List<FluxTable>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
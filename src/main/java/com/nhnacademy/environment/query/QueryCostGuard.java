@@ -0,0 +1,242 @@
+package com.nhnacademy.environment.query;
+
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.util.AggregationWindowPlanner;
+import com.nhnacademy.environment.util.InfluxUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿼리 비용(결과 점 개수) 사전 추정 및 제한 컴포넌트입니다.
+ * <p>
+ * - 결과 점 개수를 시계열 수(influxdb.cardinality) × 구간 ÷ 수집 주기로 추정합니다.<br>
+ * - 추정치가 max-points 를 넘으면 mode 에 따라 거절(REJECT), 시계열별 최근 N개로 자르기(CAP),
+ * 또는 집계 쿼리로 전환(DOWNSAMPLE) 하는 실행 계획을 반환합니다.<br>
+ * - 시계열 수는 쿼리와 같은 상대 구간(range(start: -Nm))으로 세고, 필터 조건 / 구간별로 짧게 캐시합니다.
+ * 조회에 실패한 시계열 수는 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class QueryCostGuard {
+
+    /**
+     * 예산 초과 시 처리 방식
+     */
+    public enum Mode {
+        REJECT, CAP, DOWNSAMPLE
+    }
+
+    /**
+     * 실행 계획 종류
+     */
+    public enum Action {
+        /** 요청 그대로 실행 */
+        RAW,
+        /** aggregateWindow 로 집계해서 실행 */
+        AGGREGATE,
+        /** 시계열별 최근 perSeriesLimit 개만 반환 */
+        CAP,
+        /** 실행하지 않음 */
+        REJECT
+    }
+
+    /**
+     * 쿼리 실행 계획
+     *
+     * @param action          실행 계획 종류
+     * @param seriesCount     추정 시계열 수
+     * @param estimatedPoints 요청 그대로 실행했을 때의 추정 점 개수
+     * @param aggregateEvery  AGGREGATE 일 때 aggregateWindow every 값
+     * @param perSeriesLimit  CAP 일 때 시계열별 최대 점 개수
+     */
+    public record QueryPlan(Action action, long seriesCount, long estimatedPoints,
+                            String aggregateEvery, int perSeriesLimit) {
+
+        public static QueryPlan unguarded() {
+            return new QueryPlan(Action.RAW, -1, -1, null, 0);
+        }
+
+        /**
+         * 요청보다 적은 데이터를 반환하는 계획인지 여부
+         */
+        public boolean truncated() {
+            return action != Action.RAW;
+        }
+
+        /**
+         * 응답 메타데이터 (헤더 / 리포트 결과용)
+         */
+        public Map<String, Object> toMetadata() {
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("action", action.name());
+            metadata.put("truncated", truncated());
+            metadata.put("seriesCount", seriesCount);
+            metadata.put("estimatedPoints", estimatedPoints);
+            if (aggregateEvery != null) {
+                metadata.put("aggregateWindow", aggregateEvery);
+            }
+            if (perSeriesLimit > 0) {
+                metadata.put("perSeriesLimit", perSeriesLimit);
+            }
+            return metadata;
+        }
+    }
+
+    private final InfluxQueryExecutor queryExecutor;
+    private final String bucket;
+    private final String influxOrg;
+
+    @Value("${query.guard.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${query.guard.mode:DOWNSAMPLE}")
+    private Mode mode = Mode.DOWNSAMPLE;
+
+    @Value("${query.guard.max-points:50000}")
+    private long maxPoints = 50000;
+
+    @Value("${query.guard.sample-interval-seconds:10}")
+    private long sampleIntervalSeconds = 10;
+
+    @Value("${query.guard.min-range-minutes:180}")
+    private long minRangeMinutes = 180;
+
+    @Value("${query.guard.cardinality-ttl-seconds:60}")
+    private long cardinalityTtlSeconds = 60;
+
+    /**
+     * Key: 정렬된 필터 조건 + cardinality 구간 (분)
+     */
+    private final Map<String, CachedCardinality> cardinalityCache = new ConcurrentHashMap<>();
+
+    private final AtomicLong downsampled = new AtomicLong();
+    private final AtomicLong capped = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong cardinalityFailures = new AtomicLong();
+
+    public QueryCostGuard(InfluxQueryExecutor queryExecutor,
+                          @Qualifier("influxBucket") String bucket,
+                          @Qualifier("influxOrganization") String influxOrg) {
+        this.queryExecutor = queryExecutor;
+        this.bucket = bucket;
+        this.influxOrg = influxOrg;
+    }
+
+    private record CachedCardinality(long seriesCount, Instant expiresAt) {
+    }
+
+    /**
+     * 설정된 mode 로 실행 계획을 세웁니다.
+     *
+     * @param filters            태그 필터 조건 (_measurement, _field 포함 가능)
+     * @param range              조회 구간
+     * @param requestedMaxPoints 요청한 응답 최대 점 개수 (0 이하이면 원본)
+     * @return 실행 계획
+     */
+    public QueryPlan plan(Map<String, String> filters, Duration range, int requestedMaxPoints) {
+        return plan(filters, range, requestedMaxPoints, mode);
+    }
+
+    /**
+     * 지정한 mode 로 실행 계획을 세웁니다. (리포트처럼 거절하면 안 되는 내부 호출용)
+     * 현재 시각 기준 상대 구간(range(start: -Nm)) 쿼리용입니다.
+     */
+    public QueryPlan plan(Map<String, String> filters, Duration range, int requestedMaxPoints, Mode overflowMode) {
+        if (!enabled || range.toMinutes() <= minRangeMinutes) {
+            return QueryPlan.unguarded();
+        }
+
+        long seriesCount = Math.max(1, estimateSeries(filters, range));
+        long pointsPerSeries = Math.max(1, range.toSeconds() / Math.max(1, sampleIntervalSeconds));
+        if (requestedMaxPoints > 0) {
+            pointsPerSeries = Math.min(pointsPerSeries, requestedMaxPoints);
+        }
+        long estimatedPoints = seriesCount * pointsPerSeries;
+        if (estimatedPoints <= maxPoints) {
+            return new QueryPlan(Action.RAW, seriesCount, estimatedPoints, null, 0);
+        }
+
+        int perSeriesBudget = (int) Math.max(1, maxPoints / seriesCount);
+        log.info("쿼리 비용 초과 - filters: {}, 구간: {}, 시계열: {}, 추정 점: {} (한도 {}), mode: {}",
+                filters, range, seriesCount, estimatedPoints, maxPoints, overflowMode);
+
+        return switch (overflowMode) {
+            case REJECT -> {
+                rejected.incrementAndGet();
+                yield new QueryPlan(Action.REJECT, seriesCount, estimatedPoints, null, 0);
+            }
+            case CAP -> {
+                capped.incrementAndGet();
+                yield new QueryPlan(Action.CAP, seriesCount, estimatedPoints, null, perSeriesBudget);
+            }
+            case DOWNSAMPLE -> {
+                downsampled.incrementAndGet();
+                yield new QueryPlan(Action.AGGREGATE, seriesCount, estimatedPoints,
+                        AggregationWindowPlanner.every(range, perSeriesBudget), 0);
+            }
+        };
+    }
+
+    /**
+     * 쿼리 비용 제한 통계 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("mode", mode.name());
+        stats.put("maxPoints", maxPoints);
+        stats.put("downsampled", downsampled.get());
+        stats.put("capped", capped.get());
+        stats.put("rejected", rejected.get());
+        stats.put("cardinalityCacheEntries", cardinalityCache.size());
+        stats.put("cardinalityFailures", cardinalityFailures.get());
+        return stats;
+    }
+
+    /**
+     * 필터 조건에 맞는 최근 range 구간의 시계열 수를 influxdb.cardinality 로 조회합니다.
+     * 실패하면 이번 요청만 1 로 간주하고 캐시하지 않습니다. (다음 요청에서 다시 조회)
+     */
+    private long estimateSeries(Map<String, String> filters, Duration range) {
+        String key = new TreeMap<>(filters) + "|" + range.toMinutes();
+        CachedCardinality cached = cardinalityCache.get(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached.seriesCount();
+        }
+
+        String flux = String.format("import \"influxdata/influxdb\" " +
+                        "influxdb.cardinality(bucket: \"%s\", start: -%dm, predicate: (r) => %s)",
+                bucket, range.toMinutes(), InfluxUtil.toPredicate(filters));
+
+        long seriesCount = 1;
+        try {
+            for (FluxTable table : queryExecutor.query(flux, influxOrg)) {
+                for (FluxRecord record : table.getRecords()) {
+                    if (record.getValue() instanceof Number count) {
+                        seriesCount = Math.max(seriesCount, count.longValue());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("시계열 수(cardinality) 조회 실패 - filters: {}, {}", filters, e.getMessage());
+            cardinalityFailures.incrementAndGet();
+            return seriesCount;
+        }
+
+        if (cardinalityCache.size() > 10_000) {
+            cardinalityCache.clear();
+        }
+        cardinalityCache.put(key, new CachedCardinality(seriesCount, Instant.now().plusSeconds(cardinalityTtlSeconds)));
+        return seriesCount;
+    }
+}
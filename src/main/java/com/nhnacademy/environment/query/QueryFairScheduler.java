@@ -0,0 +1,255 @@
+package com.nhnacademy.environment.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * InfluxDB 쿼리 동시 실행 수를 제한하는 공정 스케줄러입니다.
+ * <p>
+ * - 전체 동시 실행 수와 회사(companyDomain)별 동시 실행 수를 함께 제한합니다.<br>
+ * - 실행 자리가 없으면 우선순위별 대기열에 들어가며, 같은 우선순위 안에서는 회사별로 돌아가며 실행합니다.<br>
+ * - {@link QueryPriority#INTERACTIVE} 를 interactive-weight 번 실행할 때마다
+ * 대기 중인 {@link QueryPriority#BATCH} 를 한 번 실행합니다. (가중 공정 큐)<br>
+ * - 대기 시간이 queue-timeout-ms 를 넘으면 {@link QueryRejectedException} 을 던집니다.
+ */
+@Slf4j
+@Component
+public class QueryFairScheduler {
+
+    /** 회사 도메인을 알 수 없는 쿼리(전체 대상 집계 등)의 tenant 이름. */
+    public static final String SHARED_TENANT = "_shared";
+
+    @Value("${influx.gateway.max-concurrent:16}")
+    private int maxConcurrent = 16;
+
+    @Value("${influx.gateway.max-per-tenant:4}")
+    private int maxPerTenant = 4;
+
+    @Value("${influx.gateway.interactive-weight:4}")
+    private int interactiveWeight = 4;
+
+    @Value("${influx.gateway.queue-timeout-ms:30000}")
+    private long queueTimeoutMs = 30000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 우선순위 → (tenant → 대기 목록). tenant 순서가 round-robin 순서입니다.
+     */
+    private final Map<QueryPriority, LinkedHashMap<String, Deque<Waiter>>> queues = new EnumMap<>(QueryPriority.class);
+
+    /** tenant 별 통계 (실행 중 수 포함). */
+    private final Map<String, TenantStats> tenants = new HashMap<>();
+
+    private int running;
+
+    /** 연속으로 실행한 INTERACTIVE 쿼리 수. */
+    private int interactiveStreak;
+
+    public QueryFairScheduler() {
+        for (QueryPriority priority : QueryPriority.values()) {
+            queues.put(priority, new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * 실행 자리를 기다리는 쿼리
+     */
+    private final class Waiter {
+        private final String tenant;
+        private final long enqueuedAt = System.nanoTime();
+        private final Condition granted = lock.newCondition();
+        private boolean admitted;
+
+        private Waiter(String tenant) {
+            this.tenant = tenant;
+        }
+    }
+
+    /**
+     * tenant 별 실행 / 대기 통계
+     */
+    private static final class TenantStats {
+        private int running;
+        private int queued;
+        private long executed;
+        private long rejected;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+    }
+
+    /**
+     * 실행 자리를 얻을 때까지 기다립니다. 반드시 {@link #release(String)} 와 짝을 맞춰 호출해야 합니다.
+     *
+     * @param tenant   회사 도메인
+     * @param priority 쿼리 우선순위
+     * @throws QueryRejectedException 대기 시간 초과 또는 인터럽트
+     */
+    public void acquire(String tenant, QueryPriority priority) {
+        lock.lock();
+        try {
+            Waiter waiter = new Waiter(tenant);
+            queues.get(priority).computeIfAbsent(tenant, key -> new ArrayDeque<>()).addLast(waiter);
+            stats(tenant).queued++;
+            dispatch();
+
+            long remaining = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+            while (!waiter.admitted) {
+                if (remaining <= 0) {
+                    abandon(waiter, priority);
+                    throw new QueryRejectedException("InfluxDB 쿼리 대기 시간 초과 - tenant: " + tenant);
+                }
+                try {
+                    remaining = waiter.granted.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    if (!waiter.admitted) {
+                        abandon(waiter, priority);
+                    } else {
+                        release(tenant);
+                    }
+                    Thread.currentThread().interrupt();
+                    throw new QueryRejectedException("InfluxDB 쿼리 대기 중 인터럽트 - tenant: " + tenant);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 실행 자리를 반환하고 다음 대기 쿼리를 실행시킵니다.
+     *
+     * @param tenant 회사 도메인
+     */
+    public void release(String tenant) {
+        lock.lock();
+        try {
+            running--;
+            stats(tenant).running--;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * tenant 별 대기열 길이, 실행 중 수, 대기 시간 통계를 반환합니다. (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        lock.lock();
+        try {
+            Map<String, Object> tenantStats = new HashMap<>();
+            tenants.forEach((tenant, stats) -> {
+                Map<String, Object> entry = new HashMap<>();
+                entry.put("running", stats.running);
+                entry.put("queueDepth", stats.queued);
+                entry.put("executed", stats.executed);
+                entry.put("rejected", stats.rejected);
+                entry.put("avgWaitMs", stats.executed == 0 ? 0.0
+                        : Math.round(stats.totalWaitNanos / 10_000.0 / stats.executed) / 100.0);
+                entry.put("maxWaitMs", TimeUnit.NANOSECONDS.toMillis(stats.maxWaitNanos));
+                tenantStats.put(tenant, entry);
+            });
+
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("running", running);
+            stats.put("maxConcurrent", maxConcurrent);
+            stats.put("maxPerTenant", maxPerTenant);
+            stats.put("tenants", tenantStats);
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 남은 실행 자리만큼 대기 쿼리를 고릅니다. (lock 보유 상태에서 호출)
+     */
+    private void dispatch() {
+        while (running < maxConcurrent) {
+            Waiter next = pollNext();
+            if (next == null) {
+                return;
+            }
+            TenantStats stats = stats(next.tenant);
+            long waited = System.nanoTime() - next.enqueuedAt;
+            stats.queued--;
+            stats.running++;
+            stats.executed++;
+            stats.totalWaitNanos += waited;
+            stats.maxWaitNanos = Math.max(stats.maxWaitNanos, waited);
+            running++;
+            next.admitted = true;
+            next.granted.signal();
+        }
+    }
+
+    /**
+     * 가중치에 따라 우선순위를 고르고, 그 안에서 실행 가능한 첫 tenant 의 쿼리를 꺼냅니다.
+     */
+    private Waiter pollNext() {
+        boolean preferBatch = interactiveStreak >= interactiveWeight;
+        QueryPriority first = preferBatch ? QueryPriority.BATCH : QueryPriority.INTERACTIVE;
+        QueryPriority second = preferBatch ? QueryPriority.INTERACTIVE : QueryPriority.BATCH;
+
+        Waiter next = pollFrom(first);
+        QueryPriority chosen = first;
+        if (next == null) {
+            next = pollFrom(second);
+            chosen = second;
+        }
+        if (next != null) {
+            interactiveStreak = chosen == QueryPriority.INTERACTIVE ? interactiveStreak + 1 : 0;
+        }
+        return next;
+    }
+
+    private Waiter pollFrom(QueryPriority priority) {
+        LinkedHashMap<String, Deque<Waiter>> byTenant = queues.get(priority);
+        Iterator<Map.Entry<String, Deque<Waiter>>> iterator = byTenant.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Deque<Waiter>> entry = iterator.next();
+            if (stats(entry.getKey()).running >= maxPerTenant) {
+                continue;
+            }
+            Waiter waiter = entry.getValue().pollFirst();
+            iterator.remove();
+            if (!entry.getValue().isEmpty()) {
+                // 남은 대기 쿼리가 있으면 맨 뒤로 보내 다른 tenant 에게 순서를 넘깁니다.
+                byTenant.put(entry.getKey(), entry.getValue());
+            }
+            return waiter;
+        }
+        return null;
+    }
+
+    private void abandon(Waiter waiter, QueryPriority priority) {
+        Deque<Waiter> waiting = queues.get(priority).get(waiter.tenant);
+        if (waiting != null) {
+            waiting.remove(waiter);
+            if (waiting.isEmpty()) {
+                queues.get(priority).remove(waiter.tenant);
+            }
+        }
+        TenantStats stats = stats(waiter.tenant);
+        stats.queued--;
+        stats.rejected++;
+        log.warn("InfluxDB 쿼리 대기 포기 - tenant: {}, priority: {}", waiter.tenant, priority);
+    }
+
+    private TenantStats stats(String tenant) {
+        return tenants.computeIfAbsent(tenant, key -> new TenantStats());
+    }
+}
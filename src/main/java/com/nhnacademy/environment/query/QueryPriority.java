@@ -0,0 +1,16 @@
+package com.nhnacademy.environment.query;
+
+/**
+ * InfluxDB 쿼리 우선순위입니다.
+ * <p>
+ * 대기열에서 {@link #INTERACTIVE} 쿼리가 먼저 실행되며,
+ * {@link #BATCH} 쿼리도 일정 비율로 실행되어 굶지 않도록 합니다.
+ */
+public enum QueryPriority {
+
+    /** 사용자 화면 조회 (최신값, 실시간, 차트 등). */
+    INTERACTIVE,
+
+    /** 리포트, 예측, 장기간 통계 집계 등 오래 걸리는 쿼리. */
+    BATCH
+}
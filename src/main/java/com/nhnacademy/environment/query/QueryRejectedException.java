@@ -0,0 +1,11 @@
+package com.nhnacademy.environment.query;
+
+/**
+ * InfluxDB 쿼리가 실행 자리를 얻지 못해 거절되었을 때 발생하는 예외입니다.
+ */
+public class QueryRejectedException extends RuntimeException {
+
+    public QueryRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.nhnacademy.environment.query;
+
+import lombok.Getter;
+
+/**
+ * 추정 결과 크기가 쿼리 비용 한도를 넘어 실행하지 않은 경우 발생하는 예외입니다.
+ */
+@Getter
+public class QueryTooLargeException extends RuntimeException {
+
+    private final QueryCostGuard.QueryPlan plan;
+
+    public QueryTooLargeException(QueryCostGuard.QueryPlan plan) {
+        super(String.format("조회 결과가 너무 큽니다. (추정 %d점, 시계열 %d개) range 를 줄이거나 maxPoints 를 지정해주세요.",
+                plan.estimatedPoints(), plan.seriesCount()));
+        this.plan = plan;
+    }
+}
@@ -1,48 +1,59 @@
 package com.nhnacademy.environment.report.client;
 
 import com.google.genai.Client;
+import com.google.genai.ResponseStream;
 import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.HttpOptions;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Component
 @Slf4j
 public class GeminiClient {
 
+    private static final String DEFAULT_MODEL = "gemini-2.0-flash-001";
+
+    /** 리포트 요약 생성 실패 시 반환하는 문구 */
+    public static final String SUMMARY_UNAVAILABLE_MESSAGE = "AI 분석을 수행할 수 없습니다. 시스템 관리자에게 문의하세요.";
+
     private final Client client;
 
-    public GeminiClient() {
-        this.client = new Client();
+    /** 요약에 사용할 모델 이름 */
+    private final String model;
+
+    /**
+     * 모델 / API 주소를 설정으로 지정합니다.
+     * base-url 을 지정하면 로컬 스텁 모델 서버로도 호출할 수 있습니다. (미지정 시 SDK 기본 주소)
+     *
+     * @param model   모델 이름
+     * @param baseUrl Gemini API 기본 주소
+     * @param apiKey  API 키 (미지정 시 기존처럼 GOOGLE_API_KEY 환경 변수)
+     */
+    public GeminiClient(@Value("${gemini.model:" + DEFAULT_MODEL + "}") String model,
+                        @Value("${gemini.base-url:}") String baseUrl,
+                        @Value("${gemini.api-key:}") String apiKey) {
+        Client.Builder builder = Client.builder();
+        if (baseUrl != null && !baseUrl.isBlank()) {
+            builder.httpOptions(HttpOptions.builder().baseUrl(baseUrl).build());
+        }
+        if (apiKey != null && !apiKey.isBlank()) {
+            builder.apiKey(apiKey);
+        }
+        this.client = builder.build();
+        this.model = model;
     }
 
     public String generateSummary(Map<String, Object> preparedData, String userPrompt) {
         try {
-            // preparedData에서 요약 정보 추출
-            String summary = (String) preparedData.get("summary");
-            String gatewayId = (String) preparedData.get("gatewayId");
-            String measurement = (String) preparedData.get("measurement");
-            Integer totalDataCount = (Integer) preparedData.get("totalDataCount");
-
-            // AI에게 전달할 프롬프트 구성
-            StringBuilder aiPrompt = new StringBuilder();
-            aiPrompt.append("다음 시스템 모니터링 데이터를 분석하여 한국어로 상세한 리포트를 작성해주세요.\n\n");
-            aiPrompt.append("**사용자 요청:** ").append(userPrompt).append("\n\n");
-
-            if (summary != null) {
-                aiPrompt.append("**분석 데이터:**\n").append(summary).append("\n\n");
-            }
-
-            aiPrompt.append("**요청사항:**\n");
-            aiPrompt.append("1. 데이터 트렌드와 패턴 분석\n");
-            aiPrompt.append("2. 현재 상태에 대한 평가\n");
-            aiPrompt.append("3. 주의사항이나 권장사항 제시\n");
-            aiPrompt.append("4. 마크다운 형식으로 구조화된 리포트 작성\n");
+            String aiPrompt = buildReportPrompt(preparedData, userPrompt);
 
             log.info("Gemini API 호출 시작 - 프롬프트 길이: {} 자", aiPrompt.length());
 
-            GenerateContentResponse response = client.models.generateContent("gemini-2.0-flash-001", aiPrompt.toString(), null);
+            GenerateContentResponse response = client.models.generateContent(model, aiPrompt, null);
             String result = response.text();
 
             log.info("Gemini API 응답 완료 - 응답 길이: {} 자", result.length());
@@ -50,7 +61,7 @@ public class GeminiClient {
 
         } catch (Exception e) {
             log.error("Gemini API 호출 실패", e);
-            return "AI 분석을 수행할 수 없습니다. 시스템 관리자에게 문의하세요.";
+            return SUMMARY_UNAVAILABLE_MESSAGE;
         }
     }
 
@@ -58,11 +69,64 @@ public class GeminiClient {
     public String generateSummary(String prompt) {
         try {
             log.info("Gemini API 단순 호출 - 프롬프트: {}", prompt);
-            GenerateContentResponse response = client.models.generateContent("gemini-2.0-flash-001", prompt, null);
+            GenerateContentResponse response = client.models.generateContent(model, prompt, null);
             return response.text();
         } catch (Exception e) {
             log.error("Gemini API 단순 호출 실패", e);
             return "AI 분석을 수행할 수 없습니다.";
         }
     }
+
+    /**
+     * 리포트 요약을 스트리밍으로 생성합니다. 모델이 보내는 조각(markdown 일부)마다 onChunk 를 호출합니다.
+     * <p>
+     * generateSummary 와 달리 실패 시 대체 문구를 반환하지 않고 예외를 던집니다.
+     * (일부 조각이 이미 전달된 뒤일 수 있으므로 호출자가 처리)
+     *
+     * @param preparedData 리포트 데이터
+     * @param userPrompt   사용자 프롬프트
+     * @param onChunk      조각 수신 콜백 (예외를 던지면 생성을 중단)
+     * @return 전체 요약 텍스트
+     */
+    public String streamSummary(Map<String, Object> preparedData, String userPrompt, Consumer<String> onChunk) {
+        String aiPrompt = buildReportPrompt(preparedData, userPrompt);
+        log.info("Gemini API 스트리밍 호출 시작 - 프롬프트 길이: {} 자", aiPrompt.length());
+
+        StringBuilder result = new StringBuilder();
+        try (ResponseStream<GenerateContentResponse> stream = client.models.generateContentStream(model, aiPrompt, null)) {
+            for (GenerateContentResponse response : stream) {
+                String text = response.text();
+                if (text == null || text.isEmpty()) {
+                    continue;
+                }
+                result.append(text);
+                onChunk.accept(text);
+            }
+        }
+
+        log.info("Gemini API 스트리밍 응답 완료 - 응답 길이: {} 자", result.length());
+        return result.toString();
+    }
+
+    /**
+     * preparedData 의 요약 정보로 AI 에게 전달할 프롬프트를 구성합니다.
+     */
+    private String buildReportPrompt(Map<String, Object> preparedData, String userPrompt) {
+        String summary = (String) preparedData.get("summary");
+
+        StringBuilder aiPrompt = new StringBuilder();
+        aiPrompt.append("다음 시스템 모니터링 데이터를 분석하여 한국어로 상세한 리포트를 작성해주세요.\n\n");
+        aiPrompt.append("**사용자 요청:** ").append(userPrompt).append("\n\n");
+
+        if (summary != null) {
+            aiPrompt.append("**분석 데이터:**\n").append(summary).append("\n\n");
+        }
+
+        aiPrompt.append("**요청사항:**\n");
+        aiPrompt.append("1. 데이터 트렌드와 패턴 분석\n");
+        aiPrompt.append("2. 현재 상태에 대한 평가\n");
+        aiPrompt.append("3. 주의사항이나 권장사항 제시\n");
+        aiPrompt.append("4. 마크다운 형식으로 구조화된 리포트 작성\n");
+        return aiPrompt.toString();
+    }
 }
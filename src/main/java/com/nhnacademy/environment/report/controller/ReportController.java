@@ -2,13 +2,24 @@ package com.nhnacademy.environment.report.controller;
 
 import com.nhnacademy.environment.report.dto.ReportRequest;
 import com.nhnacademy.environment.report.dto.ReportResponse;
+import com.nhnacademy.environment.report.service.ReportJobService;
 import com.nhnacademy.environment.report.service.ReportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,10 +27,77 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportJobService reportJobService;
 
     @PostMapping("/generate")
     public ResponseEntity<ReportResponse> generateReport(@RequestBody ReportRequest reportRequest) {
         ReportResponse reportResponse = reportService.generateReport(reportRequest);
         return ResponseEntity.ok(reportResponse);
     }
+
+    /**
+     * 리포트를 스트리밍 모드로 생성합니다. (SSE: charts → summary 조각 반복 → complete / error)
+     * 차트는 데이터 준비 직후, AI 요약은 모델이 생성하는 대로 전달합니다.
+     * 작업자 / 대기열이 가득 차면 429 + Retry-After 를 반환합니다.
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamReport(@RequestBody ReportRequest reportRequest) {
+        return reportJobService.stream(reportRequest)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(reportJobService.getRetryAfterSeconds()))
+                        .build());
+    }
+
+    /**
+     * 리포트 작업을 등록하고 작업 ID 를 바로 반환합니다. (202 Accepted)
+     * 대기열이 가득 차면 429 + Retry-After 를 반환합니다.
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<Map<String, Object>> submitReportJob(@RequestBody ReportRequest reportRequest) {
+        Optional<ReportJobService.ReportJob> job = reportJobService.submit(reportRequest);
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(reportJobService.getRetryAfterSeconds()))
+                    .body(Map.of("error", "리포트 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        String jobId = job.get().getId();
+        Map<String, Object> body = job.get().toMap();
+        body.put("statusUrl", "/environment/reports/jobs/" + jobId);
+        body.put("eventsUrl", "/environment/reports/jobs/" + jobId + "/events");
+        return ResponseEntity.accepted()
+                .header(HttpHeaders.LOCATION, "/environment/reports/jobs/" + jobId)
+                .body(body);
+    }
+
+    /**
+     * 리포트 작업 상태 / 결과 조회 (polling)
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getReportJob(@PathVariable String jobId) {
+        return reportJobService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.toMap()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 리포트 작업 상태 / 결과 구독 (SSE: status, result 이벤트)
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeReportJob(@PathVariable String jobId) {
+        return reportJobService.subscribe(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 리포트 작업 취소
+     */
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> cancelReportJob(@PathVariable String jobId) {
+        return reportJobService.cancel(jobId)
+                .map(job -> ResponseEntity.ok(job.toMap()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
@@ -3,16 +3,22 @@ package com.nhnacademy.environment.report.service;
 import com.nhnacademy.environment.timeseries.dto.ChartDataDto;
 import com.nhnacademy.environment.timeseries.dto.TimeSeriesDataDto;
 import com.nhnacademy.environment.timeseries.service.TimeSeriesDataService;
+import com.nhnacademy.environment.util.AggregationWindowPlanner;
+import com.nhnacademy.environment.util.KeywordMatcher;
+import com.nhnacademy.environment.util.RunningStatistics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -21,8 +27,24 @@ public class AiReportDataService {
 
     private final TimeSeriesDataService timeSeriesDataService;
 
+    /**
+     * 리포트 캐시 유효 시간. 조회 구간 끝을 이 간격보다 크게 내림하지 않아 잘려 나가는 최신 데이터를 제한합니다.
+     */
+    @Value("${report.cache.ttl-minutes:30}")
+    private long cacheTtlMinutes = 30;
+
     private static final DateTimeFormatter DEFAULT_CHART_X_AXIS_FORMATTER = DateTimeFormatter.ofPattern("MM-dd HH:mm");
 
+    // 리포트 차트 목표 점 개수 (서비스 메트릭 / 리소스 메트릭)
+    private static final int SERVICE_REPORT_TARGET_POINTS = 48;
+    private static final int RESOURCE_REPORT_TARGET_POINTS = 24;
+
+    // 리포트 조회 시각 기준 시간대 (TimeSeriesDataService 기간 조회와 동일)
+    private static final ZoneId REPORT_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 리포트 결과에 포함할 원본 데이터 샘플 개수
+    private static final int RAW_DATA_SAMPLE_SIZE = 5;
+
     // ★★★ 기간 추출을 위한 패턴 ★★★
     private static final Pattern TIME_PATTERN = Pattern.compile("(\\d+)\\s*(시간|일|주|개월|month|hour|day|week)");
 
@@ -134,6 +156,26 @@ public class AiReportDataService {
         MEASUREMENT_KEYWORDS = Collections.unmodifiableMap(map);
     }
 
+    // 우선순위 규칙(게이트웨이 / measurement 판별)에서 사용하는 키워드
+    private static final List<String> PROMPT_RULE_KEYWORDS = List.of(
+            "자바", "java", "jvm", "서비스", "인증", "auth", "환경", "environment", "env",
+            "프론트", "frontend", "front", "ui", "게이트웨이", "gateway", "gw", "회원", "member", "user",
+            "힙", "heap", "올드젠", "oldgen", "가비지", "gc", "스레드", "thread", "파일", "file",
+            "cpu", "씨피유", "프로세서", "온도", "temperature", "센서", "전력", "power", "파워",
+            "디스크", "disk", "하드", "네트워크", "network", "네트", "메모리", "memory", "램",
+            "서버", "시스템", "system", "성능", "리소스", "자원",
+            "전체", "종합", "전반적", "모든", "전부", "리포트", "분석", "상태",
+            "idle", "유휴", "사용자", "available", "사용가능", "used", "사용중");
+
+    // ★★★ 프롬프트 키워드 매처 (Aho-Corasick, 클래스 로딩 시 한 번 컴파일) ★★★
+    private static final KeywordMatcher PROMPT_KEYWORDS;
+    static {
+        Set<String> keywords = new LinkedHashSet<>(PROMPT_RULE_KEYWORDS);
+        keywords.addAll(KEYWORD_TO_GATEWAY.keySet());
+        keywords.addAll(MEASUREMENT_KEYWORDS.keySet());
+        PROMPT_KEYWORDS = KeywordMatcher.of(keywords);
+    }
+
     private static final Map<String, String> GATEWAY_TO_LOCATION;
     static {
         Map<String, String> map = new HashMap<>();
@@ -162,24 +204,25 @@ public class AiReportDataService {
         log.info("리포트 데이터 준비 시작 - 사용자 프롬프트: '{}'", userPrompt);
 
         try {
+            // ★★★ 프롬프트를 한 번만 훑어서 모든 키워드 적중을 구함 ★★★
+            KeywordMatcher.Hits hits = PROMPT_KEYWORDS.scan(userPrompt.toLowerCase());
+
             // ★★★ JVM 메모리 관련 특별 처리 ★★★
-            String lowerPrompt = userPrompt.toLowerCase();
-            if ((lowerPrompt.contains("자바") || lowerPrompt.contains("서비스") || lowerPrompt.contains("jvm")) &&
-                    (lowerPrompt.contains("메모리") || lowerPrompt.contains("memory")) &&
-                    !lowerPrompt.contains("인증") && !lowerPrompt.contains("환경") &&
-                    !lowerPrompt.contains("프론트") && !lowerPrompt.contains("게이트웨이") && !lowerPrompt.contains("회원")) {
+            if (hits.any("자바", "서비스", "jvm") &&
+                    hits.any("메모리", "memory") &&
+                    !hits.any("인증", "환경", "프론트", "게이트웨이", "회원")) {
 
                 return handleJvmMemoryRequest(userPrompt);
             }
 
             // 기존 로직 계속...
-            String gatewayId = extractGatewayFromPrompt(userPrompt);
+            String gatewayId = extractGatewayFromPrompt(userPrompt, hits);
 
             if (gatewayId == null) {
                 return handleGeneralRequest(userPrompt);
             }
 
-            return handleSpecificSystemRequest(userPrompt, gatewayId);
+            return handleSpecificSystemRequest(userPrompt, gatewayId, hits);
 
         } catch (Exception e) {
             log.error("리포트 데이터 준비 중 예외 발생", e);
@@ -238,7 +281,7 @@ public class AiReportDataService {
     /**
      * ★★★ 구체적인 시스템 요청 처리 (기존 로직 + 기간 추출 개선) ★★★
      */
-    private Map<String, Object> handleSpecificSystemRequest(String userPrompt, String gatewayId) {
+    private Map<String, Object> handleSpecificSystemRequest(String userPrompt, String gatewayId, KeywordMatcher.Hits hits) {
         // gatewayId에 해당하는 location 결정
         String location = GATEWAY_TO_LOCATION.get(gatewayId);
         if (location == null) {
@@ -246,7 +289,7 @@ public class AiReportDataService {
         }
 
         // 프롬프트에서 measurement 추출
-        String measurement = extractMeasurementFromPrompt(userPrompt, gatewayId);
+        String measurement = extractMeasurementFromPrompt(hits, gatewayId);
         if (measurement == null) {
             measurement = GATEWAY_TO_MEASUREMENTS.get(gatewayId).get(0);
             log.info("measurement를 특정할 수 없어 기본값 사용: {}", measurement);
@@ -254,25 +297,33 @@ public class AiReportDataService {
 
         // ★★★ 프롬프트에서 기간 추출 (개선된 로직) ★★★
         LocalDateTime[] timeRange = extractTimeRangeFromPrompt(userPrompt);
-        LocalDateTime startTime = timeRange[0];
-        LocalDateTime endTime = timeRange[1];
+
+        // ★★★ 조회 구간 끝을 경계에 맞춤 (같은 경계 안의 같은 요청은 같은 데이터 / 리포트 캐시 키) ★★★
+        // 경계는 집계 간격과 캐시 유효 시간 중 작은 쪽 - 긴 기간이라도 잘려 나가는 최신 데이터는 캐시 유효 시간 이하
+        Duration aggregationWindow = planAggregationWindow(timeRange[0], timeRange[1], isServiceMetric(gatewayId));
+        String aggregationInterval = AggregationWindowPlanner.toFlux(aggregationWindow);
+        Duration cacheTtl = Duration.ofMinutes(Math.max(1, cacheTtlMinutes));
+        LocalDateTime endTime = alignToWindow(timeRange[1],
+                aggregationWindow.compareTo(cacheTtl) < 0 ? aggregationWindow : cacheTtl);
+        LocalDateTime startTime = endTime.minus(Duration.between(timeRange[0], timeRange[1]));
 
         // TimeSeriesDataService 호출
         Map<String, String> filters = new HashMap<>();
         filters.put("gatewayId", gatewayId);
         filters.put("location", location);
 
-        List<TimeSeriesDataDto> rawData = timeSeriesDataService.getRawTimeSeriesData(
+        // ★★★ 원본 점을 모두 가져오지 않고 InfluxDB 에서 요약 통계 + 샘플 5건만 조회 ★★★
+        RunningStatistics statistics = timeSeriesDataService.getSummaryStatistics(
                 "server_data",
                 measurement,
                 filters,
                 startTime,
                 endTime
         );
+        List<TimeSeriesDataDto> rawDataSample = timeSeriesDataService.getSampleTimeSeriesData(
+                "server_data", measurement, filters, startTime, endTime, RAW_DATA_SAMPLE_SIZE);
 
         // 차트 데이터 조회 (기간에 따라 집계 간격 동적 조정)
-        String aggregationInterval = determineAggregationInterval(startTime, endTime, isServiceMetric(gatewayId));
-
         ChartDataDto chartData = timeSeriesDataService.getAggregatedChartDataForPeriod(
                 measurement,
                 "value",
@@ -291,20 +342,22 @@ public class AiReportDataService {
         result.put("measurement", measurement);
         result.put("startTime", startTime);
         result.put("endTime", endTime);
-        result.put("totalDataCount", rawData.size());
-        result.put("rawDataSample", rawData.stream().limit(5).collect(Collectors.toList()));
+        result.put("totalDataCount", (int) Math.min(Integer.MAX_VALUE, statistics.getCount()));
+        result.put("rawDataSample", rawDataSample);
         result.put("chartData", chartData);
+        result.put("reportCacheKey",
+                ReportCacheService.key(gatewayId, measurement, startTime, endTime, statistics));
 
         // AI에게 전달할 요약 정보 (개선된 통계)
-        if (!rawData.isEmpty()) {
-            result.put("summary", generateEnhancedSummary(rawData, measurement, gatewayId, startTime, endTime));
+        if (statistics.getCount() > 0) {
+            result.put("summary", generateEnhancedSummary(statistics, measurement, gatewayId, startTime, endTime));
         } else {
             result.put("summary", String.format("요청하신 기간(%s ~ %s) 동안 %s 데이터가 조회되지 않았습니다.",
                     startTime.toLocalDate(), endTime.toLocalDate(), getDescriptionForMeasurement(measurement)));
         }
 
         log.info("구체적 시스템 요청 처리 완료 - gatewayId: {}, measurement: {}, 기간: {} ~ {}, 데이터 건수: {}",
-                gatewayId, measurement, startTime.toLocalDate(), endTime.toLocalDate(), rawData.size());
+                gatewayId, measurement, startTime.toLocalDate(), endTime.toLocalDate(), statistics.getCount());
         return result;
     }
 
@@ -359,41 +412,38 @@ public class AiReportDataService {
     }
 
     /**
-     * ★★★ 새로운 메소드: 기간에 따른 집계 간격 동적 결정 ★★★
+     * ★★★ 기간에 따른 집계 간격 동적 결정 (AggregationWindowPlanner 공용 규칙) ★★★
+     * 서비스 메트릭은 약 48개, 그 외는 약 24개의 점이 되도록 간격을 정합니다.
      */
-    private String determineAggregationInterval(LocalDateTime startTime, LocalDateTime endTime, boolean isServiceMetric) {
-        long hours = java.time.Duration.between(startTime, endTime).toHours();
-
-        if (hours <= 6) {
-            return isServiceMetric ? "10m" : "15m";
-        } else if (hours <= 24) {
-            return isServiceMetric ? "30m" : "1h";
-        } else if (hours <= 168) { // 1주일
-            return "6h";
-        } else {
-            return "1d";
-        }
+    private Duration planAggregationWindow(LocalDateTime startTime, LocalDateTime endTime, boolean isServiceMetric) {
+        Duration range = Duration.between(startTime, endTime);
+        return AggregationWindowPlanner.plan(range,
+                isServiceMetric ? SERVICE_REPORT_TARGET_POINTS : RESOURCE_REPORT_TARGET_POINTS);
+    }
+
+    /**
+     * 시각을 간격 경계로 내림합니다. (aggregateWindow 와 같은 epoch 기준)
+     */
+    private LocalDateTime alignToWindow(LocalDateTime time, Duration window) {
+        long epochSeconds = time.atZone(REPORT_ZONE).toEpochSecond();
+        long aligned = epochSeconds - Math.floorMod(epochSeconds, window.getSeconds());
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(aligned), REPORT_ZONE);
     }
 
     /**
      * ★★★ 새로운 메소드: 향상된 요약 정보 생성 ★★★
      */
-    private String generateEnhancedSummary(List<TimeSeriesDataDto> rawData, String measurement,
+    private String generateEnhancedSummary(RunningStatistics statistics, String measurement,
                                            String gatewayId, LocalDateTime startTime, LocalDateTime endTime) {
-        double avgValue = rawData.stream().mapToDouble(TimeSeriesDataDto::getValue).average().orElse(0.0);
-        double maxValue = rawData.stream().mapToDouble(TimeSeriesDataDto::getValue).max().orElse(0.0);
-        double minValue = rawData.stream().mapToDouble(TimeSeriesDataDto::getValue).min().orElse(0.0);
-
-        // 표준편차 계산
-        double variance = rawData.stream()
-                .mapToDouble(dto -> Math.pow(dto.getValue() - avgValue, 2))
-                .average().orElse(0.0);
-        double stdDev = Math.sqrt(variance);
+        double avgValue = statistics.getMean();
+        double maxValue = statistics.getMax();
+        double minValue = statistics.getMin();
+        double stdDev = statistics.getStdDev();
 
         String unit = getUnitForMeasurement(measurement);
         String description = getDescriptionForMeasurement(measurement);
         String serviceInfo = isServiceMetric(gatewayId) ? " (" + getServiceName(gatewayId) + ")" : "";
-        long hours = java.time.Duration.between(startTime, endTime).toHours();
+        long hours = Duration.between(startTime, endTime).toHours();
 
         return String.format(
                 "📊 **%s%s 분석 결과** (최근 %d시간)\n\n" +
@@ -407,7 +457,7 @@ public class AiReportDataService {
                         "**분석 기간:** %s ~ %s\n" +
                         "**측정 항목:** %s",
                 description, serviceInfo, hours,
-                rawData.size(),
+                statistics.getCount(),
                 avgValue, unit,
                 maxValue, unit,
                 minValue, unit,
@@ -433,34 +483,28 @@ public class AiReportDataService {
     /**
      * ★★★ 개선된 키워드 추출 로직 (우선순위 및 컨텍스트 고려) ★★★
      */
-    private String extractGatewayFromPrompt(String prompt) {
-        String lowerPrompt = prompt.toLowerCase();
-
+    private String extractGatewayFromPrompt(String prompt, KeywordMatcher.Hits hits) {
         // ★★★ 1단계: JVM 서비스 관련 키워드 우선 검사 (가장 구체적) ★★★
-        if (lowerPrompt.contains("자바") || lowerPrompt.contains("java") || lowerPrompt.contains("jvm") ||
+        if (hits.any("자바", "java", "jvm") ||
                 // ★★★ 서비스명이 명시된 경우도 JVM 관련으로 우선 처리 ★★★
-                lowerPrompt.contains("인증") || lowerPrompt.contains("환경") || lowerPrompt.contains("프론트") ||
-                lowerPrompt.contains("게이트웨이") || lowerPrompt.contains("회원") || lowerPrompt.contains("서비스")) {
+                hits.any("인증", "환경", "프론트", "게이트웨이", "회원", "서비스")) {
 
             // 구체적인 서비스가 명시된 경우
-            if (lowerPrompt.contains("인증") || lowerPrompt.contains("auth")) {
+            if (hits.any("인증", "auth")) {
                 return "javame-auth";
-            } else if (lowerPrompt.contains("환경") || lowerPrompt.contains("environment") || lowerPrompt.contains("env")) {
+            } else if (hits.any("환경", "environment", "env")) {
                 return "javame-environment-api";
-            } else if (lowerPrompt.contains("프론트") || lowerPrompt.contains("frontend") || lowerPrompt.contains("front") || lowerPrompt.contains("ui")) {
+            } else if (hits.any("프론트", "frontend", "front", "ui")) {
                 return "javame-frontend";
-            } else if (lowerPrompt.contains("게이트웨이") || lowerPrompt.contains("gateway") || lowerPrompt.contains("gw")) {
+            } else if (hits.any("게이트웨이", "gateway", "gw")) {
                 return "javame-gateway";
-            } else if (lowerPrompt.contains("회원") || lowerPrompt.contains("member") || lowerPrompt.contains("user")) {
+            } else if (hits.any("회원", "member", "user")) {
                 return "javame-member";
             }
 
             // ★★★ JVM 관련이지만 특정 서비스가 명시되지 않은 경우만 일반 요청 처리 ★★★
-            if ((lowerPrompt.contains("자바") || lowerPrompt.contains("java") || lowerPrompt.contains("jvm")) &&
-                    (lowerPrompt.contains("힙") || lowerPrompt.contains("heap") ||
-                            lowerPrompt.contains("올드젠") || lowerPrompt.contains("oldgen") ||
-                            lowerPrompt.contains("가비지") || lowerPrompt.contains("gc") ||
-                            lowerPrompt.contains("스레드") || lowerPrompt.contains("thread"))) {
+            if (hits.any("자바", "java", "jvm") &&
+                    hits.any("힙", "heap", "올드젠", "oldgen", "가비지", "gc", "스레드", "thread")) {
 
                 log.debug("JVM 메트릭 관련 키워드 발견했지만 특정 서비스 미지정: {}", prompt);
                 return "javame-environment-api"; // 기본 서비스로 매핑하거나
@@ -470,47 +514,45 @@ public class AiReportDataService {
 
         // ★★★ 2단계: 서버 리소스 키워드 검사 ★★★
         // CPU 관련 (높은 우선순위)
-        if (lowerPrompt.contains("cpu") || lowerPrompt.contains("씨피유") || lowerPrompt.contains("프로세서")) {
+        if (hits.any("cpu", "씨피유", "프로세서")) {
             return "cpu";
         }
 
         // 온도 관련 (높은 우선순위 - 구체적)
-        if (lowerPrompt.contains("온도") || lowerPrompt.contains("temperature") || lowerPrompt.contains("센서")) {
+        if (hits.any("온도", "temperature", "센서")) {
             return "sensors";
         }
 
         // 전력 관련 (높은 우선순위 - 구체적)
-        if (lowerPrompt.contains("전력") || lowerPrompt.contains("power") || lowerPrompt.contains("파워")) {
+        if (hits.any("전력", "power", "파워")) {
             return "modbus";
         }
 
         // 디스크 관련
-        if (lowerPrompt.contains("디스크") || lowerPrompt.contains("disk") || lowerPrompt.contains("하드")) {
+        if (hits.any("디스크", "disk", "하드")) {
             return "disk";
         }
 
         // 네트워크 관련
-        if (lowerPrompt.contains("네트워크") || lowerPrompt.contains("network") || lowerPrompt.contains("네트")) {
+        if (hits.any("네트워크", "network", "네트")) {
             return "net";
         }
 
         // ★★★ 메모리 관련 (시스템 메모리만 처리) ★★★
-        if (lowerPrompt.contains("메모리") || lowerPrompt.contains("memory") || lowerPrompt.contains("램")) {
+        if (hits.any("메모리", "memory", "램")) {
             // ★★★ JVM 메모리 키워드가 함께 있어도 이미 위에서 처리되었으므로 여기는 시스템 메모리 ★★★
             return "mem";
         }
 
         // ★★★ 3단계: 확장된 패턴 매칭 ★★★
-        if (lowerPrompt.contains("서버") || lowerPrompt.contains("시스템")) {
-            if (lowerPrompt.contains("성능") || lowerPrompt.contains("리소스") || lowerPrompt.contains("자원")) {
+        if (hits.any("서버", "시스템")) {
+            if (hits.any("성능", "리소스", "자원")) {
                 return "cpu"; // 기본적으로 CPU 분석
             }
         }
 
         // ★★★ 4단계: 일반적인 요청 패턴 ★★★
-        if (lowerPrompt.contains("전체") || lowerPrompt.contains("종합") || lowerPrompt.contains("전반적") ||
-                lowerPrompt.contains("모든") || lowerPrompt.contains("전부") || lowerPrompt.contains("리포트") ||
-                lowerPrompt.contains("분석") || lowerPrompt.contains("상태")) {
+        if (hits.any("전체", "종합", "전반적", "모든", "전부", "리포트", "분석", "상태")) {
             log.debug("일반적인 요청 패턴 감지: {}", prompt);
             return null; // 일반 요청으로 처리
         }
@@ -521,50 +563,46 @@ public class AiReportDataService {
 
 
     // 기존 헬퍼 메소드들은 그대로 유지...
-    private String extractMeasurementFromPrompt(String prompt, String gatewayId) {
-        // 기존 로직과 동일
-        String lowerPrompt = prompt.toLowerCase();
-
-        for (Map.Entry<String, String> entry : MEASUREMENT_KEYWORDS.entrySet()) {
-            if (lowerPrompt.contains(entry.getKey())) {
-                String candidateMeasurement = entry.getValue();
-                if (GATEWAY_TO_MEASUREMENTS.get(gatewayId).contains(candidateMeasurement)) {
-                    log.debug("프롬프트에서 measurement 키워드 '{}' 발견 -> measurement: {}",
-                            entry.getKey(), candidateMeasurement);
-                    return candidateMeasurement;
-                }
+    private String extractMeasurementFromPrompt(KeywordMatcher.Hits hits, String gatewayId) {
+        // ★★★ 적중한 키워드 중 긴(구체적인) 키워드부터 확인 (예: "힙메모리" > "메모리") ★★★
+        for (KeywordMatcher.Match match : hits.ranked()) {
+            String candidateMeasurement = MEASUREMENT_KEYWORDS.get(match.keyword());
+            if (candidateMeasurement != null && GATEWAY_TO_MEASUREMENTS.get(gatewayId).contains(candidateMeasurement)) {
+                log.debug("프롬프트에서 measurement 키워드 '{}' 발견 -> measurement: {}",
+                        match.keyword(), candidateMeasurement);
+                return candidateMeasurement;
             }
         }
 
         // gatewayId별 특별 규칙 (기존과 동일)
         if ("cpu".equals(gatewayId)) {
-            if (lowerPrompt.contains("idle") || lowerPrompt.contains("유휴")) {
+            if (hits.any("idle", "유휴")) {
                 return "usage_idle";
-            } else if (lowerPrompt.contains("system") || lowerPrompt.contains("시스템")) {
+            } else if (hits.any("system", "시스템")) {
                 return "usage_system";
-            } else if (lowerPrompt.contains("user") || lowerPrompt.contains("사용자")) {
+            } else if (hits.any("user", "사용자")) {
                 return "usage_user";
             }
             return "usage_idle";
         } else if ("mem".equals(gatewayId)) {
-            if (lowerPrompt.contains("available") || lowerPrompt.contains("사용가능")) {
+            if (hits.any("available", "사용가능")) {
                 return "available_percent";
-            } else if (lowerPrompt.contains("used") || lowerPrompt.contains("사용중")) {
+            } else if (hits.any("used", "사용중")) {
                 return "used_percent";
             }
             return "available_percent";
         } else if (isServiceMetric(gatewayId)) {
-            if (lowerPrompt.contains("heap") || lowerPrompt.contains("힙")) {
+            if (hits.any("heap", "힙")) {
                 return "memory_total_heap_used_bytes";
-            } else if (lowerPrompt.contains("oldgen") || lowerPrompt.contains("올드젠")) {
+            } else if (hits.any("oldgen", "올드젠")) {
                 return "memory_old_gen_used_bytes";
-            } else if (lowerPrompt.contains("gc") || lowerPrompt.contains("가비지")) {
+            } else if (hits.any("gc", "가비지")) {
                 return "gc_g1_young_generation_count";
-            } else if (lowerPrompt.contains("thread") || lowerPrompt.contains("스레드")) {
+            } else if (hits.any("thread", "스레드")) {
                 return "thread_active_count";
-            } else if (lowerPrompt.contains("file") || lowerPrompt.contains("파일")) {
+            } else if (hits.any("file", "파일")) {
                 return "process_open_file_descriptors_count";
-            } else if (lowerPrompt.contains("cpu") || lowerPrompt.contains("씨피유")) {
+            } else if (hits.any("cpu", "씨피유")) {
                 return "cpu_utilization_percent";
             }
             return "cpu_utilization_percent";
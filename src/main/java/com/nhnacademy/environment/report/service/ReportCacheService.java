@@ -0,0 +1,132 @@
+package com.nhnacademy.environment.report.service;
+
+import com.nhnacademy.environment.report.dto.ReportResponse;
+import com.nhnacademy.environment.util.RunningStatistics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 리포트 결과 캐시 서비스
+ * <p>
+ * - 프롬프트 문장이 아니라 해석된 의도(gatewayId, measurement, 집계 간격 / 유효 시간 경계에 맞춘 조회 구간)와
+ * 요약 통계 값으로 키를 만듭니다. ("CPU 지난 주" 를 여러 사용자가 물어도 같은 키)<br>
+ * - 통계 값이 키에 포함되므로 늦게 들어온 데이터로 통계가 바뀌면 자동으로 새 리포트를 생성합니다.<br>
+ * - 유효 시간(ttl-minutes) 안의 같은 요청은 저장된 ReportResponse 를 반환하여 Gemini 호출을 생략합니다.
+ */
+@Slf4j
+@Service
+public class ReportCacheService {
+
+    /**
+     * Key: 의도 + 통계 SHA-256
+     */
+    private final Map<String, CachedReport> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    @Value("${report.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${report.cache.ttl-minutes:30}")
+    private long ttlMinutes = 30;
+
+    @Value("${report.cache.max-entries:500}")
+    private int maxEntries = 500;
+
+    private record CachedReport(ReportResponse response, Instant expiresAt) {
+    }
+
+    /**
+     * 리포트 캐시 키를 만듭니다.
+     *
+     * @param gatewayId   시스템(게이트웨이) ID
+     * @param measurement 측정 항목
+     * @param startTime   경계에 맞춘 조회 시작 시각
+     * @param endTime     경계에 맞춘 조회 종료 시각
+     * @param statistics  조회 구간의 요약 통계
+     * @return 캐시 키 (SHA-256 hex)
+     */
+    public static String key(String gatewayId, String measurement, LocalDateTime startTime, LocalDateTime endTime,
+                             RunningStatistics statistics) {
+        String intent = String.format(Locale.ROOT, "%s|%s|%s|%s|%d|%.6f|%.6f|%.6f|%.6f",
+                gatewayId, measurement, startTime, endTime,
+                statistics.getCount(), statistics.getMean(), statistics.getStdDev(),
+                statistics.getMin(), statistics.getMax());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(intent.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 유효한 캐시 리포트를 반환합니다.
+     *
+     * @param key 캐시 키 (null 이면 캐시 대상 아님)
+     */
+    public Optional<ReportResponse> get(String key) {
+        if (!enabled || key == null) {
+            return Optional.empty();
+        }
+        CachedReport cached = cache.get(key);
+        if (cached == null || cached.expiresAt().isBefore(Instant.now())) {
+            if (cached != null) {
+                cache.remove(key, cached);
+            }
+            missCount.incrementAndGet();
+            return Optional.empty();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(cached.response());
+    }
+
+    /**
+     * 생성한 리포트를 저장합니다.
+     */
+    public void put(String key, ReportResponse response) {
+        if (!enabled || key == null) {
+            return;
+        }
+        if (cache.size() >= maxEntries) {
+            Instant now = Instant.now();
+            cache.values().removeIf(cached -> cached.expiresAt().isBefore(now));
+            if (cache.size() >= maxEntries) {
+                log.info("리포트 캐시 최대 항목 수 초과 - 전체 비움 ({} 건)", cache.size());
+                cache.clear();
+            }
+        }
+        cache.put(key, new CachedReport(response, Instant.now().plusSeconds(ttlMinutes * 60)));
+    }
+
+    /**
+     * 캐시 통계 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        long hits = hitCount.get();
+        long misses = missCount.get();
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("entries", cache.size());
+        stats.put("ttlMinutes", ttlMinutes);
+        return stats;
+    }
+}
@@ -0,0 +1,417 @@
+package com.nhnacademy.environment.report.service;
+
+import com.nhnacademy.environment.report.dto.ReportRequest;
+import com.nhnacademy.environment.report.dto.ReportResponse;
+import com.nhnacademy.environment.timeseries.dto.ChartDataDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * AI 리포트 비동기 작업 서비스입니다.
+ * <p>
+ * - 요청 스레드는 작업 ID 만 받고 바로 반환되며, 리포트 생성은 reportTaskExecutor(작업자 수 / 대기열 제한)에서 실행합니다.<br>
+ * - 결과는 작업 ID 로 조회(polling)하거나 SSE 로 구독합니다.<br>
+ * - 대기 / 실행 중인 작업은 취소할 수 있고, 끝난 작업은 retention-minutes 이후 정리합니다.<br>
+ * - 스트리밍 모드는 작업을 보관하지 않고 차트(charts)와 AI 요약 조각(summary)을 생성되는 대로 SSE 로 전달합니다.
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+    /**
+     * 작업 상태
+     */
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    /**
+     * 리포트 작업 하나의 상태와 결과입니다.
+     */
+    public static final class ReportJob {
+
+        private final String id;
+        private final String userPrompt;
+        private final Instant createdAt = Instant.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        private volatile Status status = Status.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile ReportResponse result;
+        private volatile String error;
+        private volatile Future<?> future;
+
+        private ReportJob(String id, String userPrompt) {
+            this.id = id;
+            this.userPrompt = userPrompt;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public ReportResponse getResult() {
+            return result;
+        }
+
+        /**
+         * 응답용 작업 정보 (결과는 완료된 경우에만 포함)
+         */
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("jobId", id);
+            map.put("status", status.name());
+            map.put("userPrompt", userPrompt);
+            map.put("createdAt", createdAt.toString());
+            if (startedAt != null) {
+                map.put("startedAt", startedAt.toString());
+            }
+            if (finishedAt != null) {
+                map.put("finishedAt", finishedAt.toString());
+            }
+            if (result != null) {
+                map.put("result", result);
+            }
+            if (error != null) {
+                map.put("error", error);
+            }
+            return map;
+        }
+    }
+
+    private final ReportService reportService;
+    private final AsyncTaskExecutor reportTaskExecutor;
+
+    @Value("${report.job.retention-minutes:30}")
+    private long retentionMinutes = 30;
+
+    @Value("${report.job.retry-after-seconds:5}")
+    private long retryAfterSeconds = 5;
+
+    @Value("${report.job.sse-timeout-ms:180000}")
+    private long sseTimeoutMs = 180000;
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Map<Status, AtomicLong> finishedCounts = new EnumMap<>(Status.class);
+
+    private final AtomicLong streamsCompleted = new AtomicLong();
+    private final AtomicLong streamsFailed = new AtomicLong();
+    private final AtomicLong streamsCancelled = new AtomicLong();
+    /** 첫 요약 조각까지 걸린 시간 (스트리밍 리포트) */
+    private final AtomicLong firstChunkCount = new AtomicLong();
+    private final AtomicLong firstChunkTotalMs = new AtomicLong();
+    private final AtomicLong firstChunkMaxMs = new AtomicLong();
+
+    public ReportJobService(ReportService reportService,
+                            @Qualifier("reportTaskExecutor") AsyncTaskExecutor reportTaskExecutor) {
+        this.reportService = reportService;
+        this.reportTaskExecutor = reportTaskExecutor;
+        for (Status status : Status.values()) {
+            finishedCounts.put(status, new AtomicLong());
+        }
+    }
+
+    /**
+     * 리포트 작업을 등록합니다.
+     *
+     * @param request 리포트 요청
+     * @return 등록된 작업, 대기열이 가득 차면 빈 값
+     */
+    public Optional<ReportJob> submit(ReportRequest request) {
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), request.getUserPrompt());
+        jobs.put(job.id, job);
+        try {
+            job.future = reportTaskExecutor.submit(() -> run(job, request));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            rejected.incrementAndGet();
+            log.warn("리포트 작업 거절 - 대기열 초과, 프롬프트: '{}'", request.getUserPrompt());
+            return Optional.empty();
+        }
+        submitted.incrementAndGet();
+        log.info("리포트 작업 등록 - jobId: {}", job.id);
+        return Optional.of(job);
+    }
+
+    /**
+     * 작업을 조회합니다.
+     */
+    public Optional<ReportJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     * 작업을 취소합니다. 이미 끝난 작업은 그대로 둡니다.
+     *
+     * @return 작업이 없으면 빈 값
+     */
+    public Optional<ReportJob> cancel(String jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (finish(job, Status.CANCELLED, null, "사용자 요청으로 취소되었습니다.")) {
+            Future<?> future = job.future;
+            if (future != null) {
+                // 대기 중이면 실행되지 않고, 실행 중이면 작업 스레드를 인터럽트
+                future.cancel(true);
+            }
+            log.info("리포트 작업 취소 - jobId: {}", jobId);
+        }
+        return Optional.of(job);
+    }
+
+    /**
+     * 작업 상태를 SSE 로 구독합니다.
+     * 상태가 바뀔 때마다 "status" 이벤트를, 끝나면 "result" 이벤트를 보내고 연결을 종료합니다.
+     */
+    public Optional<SseEmitter> subscribe(String jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+
+        synchronized (job) {
+            if (job.status.isFinished()) {
+                sendResult(emitter, job);
+            } else {
+                job.emitters.add(emitter);
+                send(emitter, "status", job.toMap());
+            }
+        }
+        return Optional.of(emitter);
+    }
+
+    /**
+     * 리포트를 스트리밍 모드로 생성합니다.
+     * "charts" 이벤트(차트 목록) → "summary" 이벤트({text}) 반복 → "complete" 이벤트(최종 리포트) 순서로 보내고,
+     * 실패하면 "error" 이벤트를 보냅니다. 클라이언트 연결이 끊기면 생성을 중단합니다.
+     *
+     * @param request 리포트 요청
+     * @return SSE 응답, 작업자 / 대기열이 가득 차면 빈 값
+     */
+    public Optional<SseEmitter> stream(ReportRequest request) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        AtomicBoolean finished = new AtomicBoolean();
+        AtomicReference<Future<?>> future = new AtomicReference<>();
+
+        Runnable stop = () -> {
+            if (finished.compareAndSet(false, true)) {
+                streamsCancelled.incrementAndGet();
+                Future<?> running = future.get();
+                if (running != null) {
+                    running.cancel(true);
+                }
+            }
+        };
+        emitter.onCompletion(stop);
+        emitter.onTimeout(stop);
+        emitter.onError(e -> stop.run());
+
+        try {
+            future.set(reportTaskExecutor.submit(() -> runStream(request, emitter, finished)));
+        } catch (TaskRejectedException e) {
+            rejected.incrementAndGet();
+            log.warn("리포트 스트리밍 거절 - 대기열 초과, 프롬프트: '{}'", request.getUserPrompt());
+            return Optional.empty();
+        }
+        return Optional.of(emitter);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * 리포트 작업 통계 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<Status, Integer> current = new EnumMap<>(Status.class);
+        jobs.values().forEach(job -> current.merge(job.status, 1, Integer::sum));
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("submitted", submitted.get());
+        stats.put("rejected", rejected.get());
+        stats.put("completed", finishedCounts.get(Status.COMPLETED).get());
+        stats.put("failed", finishedCounts.get(Status.FAILED).get());
+        stats.put("cancelled", finishedCounts.get(Status.CANCELLED).get());
+        stats.put("queued", current.getOrDefault(Status.QUEUED, 0));
+        stats.put("running", current.getOrDefault(Status.RUNNING, 0));
+        stats.put("retainedJobs", jobs.size());
+        stats.put("streamsCompleted", streamsCompleted.get());
+        stats.put("streamsFailed", streamsFailed.get());
+        stats.put("streamsCancelled", streamsCancelled.get());
+        long firstChunks = firstChunkCount.get();
+        stats.put("streamFirstChunkAvgMs", firstChunks == 0 ? 0 : firstChunkTotalMs.get() / firstChunks);
+        stats.put("streamFirstChunkMaxMs", firstChunkMaxMs.get());
+        return stats;
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${report.job.cleanup-ms:60000}",
+            initialDelayString = "${report.job.cleanup-ms:60000}")
+    public void evictFinishedJobs() {
+        Instant threshold = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+        jobs.values().removeIf(job -> job.status.isFinished()
+                && job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private void run(ReportJob job, ReportRequest request) {
+        synchronized (job) {
+            if (job.status != Status.QUEUED) {
+                return;
+            }
+            job.status = Status.RUNNING;
+            job.startedAt = Instant.now();
+            broadcast(job, "status", job.toMap());
+        }
+
+        try {
+            ReportResponse response = reportService.generateReport(request);
+            finish(job, Status.COMPLETED, response, null);
+            log.info("리포트 작업 완료 - jobId: {}, 소요: {}ms", job.id,
+                    Duration.between(job.startedAt, Instant.now()).toMillis());
+        } catch (Exception e) {
+            if (finish(job, Status.FAILED, null, e.getMessage())) {
+                log.error("리포트 작업 실패 - jobId: {}", job.id, e);
+            }
+        }
+    }
+
+    private void runStream(ReportRequest request, SseEmitter emitter, AtomicBoolean finished) {
+        long startedAt = System.currentTimeMillis();
+        AtomicBoolean firstChunk = new AtomicBoolean(true);
+        try {
+            ReportResponse response = reportService.streamReport(request, new ReportService.ReportStreamListener() {
+                @Override
+                public void onCharts(List<ChartDataDto> charts) {
+                    sendOrThrow(emitter, "charts", charts);
+                }
+
+                @Override
+                public void onSummaryChunk(String chunk) {
+                    if (firstChunk.compareAndSet(true, false)) {
+                        long elapsed = System.currentTimeMillis() - startedAt;
+                        firstChunkCount.incrementAndGet();
+                        firstChunkTotalMs.addAndGet(elapsed);
+                        firstChunkMaxMs.accumulateAndGet(elapsed, Math::max);
+                        log.info("리포트 스트리밍 첫 요약 조각 - {}ms", elapsed);
+                    }
+                    sendOrThrow(emitter, "summary", Map.of("text", chunk));
+                }
+            });
+            sendOrThrow(emitter, "complete", response);
+            if (finished.compareAndSet(false, true)) {
+                streamsCompleted.incrementAndGet();
+                emitter.complete();
+            }
+        } catch (Exception e) {
+            if (!finished.compareAndSet(false, true)) {
+                // 클라이언트가 먼저 연결을 끊었거나 시간 초과
+                log.debug("리포트 스트리밍 중단 - {}", e.getMessage());
+                return;
+            }
+            streamsFailed.incrementAndGet();
+            log.error("리포트 스트리밍 실패", e);
+            if (send(emitter, "error", Map.of("error", "리포트 생성 중 오류가 발생했습니다."))) {
+                emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * 작업을 종료 상태로 바꾸고 구독자에게 결과를 보냅니다. 이미 끝난 작업이면 false.
+     */
+    private boolean finish(ReportJob job, Status status, ReportResponse result, String error) {
+        synchronized (job) {
+            if (job.status.isFinished()) {
+                return false;
+            }
+            job.result = result;
+            job.error = error;
+            job.finishedAt = Instant.now();
+            job.status = status;
+            finishedCounts.get(status).incrementAndGet();
+
+            for (SseEmitter emitter : job.emitters) {
+                sendResult(emitter, job);
+            }
+            job.emitters.clear();
+            return true;
+        }
+    }
+
+    private void broadcast(ReportJob job, String eventName, Object data) {
+        for (SseEmitter emitter : job.emitters) {
+            if (!send(emitter, eventName, data)) {
+                job.emitters.remove(emitter);
+            }
+        }
+    }
+
+    private void sendResult(SseEmitter emitter, ReportJob job) {
+        if (send(emitter, "result", job.toMap())) {
+            emitter.complete();
+        }
+    }
+
+    private void sendOrThrow(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("리포트 작업 SSE 전송 실패 - {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
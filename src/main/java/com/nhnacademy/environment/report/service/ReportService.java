@@ -14,6 +14,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Slf4j
@@ -22,6 +23,7 @@ public class ReportService {
 
     private final AiReportDataService aiReportDataService;
     private final GeminiClient geminiClient;
+    private final ReportCacheService reportCacheService;
 
     // ReportService.java에서 GeminiClient 호출 부분 수정
     public ReportResponse generateReport(ReportRequest request) {
@@ -33,6 +35,15 @@ public class ReportService {
             Map<String, Object> preparedData = aiReportDataService.prepareSimpleReport(userPrompt);
             log.info("데이터 준비 완료 - 키: {}", preparedData.keySet());
 
+            // ★★★ 같은 의도 + 같은 통계의 리포트가 있으면 Gemini 호출 생략 ★★★
+            String cacheKey = (String) preparedData.get("reportCacheKey");
+            Optional<ReportResponse> cached = reportCacheService.get(cacheKey);
+            if (cached.isPresent()) {
+                log.info("리포트 캐시 적중 - gatewayId: {}, measurement: {}",
+                        preparedData.get("gatewayId"), preparedData.get("measurement"));
+                return cached.get();
+            }
+
             // 2. 차트 데이터 생성
             List<ChartDataDto> chartVisualizations = extractChartsFromPreparedData(preparedData);
             log.info("차트 생성 완료 - {} 개", chartVisualizations.size());
@@ -41,12 +52,16 @@ public class ReportService {
             String aiSummary = geminiClient.generateSummary(preparedData, userPrompt);
             log.info("AI 요약 생성 완료");
 
-            return ReportResponse.builder()
+            ReportResponse response = ReportResponse.builder()
                     .summaryText(aiSummary)
                     .chartVisualizations(chartVisualizations)
                     .reportOverallTitle("AI 분석 리포트")
                     .generatedAt(LocalDateTime.now())
                     .build();
+            if (!GeminiClient.SUMMARY_UNAVAILABLE_MESSAGE.equals(aiSummary)) {
+                reportCacheService.put(cacheKey, response);
+            }
+            return response;
 
         } catch (Exception e) {
             log.error("리포트 생성 실패", e);
@@ -54,6 +69,56 @@ public class ReportService {
         }
     }
 
+    /**
+     * 스트리밍 리포트 진행 상황을 받는 콜백입니다.
+     */
+    public interface ReportStreamListener {
+
+        /** 데이터 준비가 끝나 차트가 만들어졌을 때 (AI 요약보다 먼저 호출) */
+        void onCharts(List<ChartDataDto> charts);
+
+        /** AI 요약 조각(markdown 일부)을 받았을 때 */
+        void onSummaryChunk(String chunk);
+    }
+
+    /**
+     * 리포트를 생성하면서 차트와 AI 요약 조각을 listener 로 바로 전달합니다.
+     *
+     * @param request  리포트 요청
+     * @param listener 진행 콜백
+     * @return 전체 요약이 포함된 최종 리포트
+     */
+    public ReportResponse streamReport(ReportRequest request, ReportStreamListener listener) {
+        String userPrompt = request.getUserPrompt();
+        log.info("AI 리포트 스트리밍 생성 시작 - 사용자 프롬프트: '{}'", userPrompt);
+
+        Map<String, Object> preparedData = aiReportDataService.prepareSimpleReport(userPrompt);
+
+        // 캐시 적중 시 저장된 차트와 요약을 한 번에 전달
+        String cacheKey = (String) preparedData.get("reportCacheKey");
+        Optional<ReportResponse> cached = reportCacheService.get(cacheKey);
+        if (cached.isPresent()) {
+            listener.onCharts(cached.get().getChartVisualizations());
+            listener.onSummaryChunk(cached.get().getSummaryText());
+            return cached.get();
+        }
+
+        List<ChartDataDto> chartVisualizations = extractChartsFromPreparedData(preparedData);
+        listener.onCharts(chartVisualizations);
+
+        // ★★★ 요약은 모델이 생성하는 대로 조각 단위로 전달 ★★★
+        String aiSummary = geminiClient.streamSummary(preparedData, userPrompt, listener::onSummaryChunk);
+
+        ReportResponse response = ReportResponse.builder()
+                .summaryText(aiSummary)
+                .chartVisualizations(chartVisualizations)
+                .reportOverallTitle("AI 분석 리포트")
+                .generatedAt(LocalDateTime.now())
+                .build();
+        reportCacheService.put(cacheKey, response);
+        return response;
+    }
+
 
     /**
      * 기존 ChartDataDto 구조를 사용하여 차트 생성.
@@ -0,0 +1,70 @@
+package com.nhnacademy.environment.timeseries.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 다중 시계열 차트 일괄 조회(/chart/batch)의 차트 하나에 대한 조건입니다.
+ * 비어 있는 태그 항목은 필터에서 제외됩니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChartSeriesSelector {
+
+    /**
+     * 응답 Map 의 key (예: 센서 타일 id). 비어 있으면 요청 목록의 순번을 사용합니다.
+     */
+    private String key;
+
+    /**
+     * InfluxDB _measurement 값 (예: temperature)
+     */
+    private String measurement;
+
+    /**
+     * InfluxDB _field 값 (기본: value)
+     */
+    private String field = "value";
+
+    private String origin;
+
+    private String location;
+
+    private String gatewayId;
+
+    private String deviceId;
+
+    /**
+     * field 가 비어 있으면 "value" 를 반환합니다.
+     */
+    public String resolveField() {
+        return field != null && !field.isBlank() ? field : "value";
+    }
+
+    /**
+     * 회사 도메인을 포함한 태그 필터 조건으로 변환합니다. (_measurement, _field 제외)
+     *
+     * @param companyDomain 처리된 회사 도메인
+     * @return 태그 필터 조건
+     */
+    public Map<String, String> toTagFilters(String companyDomain) {
+        Map<String, String> filters = new HashMap<>();
+        filters.put("companyDomain", companyDomain);
+        putIfPresent(filters, "origin", origin);
+        putIfPresent(filters, "location", location);
+        putIfPresent(filters, "gatewayId", gatewayId);
+        putIfPresent(filters, "deviceId", deviceId);
+        return filters;
+    }
+
+    private static void putIfPresent(Map<String, String> filters, String key, String value) {
+        if (value != null && !value.isBlank()) {
+            filters.put(key, value);
+        }
+    }
+}
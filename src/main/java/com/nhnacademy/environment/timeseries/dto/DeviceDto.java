@@ -0,0 +1,38 @@
+package com.nhnacademy.environment.timeseries.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 회사별 장비 인벤토리의 단일 항목입니다.
+ * <p>
+ * server_data 의 (location, deviceId, gatewayId) 조합 하나를 나타냅니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeviceDto {
+
+    /**
+     * InfluxDB의 location 태그 (예: server_resource_data, service_resource_data, 센서 위치 등).
+     */
+    private String location;
+
+    /**
+     * 장비 ID (서버의 경우 IP 형태).
+     */
+    private String deviceId;
+
+    /**
+     * 게이트웨이 ID (예: cpu, mem, javame-auth 등).
+     */
+    private String gatewayId;
+
+    /**
+     * 조회 기간 내 마지막으로 데이터가 수집된 시각.
+     */
+    private Instant lastSeen;
+}
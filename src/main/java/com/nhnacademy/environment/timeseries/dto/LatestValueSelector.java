@@ -0,0 +1,65 @@
+package com.nhnacademy.environment.timeseries.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 최신값 일괄 조회(/current/batch)의 시계열 선택 조건입니다.
+ * 비어 있는 항목은 필터에서 제외됩니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatestValueSelector {
+
+    /**
+     * 응답 Map 의 key (예: 게이지 위젯 id). 비어 있으면 요청 목록의 순번을 사용합니다.
+     */
+    private String key;
+
+    private String origin;
+
+    private String location;
+
+    /**
+     * InfluxDB _measurement 값 (예: temperature, usage_idle)
+     */
+    private String measurement;
+
+    /**
+     * InfluxDB _field 값 (선택)
+     */
+    private String field;
+
+    private String gatewayId;
+
+    private String deviceId;
+
+    /**
+     * 회사 도메인을 포함한 Flux 필터 조건으로 변환합니다.
+     *
+     * @param companyDomain 처리된 회사 도메인
+     * @return 필터 조건 (_measurement, _field 는 시스템 컬럼 이름 사용)
+     */
+    public Map<String, String> toFilters(String companyDomain) {
+        Map<String, String> filters = new HashMap<>();
+        filters.put("companyDomain", companyDomain);
+        putIfPresent(filters, "origin", origin);
+        putIfPresent(filters, "location", location);
+        putIfPresent(filters, "_measurement", measurement);
+        putIfPresent(filters, "_field", field);
+        putIfPresent(filters, "gatewayId", gatewayId);
+        putIfPresent(filters, "deviceId", deviceId);
+        return filters;
+    }
+
+    private static void putIfPresent(Map<String, String> filters, String key, String value) {
+        if (value != null && !value.isBlank()) {
+            filters.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.nhnacademy.environment.timeseries.dto.DeviceDto;
+import com.nhnacademy.environment.util.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회사별 고유 장비 수 근사 계산 서비스 (HyperLogLog)
+ * <p>
+ * - 회사 / 장비 분류(서버, 센서, 서비스) / 일자별로 HyperLogLog 스케치를 보관합니다.<br>
+ * - 최초 조회 시 최근 30일을 하루 단위 쿼리로 나누어 백그라운드에서 채우고,
+ * 이후에는 마지막 수집 시각(watermark) 이후의 짧은 구간만 주기적으로 반영합니다.<br>
+ * - 조회 시에는 기간 내 일자별 스케치를 합쳐 추정하므로 30일 개수도 1일 개수와 같은 비용으로 계산됩니다.
+ */
+@Slf4j
+@Service
+public class DeviceCountSketchService {
+
+    private static final int PRECISION = 12;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 장비 분류
+     */
+    public enum DeviceClass {
+        SERVER, SENSOR, SERVICE
+    }
+
+    private final DeviceInventoryService deviceInventoryService;
+    private final Executor statsTaskExecutor;
+
+    /**
+     * 회사별 스케치
+     * Key: 처리된 companyDomain
+     */
+    private final Map<String, TenantSketches> tenants = new ConcurrentHashMap<>();
+
+    @Value("${stats.sketch.window-days:30}")
+    private int windowDays = 30;
+
+    @Value("${stats.sketch.idle-minutes:1440}")
+    private long idleMinutes = 1440;
+
+    public DeviceCountSketchService(DeviceInventoryService deviceInventoryService,
+                                    @Qualifier("statsTaskExecutor") Executor statsTaskExecutor) {
+        this.deviceInventoryService = deviceInventoryService;
+        this.statsTaskExecutor = statsTaskExecutor;
+    }
+
+    /**
+     * 한 회사의 일자별 스케치와 수집 상태
+     */
+    private static final class TenantSketches {
+        private final TreeMap<LocalDate, EnumMap<DeviceClass, HyperLogLog>> days = new TreeMap<>();
+        private final AtomicBoolean bootstrapping = new AtomicBoolean();
+        private Instant watermark;
+        private volatile boolean ready;
+        private volatile Instant lastReadAt = Instant.now();
+    }
+
+    /**
+     * 최근 windowDays 일 동안의 고유 장비 수 추정치를 반환합니다.
+     * 스케치가 아직 준비되지 않았으면 백그라운드 수집을 시작하고 빈 값을 반환합니다. (호출자는 정확 계산으로 대체)
+     *
+     * @param processedDomain .com 이 제거된 회사 도메인
+     * @param deviceClass     장비 분류
+     * @return 추정치, 스케치가 준비되지 않았으면 empty
+     */
+    public OptionalLong estimate(String processedDomain, DeviceClass deviceClass) {
+        TenantSketches sketches = tenants.computeIfAbsent(processedDomain, key -> new TenantSketches());
+        sketches.lastReadAt = Instant.now();
+
+        if (!sketches.ready) {
+            startBootstrap(processedDomain, sketches);
+            if (!sketches.ready) {
+                return OptionalLong.empty();
+            }
+        }
+
+        LocalDate firstDay = LocalDate.now(ZONE).minusDays(windowDays - 1L);
+        HyperLogLog merged = new HyperLogLog(PRECISION);
+        synchronized (sketches) {
+            for (EnumMap<DeviceClass, HyperLogLog> day : sketches.days.tailMap(firstDay, true).values()) {
+                HyperLogLog sketch = day.get(deviceClass);
+                if (sketch != null) {
+                    merged.merge(sketch);
+                }
+            }
+        }
+        return OptionalLong.of(merged.estimate());
+    }
+
+    /**
+     * 스케치가 준비되었는지 여부
+     */
+    public boolean isReady(String processedDomain) {
+        TenantSketches sketches = tenants.get(processedDomain);
+        return sketches != null && sketches.ready;
+    }
+
+    /**
+     * 준비된 회사의 스케치에 watermark 이후 수집된 데이터를 반영하고, 기간이 지난 일자와 장시간 미조회 회사를 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${stats.sketch.ingest-ms:300000}",
+            initialDelayString = "${stats.sketch.ingest-ms:300000}")
+    public void ingestRecent() {
+        Instant idleLimit = Instant.now().minus(Duration.ofMinutes(idleMinutes));
+        tenants.entrySet().removeIf(entry -> {
+            if (entry.getValue().lastReadAt.isBefore(idleLimit)) {
+                log.info("장비 수 스케치 제거 (장시간 미조회) - companyDomain: {}", entry.getKey());
+                return true;
+            }
+            return false;
+        });
+
+        tenants.forEach((processedDomain, sketches) -> {
+            if (!sketches.ready) {
+                return;
+            }
+            try {
+                ingest(processedDomain, sketches, sketches.watermark, Instant.now());
+            } catch (Exception e) {
+                log.warn("장비 수 스케치 갱신 실패 - companyDomain: {}, {}", processedDomain, e.getMessage());
+            }
+        });
+    }
+
+    private void startBootstrap(String processedDomain, TenantSketches sketches) {
+        if (!sketches.bootstrapping.compareAndSet(false, true)) {
+            return;
+        }
+
+        statsTaskExecutor.execute(() -> {
+            try {
+                Instant now = Instant.now();
+                Instant start = LocalDate.now(ZONE).minusDays(windowDays - 1L).atStartOfDay(ZONE).toInstant();
+                ingest(processedDomain, sketches, start, now);
+                sketches.ready = true;
+                log.info("장비 수 스케치 초기화 완료 - companyDomain: {}, 일자 수: {}", processedDomain, sketches.days.size());
+
+            } catch (Exception e) {
+                log.error("장비 수 스케치 초기화 실패 - companyDomain: {}", processedDomain, e);
+            } finally {
+                sketches.bootstrapping.set(false);
+            }
+        });
+    }
+
+    /**
+     * [start, stop) 구간을 일자 경계로 나누어 조회하고 해당 일자의 스케치에 반영합니다.
+     * 모든 구간이 성공한 경우에만 watermark 를 stop 으로 옮깁니다.
+     */
+    private void ingest(String processedDomain, TenantSketches sketches, Instant start, Instant stop) {
+        Instant cursor = start;
+        while (cursor.isBefore(stop)) {
+            LocalDate day = LocalDate.ofInstant(cursor, ZONE);
+            Instant dayEnd = day.plusDays(1).atStartOfDay(ZONE).toInstant();
+            Instant chunkEnd = dayEnd.isBefore(stop) ? dayEnd : stop;
+
+            List<DeviceDto> devices = deviceInventoryService.queryDevices(processedDomain, cursor, chunkEnd);
+            synchronized (sketches) {
+                EnumMap<DeviceClass, HyperLogLog> daySketches =
+                        sketches.days.computeIfAbsent(day, key -> newDaySketches());
+                for (DeviceDto device : devices) {
+                    if (DeviceInventoryService.isServer(device)) {
+                        daySketches.get(DeviceClass.SERVER).add(device.getDeviceId());
+                    } else if (DeviceInventoryService.isSensor(device)) {
+                        daySketches.get(DeviceClass.SENSOR).add(device.getDeviceId());
+                    } else if (DeviceInventoryService.isService(device)) {
+                        daySketches.get(DeviceClass.SERVICE).add(device.getGatewayId());
+                    }
+                }
+            }
+            cursor = chunkEnd;
+        }
+
+        synchronized (sketches) {
+            sketches.watermark = stop;
+            sketches.days.headMap(LocalDate.now(ZONE).minusDays(windowDays - 1L)).clear();
+        }
+    }
+
+    private static EnumMap<DeviceClass, HyperLogLog> newDaySketches() {
+        EnumMap<DeviceClass, HyperLogLog> daySketches = new EnumMap<>(DeviceClass.class);
+        for (DeviceClass deviceClass : DeviceClass.values()) {
+            daySketches.put(deviceClass, new HyperLogLog(PRECISION));
+        }
+        return daySketches;
+    }
+}
@@ -0,0 +1,167 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.query.QueryPriority;
+import com.nhnacademy.environment.timeseries.dto.DeviceDto;
+import com.nhnacademy.environment.util.InfluxUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회사별 장비 인벤토리 서비스
+ * server_data 의 고유 (location, deviceId, gatewayId) 조합을 한 번의 쿼리로 조회하여 메모리에 보관합니다.
+ * 서버/센서/서비스 개수와 장비 목록은 모두 이 인벤토리에서 계산됩니다.
+ */
+@Slf4j
+@Service
+public class DeviceInventoryService {
+
+    public static final String SERVER_LOCATION = "server_resource_data";
+    public static final String SERVICE_LOCATION = "service_resource_data";
+
+    private final InfluxQueryExecutor queryExecutor;
+    private final String bucket;
+    private final String influxOrg;
+
+    /**
+     * 회사별 인벤토리 캐시
+     * Key: 처리된 companyDomain, Value: 인벤토리 + 조회 시각
+     */
+    private final Map<String, Inventory> inventories = new ConcurrentHashMap<>();
+
+    @Value("${stats.inventory.ttl-seconds:300}")
+    private long inventoryTtlSeconds = 300;
+
+    public DeviceInventoryService(InfluxQueryExecutor queryExecutor,
+                                  @Qualifier("influxBucket") String bucket,
+                                  @Qualifier("influxOrganization") String influxOrg) {
+        this.queryExecutor = queryExecutor;
+        this.bucket = bucket;
+        this.influxOrg = influxOrg;
+    }
+
+    /**
+     * 인벤토리 (장비 목록 + 조회 시각)
+     */
+    private record Inventory(List<DeviceDto> devices, Instant loadedAt) {
+    }
+
+    /**
+     * 회사의 최근 30일 장비 인벤토리를 반환합니다.
+     * 캐시가 유효하면 메모리에서 반환하고, 만료되었으면 InfluxDB 에서 다시 조회합니다.
+     * 조회에 실패하면 만료된 캐시라도 반환하고, 캐시가 없으면 예외를 던집니다. (빈 회사와 조회 실패를 구분)
+     *
+     * @param processedDomain .com 이 제거된 회사 도메인
+     * @return 고유 (location, deviceId, gatewayId) 목록 (읽기 전용)
+     * @throws IllegalStateException 조회에 실패했고 대신 반환할 캐시도 없는 경우
+     */
+    public List<DeviceDto> getInventory(String processedDomain) {
+        Inventory cached = inventories.get(processedDomain);
+        if (cached != null && cached.loadedAt().plusSeconds(inventoryTtlSeconds).isAfter(Instant.now())) {
+            return cached.devices();
+        }
+
+        try {
+            List<DeviceDto> devices = Collections.unmodifiableList(loadInventory(processedDomain));
+            inventories.put(processedDomain, new Inventory(devices, Instant.now()));
+            return devices;
+
+        } catch (Exception e) {
+            if (cached == null) {
+                throw new IllegalStateException("장비 인벤토리 조회 실패 - companyDomain: " + processedDomain, e);
+            }
+            log.error("장비 인벤토리 조회 실패, 이전 인벤토리 사용 - companyDomain: {}", processedDomain, e);
+            return cached.devices();
+        }
+    }
+
+    /**
+     * 인벤토리 마지막 조회 후 경과 시간을 반환합니다. (인벤토리가 없으면 null)
+     */
+    public Duration getInventoryAge(String processedDomain) {
+        Inventory cached = inventories.get(processedDomain);
+        return cached != null ? Duration.between(cached.loadedAt(), Instant.now()) : null;
+    }
+
+    /**
+     * 서버 여부 (server_resource_data location 의 deviceId)
+     */
+    public static boolean isServer(DeviceDto device) {
+        return SERVER_LOCATION.equals(device.getLocation()) && !device.getDeviceId().isEmpty();
+    }
+
+    /**
+     * 센서 여부 (서버/서비스가 아닌 location 의 deviceId)
+     */
+    public static boolean isSensor(DeviceDto device) {
+        return !SERVER_LOCATION.equals(device.getLocation())
+                && !SERVICE_LOCATION.equals(device.getLocation())
+                && !device.getDeviceId().isEmpty();
+    }
+
+    /**
+     * 서비스 여부 (service_resource_data location 의 gatewayId)
+     */
+    public static boolean isService(DeviceDto device) {
+        return SERVICE_LOCATION.equals(device.getLocation()) && !device.getGatewayId().isEmpty();
+    }
+
+    /**
+     * 지정한 기간 동안의 고유 (location, deviceId, gatewayId) 목록을 InfluxDB 에서 직접 조회합니다.
+     *
+     * @param processedDomain .com 이 제거된 회사 도메인
+     * @param start           조회 시작 시각 (포함)
+     * @param stop            조회 종료 시각 (미포함)
+     * @return 기간 내 고유 장비 목록 (lastSeen 은 기간 내 마지막 수집 시각)
+     */
+    public List<DeviceDto> queryDevices(String processedDomain, Instant start, Instant stop) {
+        String range = String.format("range(start: time(v: \"%s\"), stop: time(v: \"%s\"))", start, stop);
+        return queryDevices(processedDomain, range);
+    }
+
+    private List<DeviceDto> loadInventory(String processedDomain) {
+        return queryDevices(processedDomain, "range(start: -30d)");
+    }
+
+    private List<DeviceDto> queryDevices(String processedDomain, String range) {
+        String flux = String.format(
+                "from(bucket: \"%s\") " +
+                        "|> %s " +
+                        "|> filter(fn: (r) => r[\"companyDomain\"] == \"%s\") " +
+                        "|> filter(fn: (r) => r[\"origin\"] == \"server_data\") " +
+                        "|> keep(columns: [\"_time\", \"location\", \"deviceId\", \"gatewayId\"]) " +
+                        "|> group(columns: [\"location\", \"deviceId\", \"gatewayId\"]) " +
+                        "|> last(column: \"_time\")",
+                bucket, range, processedDomain
+        );
+
+        log.debug("장비 인벤토리 Flux 쿼리 (companyDomain: {}): {}", processedDomain, flux);
+
+        List<DeviceDto> devices = new ArrayList<>();
+        for (FluxTable table : queryExecutor.query(flux, influxOrg, QueryPriority.BATCH)) {
+            for (FluxRecord record : table.getRecords()) {
+                devices.add(new DeviceDto(
+                        InfluxUtil.getTagValue(record, "location"),
+                        InfluxUtil.getTagValue(record, "deviceId"),
+                        InfluxUtil.getTagValue(record, "gatewayId"),
+                        record.getTime()
+                ));
+            }
+        }
+
+        log.debug("장비 인벤토리 조회 완료 - companyDomain: {}, {} , 항목 수: {}", processedDomain, range, devices.size());
+        return devices;
+    }
+}
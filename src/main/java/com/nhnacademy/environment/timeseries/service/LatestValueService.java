@@ -0,0 +1,237 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.timeseries.dto.TimeSeriesDataDto;
+import com.nhnacademy.environment.util.InfluxUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최신값(last value) 조회 서비스
+ * <p>
+ * - 7일 구간을 정렬하는 대신 Flux last() 로 시계열마다 마지막 점만 가져옵니다.<br>
+ * - 짧은 구간(기본 1h)부터 조회하고, 결과가 없을 때만 24h → 7d 로 넓힙니다.<br>
+ * - 조회 순서: 최근 데이터 인메모리 저장소 → 최신값 캐시(TTL) → InfluxDB<br>
+ * - 여러 시계열의 최신값은 selector 조건을 or 로 묶은 한 번의 쿼리로 조회합니다.<br>
+ * - 조회 실패(InfluxDB 오류, 대기열 거절)는 "데이터 없음" 과 구분하여 구간을 넓히지 않고, 캐시하지 않고 호출자에게 전달합니다.
+ */
+@Slf4j
+@Service
+public class LatestValueService {
+
+    private final InfluxQueryExecutor queryExecutor;
+    private final String bucket;
+    private final String influxOrg;
+    private final RecentDataStore recentDataStore;
+
+    /**
+     * Key: 정렬된 필터 조건
+     */
+    private final Map<String, CachedLatest> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong influxQueries = new AtomicLong();
+    private final AtomicLong failedQueries = new AtomicLong();
+
+    @Value("${latest.lookup.ranges:1h,24h,7d}")
+    private String[] lookupRanges = {"1h", "24h", "7d"};
+
+    @Value("${latest.cache.ttl-seconds:10}")
+    private long cacheTtlSeconds = 10;
+
+    @Value("${latest.cache.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    public LatestValueService(InfluxQueryExecutor queryExecutor,
+                              @Qualifier("influxBucket") String bucket,
+                              @Qualifier("influxOrganization") String influxOrg,
+                              RecentDataStore recentDataStore) {
+        this.queryExecutor = queryExecutor;
+        this.bucket = bucket;
+        this.influxOrg = influxOrg;
+        this.recentDataStore = recentDataStore;
+    }
+
+    /**
+     * 캐시된 최신값 (데이터가 없었던 경우 value 는 null)
+     */
+    private record CachedLatest(TimeSeriesDataDto value, Instant expiresAt) {
+    }
+
+    /**
+     * 필터 조건에 맞는 가장 최근 데이터 하나를 반환합니다.
+     *
+     * @param filters 필터 조건 (companyDomain, origin, location, _measurement, _field 등)
+     * @return 가장 최근 데이터, 없으면 null
+     * @throws RuntimeException InfluxDB 조회 실패 시
+     */
+    public TimeSeriesDataDto getLatest(Map<String, String> filters) {
+        return getLatestBatch(List.of(filters)).get(0);
+    }
+
+    /**
+     * 여러 selector 의 최신값을 반환합니다.
+     * 메모리/캐시에 없는 selector 만 모아 구간별로 한 번씩 조회합니다.
+     *
+     * @param selectors 필터 조건 목록
+     * @return selector 순서대로 최신 데이터 (없으면 null 원소)
+     * @throws RuntimeException InfluxDB 조회 실패 시 (실패 전에 찾은 selector 의 결과는 캐시됨)
+     */
+    public List<TimeSeriesDataDto> getLatestBatch(List<Map<String, String>> selectors) {
+        List<TimeSeriesDataDto> result = new ArrayList<>(selectors.size());
+        Map<Integer, Map<String, String>> pending = new HashMap<>();
+        Instant now = Instant.now();
+
+        for (int i = 0; i < selectors.size(); i++) {
+            Map<String, String> filters = selectors.get(i);
+            result.add(null);
+
+            Optional<TimeSeriesDataDto> recent = fromMemory(filters);
+            if (recent.isPresent()) {
+                memoryHits.incrementAndGet();
+                result.set(i, recent.get());
+                continue;
+            }
+            CachedLatest cached = cache.get(cacheKey(filters));
+            if (cached != null && cached.expiresAt().isAfter(now)) {
+                cacheHits.incrementAndGet();
+                result.set(i, cached.value());
+                continue;
+            }
+            pending.put(i, filters);
+        }
+
+        Map<Integer, Map<String, String>> unresolved = new HashMap<>(pending);
+        RuntimeException failure = null;
+        for (String range : lookupRanges) {
+            if (unresolved.isEmpty()) {
+                break;
+            }
+            Map<Integer, TimeSeriesDataDto> found;
+            try {
+                found = queryLatest(unresolved, range);
+            } catch (RuntimeException e) {
+                // ★★★ 실패를 "데이터 없음" 으로 보고 더 넓은(비싼) 구간을 조회하지 않음 ★★★
+                log.error("LatestData query 실패 - range: {}, 남은 selector 수: {}", range, unresolved.size(), e);
+                failedQueries.incrementAndGet();
+                failure = e;
+                break;
+            }
+            found.forEach((index, dto) -> {
+                result.set(index, dto);
+                unresolved.remove(index);
+            });
+        }
+
+        if (!pending.isEmpty()) {
+            if (cache.size() + pending.size() > maxEntries) {
+                cache.clear();
+            }
+            Instant expiresAt = Instant.now().plusSeconds(cacheTtlSeconds);
+            boolean failed = failure != null;
+            pending.forEach((index, filters) -> {
+                // 조회에 실패한 selector 는 "값 없음" 으로 캐시하지 않음
+                if (!failed || !unresolved.containsKey(index)) {
+                    cache.put(cacheKey(filters), new CachedLatest(result.get(index), expiresAt));
+                }
+            });
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    /**
+     * 최신값 조회 통계 (메모리 / 캐시 응답 수, InfluxDB 쿼리 / 실패 수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("influxQueries", influxQueries.get());
+        stats.put("failedQueries", failedQueries.get());
+        stats.put("cacheEntries", cache.size());
+        return stats;
+    }
+
+    private Optional<TimeSeriesDataDto> fromMemory(Map<String, String> filters) {
+        Map<String, String> tagFilters = new HashMap<>(filters);
+        String measurement = tagFilters.remove("_measurement");
+        String field = tagFilters.remove("_field");
+        return recentDataStore.latest(filters.get("companyDomain"), measurement, field, tagFilters)
+                .map(series -> toDto(Instant.ofEpochMilli(series.lastTime()), series.lastValue(),
+                        series.measurement(), series.tags().getOrDefault("origin", ""),
+                        series.tags().getOrDefault("location", "")));
+    }
+
+    /**
+     * selector 들의 조건을 or 로 묶어 주어진 구간에서 시계열별 last() 를 조회하고,
+     * selector 마다 가장 최근 점을 고릅니다. 조회 실패는 예외로 전달합니다.
+     */
+    private Map<Integer, TimeSeriesDataDto> queryLatest(Map<Integer, Map<String, String>> selectors, String range) {
+        List<String> predicates = new ArrayList<>();
+        selectors.values().forEach(filters -> predicates.add(InfluxUtil.toPredicate(filters)));
+
+        String flux = String.format("from(bucket: \"%s\") |> range(start: -%s)", bucket, range) +
+                String.format(" |> filter(fn: (r) => %s)", String.join(" or ", predicates)) +
+                " |> last()";
+
+        log.debug("[LatestData] Flux query = {}", flux);
+        influxQueries.incrementAndGet();
+
+        Map<Integer, TimeSeriesDataDto> found = new HashMap<>();
+        for (FluxTable table : queryExecutor.query(flux, influxOrg)) {
+            for (FluxRecord record : table.getRecords()) {
+                if (record.getTime() == null) {
+                    continue;
+                }
+                selectors.forEach((index, filters) -> {
+                    TimeSeriesDataDto current = found.get(index);
+                    if (InfluxUtil.matchesFilters(record, filters)
+                            && (current == null || record.getTime().isAfter(current.getTime()))) {
+                        found.put(index, toDto(record));
+                    }
+                });
+            }
+        }
+        return found;
+    }
+
+    private static TimeSeriesDataDto toDto(FluxRecord record) {
+        double value = 0.0;
+        if (record.getValue() instanceof Number number) {
+            value = number.doubleValue();
+        } else if (record.getValue() != null) {
+            log.warn("Unexpected value type for _value: " + record.getValue().getClass().getName());
+        }
+        return toDto(record.getTime(), value, InfluxUtil.getTagValue(record, "_measurement"),
+                InfluxUtil.getTagValue(record, "origin"), InfluxUtil.getTagValue(record, "location"));
+    }
+
+    private static TimeSeriesDataDto toDto(Instant time, double value, String measurement, String origin, String location) {
+        Map<String, String> recordTags = new HashMap<>();
+        recordTags.put("origin", origin);
+        recordTags.put("location", location);
+        return new TimeSeriesDataDto(time, location, value, measurement, recordTags);
+    }
+
+    private static String cacheKey(Map<String, String> filters) {
+        return new TreeMap<>(filters).toString();
+    }
+}
@@ -0,0 +1,197 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.util.InfluxUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 측정값(_measurement) 분포 집계 서비스 (파이 차트용)
+ * <p>
+ * - 필터 조건(회사, origin 등)별로 측정값마다 12칸 시간별 데이터 개수 버킷을 유지합니다.<br>
+ * - 최초 조회 시 최근 12시간(현재 시간 포함)을 시간별 count 로 초기화하고,
+ * 이후에는 아직 끝나지 않은 시간(현재 시간, 직전 갱신 이후 끝난 시간)만 다시 집계합니다.<br>
+ * - 파이 차트 응답은 12칸 합계이므로 데이터 양과 무관하게 메모리에서 계산됩니다.
+ */
+@Slf4j
+@Service
+public class MeasurementDistributionService {
+
+    private static final int SLOT_COUNT = 12;
+
+    private final InfluxQueryExecutor queryExecutor;
+    private final String bucket;
+    private final String influxOrg;
+
+    /**
+     * Key: 정렬된 필터 조건
+     */
+    private final Map<String, Distribution> distributions = new ConcurrentHashMap<>();
+
+    @Value("${stats.pie.idle-minutes:60}")
+    private long idleMinutes = 60;
+
+    public MeasurementDistributionService(InfluxQueryExecutor queryExecutor,
+                                          @Qualifier("influxBucket") String bucket,
+                                          @Qualifier("influxOrganization") String influxOrg) {
+        this.queryExecutor = queryExecutor;
+        this.bucket = bucket;
+        this.influxOrg = influxOrg;
+    }
+
+    /**
+     * 한 필터 조건의 측정값별 시간 버킷
+     */
+    private static final class Distribution {
+        private final Map<String, String> filters;
+        private final long[] slotHours = new long[SLOT_COUNT];
+        private final Map<String, long[]> counts = new HashMap<>();
+        /**
+         * 집계가 끝난(다시 조회할 필요 없는) 마지막 시간 (epoch hour), 초기화 전이면 null
+         */
+        private Long lastFinalizedHour;
+        private volatile Instant lastReadAt = Instant.now();
+
+        private Distribution(Map<String, String> filters) {
+            this.filters = filters;
+            Arrays.fill(slotHours, Long.MIN_VALUE);
+        }
+
+        private void clear(long hour) {
+            int slot = (int) Math.floorMod(hour, (long) SLOT_COUNT);
+            slotHours[slot] = hour;
+            counts.values().forEach(slotCounts -> slotCounts[slot] = 0);
+        }
+
+        private void put(String measurement, long hour, long count) {
+            int slot = (int) Math.floorMod(hour, (long) SLOT_COUNT);
+            if (slotHours[slot] != hour) {
+                clear(hour);
+            }
+            counts.computeIfAbsent(measurement, key -> new long[SLOT_COUNT])[slot] = count;
+        }
+
+        /**
+         * 현재 시간을 포함한 최근 12칸의 측정값별 합계
+         */
+        private Map<String, Long> sum(long currentHour) {
+            Map<String, Long> totals = new TreeMap<>();
+            counts.forEach((measurement, slotCounts) -> {
+                long total = 0;
+                for (int i = 0; i < SLOT_COUNT; i++) {
+                    if (slotHours[i] > currentHour - SLOT_COUNT && slotHours[i] <= currentHour) {
+                        total += slotCounts[i];
+                    }
+                }
+                if (total > 0) {
+                    totals.put(measurement, total);
+                }
+            });
+            return totals;
+        }
+    }
+
+    /**
+     * 최근 12시간(시간 단위 정렬) 측정값별 데이터 개수를 반환합니다.
+     * 처음 조회하는 필터 조건은 InfluxDB 에서 동기 초기화합니다. (초기화 실패 시 예외 전파)
+     *
+     * @param filters 필터 조건 (companyDomain, origin 등)
+     * @return measurement → 데이터 개수 (이름순)
+     */
+    public Map<String, Long> getCounts(Map<String, String> filters) {
+        Map<String, String> sortedFilters = new TreeMap<>(filters);
+        Distribution distribution = distributions.computeIfAbsent(sortedFilters.toString(),
+                key -> new Distribution(Map.copyOf(sortedFilters)));
+        distribution.lastReadAt = Instant.now();
+
+        synchronized (distribution) {
+            if (distribution.lastFinalizedHour == null) {
+                refresh(distribution);
+            }
+            return distribution.sum(currentHour());
+        }
+    }
+
+    /**
+     * 조회된 적 있는 필터 조건의 최신 시간 버킷을 갱신하고, 장시간 미조회 조건은 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${stats.pie.refresh-ms:60000}",
+            initialDelayString = "${stats.pie.refresh-ms:60000}")
+    public void refreshRecent() {
+        Instant idleLimit = Instant.now().minus(Duration.ofMinutes(idleMinutes));
+        distributions.entrySet().removeIf(entry -> entry.getValue().lastReadAt.isBefore(idleLimit));
+
+        distributions.forEach((key, distribution) -> {
+            synchronized (distribution) {
+                try {
+                    refresh(distribution);
+                } catch (Exception e) {
+                    log.warn("측정값 분포 갱신 실패 - filters: {}, {}", key, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 집계가 끝나지 않은 시간부터 현재 시간까지 시간별 count 를 다시 조회해 해당 버킷을 교체합니다.
+     */
+    private void refresh(Distribution distribution) {
+        long currentHour = currentHour();
+        long startHour = distribution.lastFinalizedHour == null
+                ? currentHour - SLOT_COUNT + 1
+                : Math.max(distribution.lastFinalizedHour + 1, currentHour - SLOT_COUNT + 1);
+
+        StringBuilder flux = new StringBuilder(String.format(
+                "from(bucket: \"%s\") |> range(start: time(v: \"%s\"))",
+                bucket, Instant.ofEpochSecond(startHour * 3600)));
+        distribution.filters.forEach((key, value) -> {
+            if (value != null && !value.isBlank()) {
+                flux.append(String.format(" |> filter(fn: (r) => r[\"%s\"] == \"%s\")", key, value));
+            }
+        });
+        flux.append(" |> group(columns: [\"_measurement\"])")
+                .append(" |> aggregateWindow(every: 1h, fn: count, createEmpty: false)");
+
+        log.debug("측정값 분포 Flux 쿼리: {}", flux);
+
+        Map<String, Map<Long, Long>> hourlyCounts = new HashMap<>();
+        for (FluxTable table : queryExecutor.query(flux.toString(), influxOrg)) {
+            for (FluxRecord record : table.getRecords()) {
+                String measurement = InfluxUtil.getTagValue(record, "_measurement");
+                if (measurement.isEmpty() || record.getTime() == null || !(record.getValue() instanceof Number count)) {
+                    continue;
+                }
+                // aggregateWindow 의 _time 은 구간의 끝 (현재 시간 구간은 range 의 끝인 현재 시각)
+                long hour = Math.floorDiv(record.getTime().toEpochMilli() - 1, 3_600_000L);
+                hourlyCounts.computeIfAbsent(measurement, key -> new HashMap<>()).put(hour, count.longValue());
+            }
+        }
+
+        for (long hour = startHour; hour <= currentHour; hour++) {
+            distribution.clear(hour);
+        }
+        hourlyCounts.forEach((measurement, counts) -> counts.forEach((hour, count) -> {
+            if (hour >= startHour && hour <= currentHour) {
+                distribution.put(measurement, hour, count);
+            }
+        }));
+        distribution.lastFinalizedHour = currentHour - 1;
+    }
+
+    private static long currentHour() {
+        return Instant.now().getEpochSecond() / 3600;
+    }
+}
@@ -0,0 +1,522 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최근 시계열 데이터 인메모리 저장소
+ * <p>
+ * - 시계열(measurement + field + 태그 조합)마다 고정 크기 링 버퍼(long 시각, double 값)를 유지합니다.<br>
+ * - 회사별로 하나의 tail poller 가 마지막 조회 시각 이후 데이터만 주기적으로 가져와 버퍼에 추가합니다.<br>
+ * - 실시간(WebSocket), 최신값(/current), 짧은 구간 차트/SSE 조회는 window-minutes 이내이면 InfluxDB 대신 메모리에서 응답합니다.<br>
+ * - 메모리 사용량은 (회사별 최대 시계열 수 × 버퍼 크기) 로 제한되며, 버퍼가 가득 차면 가장 오래된 점부터 덮어씁니다.<br>
+ * - 버퍼 크기는 기본적으로 window-minutes ÷ 수집 주기(+25%)로 정합니다. 덮어쓰기로 요청 구간의 앞부분이 사라졌거나
+ * 최대 시계열 수를 넘어 버려진 점이 요청 구간 안에 있으면 잘린 결과 대신 InfluxDB 로 위임합니다.<br>
+ * - 처음 조회하는 회사는 백그라운드에서 초기화하며, 초기화가 끝나기 전이나 수집이 max-stale-polls 주기 이상 밀린 동안에도
+ * InfluxDB 로 위임합니다.
+ */
+@Slf4j
+@Service
+public class RecentDataStore {
+
+    /**
+     * 시계열 식별에서 제외하는 Flux 결과 컬럼
+     */
+    private static final Set<String> NON_TAG_COLUMNS = Set.of("result", "table");
+
+    private final InfluxQueryExecutor queryExecutor;
+    private final String bucket;
+    private final String influxOrg;
+    private final Executor statsTaskExecutor;
+
+    /**
+     * 회사별 저장소
+     * Key: 처리된 companyDomain
+     */
+    private final Map<String, TenantBuffer> tenants = new ConcurrentHashMap<>();
+
+    private final AtomicLong memoryReads = new AtomicLong();
+    private final AtomicLong fallbackReads = new AtomicLong();
+    private final AtomicLong pollCount = new AtomicLong();
+    private final AtomicLong staleReads = new AtomicLong();
+
+    @Value("${realtime.buffer.window-minutes:180}")
+    private int windowMinutes = 180;
+
+    /** 0 이하이면 window-minutes ÷ sample-interval-seconds (+25%) 로 자동 결정 */
+    @Value("${realtime.buffer.capacity:0}")
+    private int capacity = 0;
+
+    @Value("${realtime.buffer.sample-interval-seconds:10}")
+    private long sampleIntervalSeconds = 10;
+
+    @Value("${realtime.buffer.max-series:2000}")
+    private int maxSeries = 2000;
+
+    @Value("${realtime.buffer.overlap-seconds:30}")
+    private long overlapSeconds = 30;
+
+    @Value("${realtime.buffer.idle-minutes:10}")
+    private long idleMinutes = 10;
+
+    @Value("${realtime.buffer.poll-ms:5000}")
+    private long pollMs = 5000;
+
+    /** 마지막 수집 후 poll-ms × max-stale-polls 가 지나면 버퍼가 밀린 것으로 보고 InfluxDB 로 위임 */
+    @Value("${realtime.buffer.max-stale-polls:6}")
+    private int maxStalePolls = 6;
+
+    public RecentDataStore(InfluxQueryExecutor queryExecutor,
+                           @Qualifier("influxBucket") String bucket,
+                           @Qualifier("influxOrganization") String influxOrg,
+                           @Qualifier("statsTaskExecutor") Executor statsTaskExecutor) {
+        this.queryExecutor = queryExecutor;
+        this.bucket = bucket;
+        this.influxOrg = influxOrg;
+        this.statsTaskExecutor = statsTaskExecutor;
+    }
+
+    /**
+     * 메모리에서 잘라낸 하나의 시계열 (시간순)
+     *
+     * @param measurement _measurement
+     * @param field       _field
+     * @param tags        태그 (companyDomain, origin, location, gatewayId 등)
+     * @param times       epoch millis
+     * @param values      값
+     */
+    public record RecentSeries(String measurement, String field, Map<String, String> tags,
+                               long[] times, double[] values) {
+
+        public int size() {
+            return times.length;
+        }
+
+        public long lastTime() {
+            return times[times.length - 1];
+        }
+
+        public double lastValue() {
+            return values[values.length - 1];
+        }
+
+        /**
+         * Flux aggregateWindow(fn: mean, createEmpty: false) 와 같은 규칙으로 everyMillis 구간 평균을 계산합니다.
+         * 구간은 epoch 기준으로 나누고, 각 점의 시각은 구간 끝(_stop, 조회 종료 시각을 넘지 않음)입니다.
+         *
+         * @param everyMillis 집계 간격
+         * @param stopMillis  조회 종료 시각 (epoch millis)
+         * @return 집계된 시계열 (간격이 0 이하이면 그대로)
+         */
+        public RecentSeries aggregateWindow(long everyMillis, long stopMillis) {
+            if (everyMillis <= 0 || times.length == 0) {
+                return this;
+            }
+            long[] outTimes = new long[times.length];
+            double[] outValues = new double[times.length];
+            int count = 0;
+            long windowStop = Long.MIN_VALUE;
+            double sum = 0;
+            int n = 0;
+            for (int i = 0; i < times.length; i++) {
+                long stop = Math.floorDiv(times[i], everyMillis) * everyMillis + everyMillis;
+                if (stop != windowStop && n > 0) {
+                    outTimes[count] = Math.min(windowStop, stopMillis);
+                    outValues[count++] = sum / n;
+                    sum = 0;
+                    n = 0;
+                }
+                windowStop = stop;
+                sum += values[i];
+                n++;
+            }
+            outTimes[count] = Math.min(windowStop, stopMillis);
+            outValues[count++] = sum / n;
+            return new RecentSeries(measurement, field, tags,
+                    Arrays.copyOf(outTimes, count), Arrays.copyOf(outValues, count));
+        }
+    }
+
+    /**
+     * 한 회사의 시계열 버퍼와 마지막 수집 시각
+     */
+    private static final class TenantBuffer {
+        private final Map<String, SeriesBuffer> series = new ConcurrentHashMap<>();
+        /** 마지막 수집에서 최대 시계열 수를 넘어 버려진 시계열이 있었는지 여부 (한도 안에 들어온 수집에서 해제) */
+        private volatile boolean seriesDropped;
+        /** 버려진 점 중 가장 최근 시각 (epoch millis, 이 시각을 포함하는 구간은 메모리 결과가 불완전) */
+        private volatile long droppedUntilMillis;
+        private volatile Instant lastPollAt;
+        private volatile boolean ready;
+        /** 백그라운드 초기화 진행 여부 (회사별 하나만 실행) */
+        private final AtomicBoolean loading = new AtomicBoolean();
+        private volatile Instant lastReadAt = Instant.now();
+    }
+
+    /**
+     * 시계열 하나의 고정 크기 링 버퍼
+     */
+    private static final class SeriesBuffer {
+        private final String measurement;
+        private final String field;
+        private final Map<String, String> tags;
+        private final long[] times;
+        private final double[] values;
+        private int head;
+        private int size;
+        /** 가득 차서 오래된 점을 덮어쓴 적이 있는지 여부 */
+        private boolean wrapped;
+
+        private SeriesBuffer(String measurement, String field, Map<String, String> tags, int capacity) {
+            this.measurement = measurement;
+            this.field = field;
+            this.tags = tags;
+            this.times = new long[capacity];
+            this.values = new double[capacity];
+        }
+
+        /**
+         * 마지막 점보다 뒤의 점만 추가합니다. (poll 구간이 겹쳐도 중복 없음)
+         */
+        private synchronized void append(long time, double value) {
+            if (size > 0 && time <= times[(head + size - 1) % times.length]) {
+                return;
+            }
+            int index;
+            if (size < times.length) {
+                index = (head + size) % times.length;
+                size++;
+            } else {
+                index = head;
+                head = (head + 1) % times.length;
+                wrapped = true;
+            }
+            times[index] = time;
+            values[index] = value;
+        }
+
+        private synchronized long lastTime() {
+            return size > 0 ? times[(head + size - 1) % times.length] : Long.MIN_VALUE;
+        }
+
+        /**
+         * fromMillis 이후의 점이 모두 남아 있는지 여부 (덮어쓰기로 가장 오래 남은 점이 fromMillis 보다 뒤면 false)
+         */
+        private synchronized boolean covers(long fromMillis) {
+            return !wrapped || times[head] <= fromMillis;
+        }
+
+        private synchronized RecentSeries snapshot(long fromMillis) {
+            int start = 0;
+            while (start < size && times[(head + start) % times.length] < fromMillis) {
+                start++;
+            }
+            int length = size - start;
+            if (length <= 0) {
+                return null;
+            }
+            long[] outTimes = new long[length];
+            double[] outValues = new double[length];
+            for (int i = 0; i < length; i++) {
+                int index = (head + start + i) % times.length;
+                outTimes[i] = times[index];
+                outValues[i] = values[index];
+            }
+            return new RecentSeries(measurement, field, tags, outTimes, outValues);
+        }
+
+        private boolean matches(String measurement, String field, Map<String, String> tagFilters) {
+            if (measurement != null && !measurement.equals(this.measurement)) {
+                return false;
+            }
+            if (field != null && !field.equals(this.field)) {
+                return false;
+            }
+            for (Map.Entry<String, String> filter : tagFilters.entrySet()) {
+                if (filter.getValue() != null && !filter.getValue().isBlank()
+                        && !filter.getValue().equals(tags.get(filter.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 최근 rangeMinutes 동안의 시계열을 메모리에서 조회합니다.
+     * 처음 조회하는 회사는 window-minutes 구간 초기화를 백그라운드로 시작하고, 끝날 때까지는 empty 를 반환합니다.
+     *
+     * @param processedDomain .com 이 제거된 회사 도메인
+     * @param measurement     _measurement (null 이면 전체)
+     * @param field           _field (null 이면 전체)
+     * @param tagFilters      태그 필터 (빈 값은 무시)
+     * @param rangeMinutes    조회 구간 (분)
+     * @return 시계열 목록, 메모리로 응답할 수 없으면 (구간 초과 / 초기화 전 / 수집 지연 / 버퍼가 구간을 덮지 못함) empty
+     */
+    public Optional<List<RecentSeries>> query(String processedDomain, String measurement, String field,
+                                              Map<String, String> tagFilters, int rangeMinutes) {
+        return query(processedDomain, measurement, field, tagFilters, rangeMinutes, true);
+    }
+
+    private Optional<List<RecentSeries>> query(String processedDomain, String measurement, String field,
+                                               Map<String, String> tagFilters, int rangeMinutes,
+                                               boolean requireFullRange) {
+        if (processedDomain == null || rangeMinutes <= 0 || rangeMinutes > windowMinutes) {
+            fallbackReads.incrementAndGet();
+            return Optional.empty();
+        }
+
+        TenantBuffer tenant = tenants.computeIfAbsent(processedDomain, key -> new TenantBuffer());
+        Instant now = Instant.now();
+        tenant.lastReadAt = now;
+        if (!tenant.ready) {
+            startInitialLoad(processedDomain, tenant);
+            if (!tenant.ready) {
+                fallbackReads.incrementAndGet();
+                return Optional.empty();
+            }
+        }
+
+        // ★★★ 수집이 계속 실패해 버퍼가 밀렸으면 오래된 값 대신 InfluxDB 로 위임 ★★★
+        if (Duration.between(tenant.lastPollAt, now).toMillis() > pollMs * maxStalePolls) {
+            log.debug("최근 데이터 버퍼 수집 지연 - InfluxDB 위임: {} (마지막 수집: {})", processedDomain, tenant.lastPollAt);
+            staleReads.incrementAndGet();
+            fallbackReads.incrementAndGet();
+            return Optional.empty();
+        }
+
+        // ★★★ 버려진 시계열의 점이 요청 구간에 있으면 결과가 빠질 수 있으므로 InfluxDB 로 위임 ★★★
+        long fromMillis = now.minus(Duration.ofMinutes(rangeMinutes)).toEpochMilli();
+        if (tenant.seriesDropped || tenant.droppedUntilMillis >= fromMillis) {
+            fallbackReads.incrementAndGet();
+            return Optional.empty();
+        }
+
+        List<RecentSeries> result = new ArrayList<>();
+        for (SeriesBuffer buffer : new TreeMap<>(tenant.series).values()) {
+            if (buffer.matches(measurement, field, tagFilters)) {
+                if (requireFullRange && !buffer.covers(fromMillis)) {
+                    log.debug("최근 데이터 버퍼가 요청 구간을 덮지 못함 - InfluxDB 위임: {} {}분",
+                            buffer.measurement, rangeMinutes);
+                    fallbackReads.incrementAndGet();
+                    return Optional.empty();
+                }
+                RecentSeries series = buffer.snapshot(fromMillis);
+                if (series != null) {
+                    result.add(series);
+                }
+            }
+        }
+        memoryReads.incrementAndGet();
+        return Optional.of(result);
+    }
+
+    /**
+     * 조건에 맞는 시계열 중 가장 최근 점을 가진 시계열을 메모리에서 찾습니다.
+     * 마지막 점만 사용하므로 덮어쓰기로 앞부분이 사라진 버퍼도 사용합니다.
+     *
+     * @return window-minutes 이내에 점이 있는 시계열, 메모리에 없으면 empty
+     */
+    public Optional<RecentSeries> latest(String processedDomain, String measurement, String field,
+                                         Map<String, String> tagFilters) {
+        return query(processedDomain, measurement, field, tagFilters, windowMinutes, false)
+                .flatMap(seriesList -> seriesList.stream()
+                        .max((a, b) -> Long.compare(a.lastTime(), b.lastTime())));
+    }
+
+    /**
+     * 회사의 window-minutes 구간 초기화를 백그라운드에서 한 번만 시작합니다. (실패하면 다음 조회에서 다시 시도)
+     */
+    private void startInitialLoad(String processedDomain, TenantBuffer tenant) {
+        if (!tenant.loading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            statsTaskExecutor.execute(() -> {
+                try {
+                    synchronized (tenant) {
+                        if (!tenant.ready) {
+                            poll(processedDomain, tenant);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("최근 데이터 버퍼 초기화 실패 - companyDomain: {}, {}", processedDomain, e.getMessage());
+                } finally {
+                    tenant.loading.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            tenant.loading.set(false);
+            log.warn("최근 데이터 버퍼 초기화 작업 등록 실패 - companyDomain: {}, {}", processedDomain, e.getMessage());
+        }
+    }
+
+    /**
+     * 조회된 적 있는 회사마다 마지막 수집 시각 이후 데이터를 가져오고, 장시간 미조회 회사는 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${realtime.buffer.poll-ms:5000}",
+            initialDelayString = "${realtime.buffer.poll-ms:5000}")
+    public void pollRecent() {
+        Instant idleLimit = Instant.now().minus(Duration.ofMinutes(idleMinutes));
+        tenants.entrySet().removeIf(entry -> entry.getValue().lastReadAt.isBefore(idleLimit));
+
+        tenants.forEach((processedDomain, tenant) -> {
+            if (!tenant.ready) {
+                return;
+            }
+            synchronized (tenant) {
+                try {
+                    poll(processedDomain, tenant);
+                } catch (Exception e) {
+                    log.warn("최근 데이터 버퍼 갱신 실패 - companyDomain: {}, {}", processedDomain, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 저장소 통계 (회사 수, 시계열 수, 메모리 응답 / InfluxDB 위임 횟수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("tenants", tenants.size());
+        stats.put("series", tenants.values().stream().mapToInt(tenant -> tenant.series.size()).sum());
+        stats.put("memoryReads", memoryReads.get());
+        stats.put("fallbackReads", fallbackReads.get());
+        stats.put("polls", pollCount.get());
+        stats.put("windowMinutes", windowMinutes);
+        stats.put("capacity", effectiveCapacity());
+        stats.put("staleReads", staleReads.get());
+        stats.put("seriesDroppedTenants", tenants.values().stream().filter(tenant -> tenant.seriesDropped).count());
+        return stats;
+    }
+
+    /**
+     * 마지막 수집 시각 - overlap 부터 (처음이면 window-minutes 전부터) 회사 데이터를 조회해 버퍼에 추가합니다.
+     * window-minutes 동안 점이 없는 시계열은 제거해, 한도를 넘어 버려지던 시계열이 다시 들어올 자리를 만듭니다.
+     */
+    private void poll(String processedDomain, TenantBuffer tenant) {
+        Instant now = Instant.now();
+        Instant start = tenant.lastPollAt != null
+                ? tenant.lastPollAt.minusSeconds(overlapSeconds)
+                : now.minus(Duration.ofMinutes(windowMinutes));
+
+        String flux = String.format(
+                "from(bucket: \"%s\") " +
+                        "|> range(start: time(v: \"%s\")) " +
+                        "|> filter(fn: (r) => r[\"companyDomain\"] == \"%s\")",
+                bucket, start, processedDomain
+        );
+
+        List<FluxTable> tables = queryExecutor.query(flux, influxOrg);
+
+        long windowStartMillis = now.minus(Duration.ofMinutes(windowMinutes)).toEpochMilli();
+        tenant.series.values().removeIf(buffer -> buffer.lastTime() < windowStartMillis);
+
+        int points = 0;
+        boolean dropped = false;
+        for (FluxTable table : tables) {
+            SeriesBuffer buffer = null;
+            for (FluxRecord record : table.getRecords()) {
+                if (record.getTime() == null || !(record.getValue() instanceof Number value)) {
+                    continue;
+                }
+                if (buffer == null) {
+                    buffer = resolveBuffer(tenant, record);
+                    if (buffer == null) {
+                        dropped = true;
+                        markDropped(tenant, table.getRecords());
+                        break;
+                    }
+                }
+                buffer.append(record.getTime().toEpochMilli(), value.doubleValue());
+                points++;
+            }
+        }
+        if (dropped && !tenant.seriesDropped) {
+            log.warn("최근 데이터 버퍼 최대 시계열 수({}) 초과 - companyDomain: {}, 이후 조회는 InfluxDB 로 위임",
+                    maxSeries, processedDomain);
+        } else if (!dropped && tenant.seriesDropped) {
+            log.info("최근 데이터 버퍼 시계열 수가 한도 안으로 돌아옴 - companyDomain: {}", processedDomain);
+        }
+        tenant.seriesDropped = dropped;
+        tenant.lastPollAt = now;
+        tenant.ready = true;
+        pollCount.incrementAndGet();
+
+        log.debug("최근 데이터 버퍼 갱신 - companyDomain: {}, 시작: {}, 포인트 수: {}, 시계열 수: {}",
+                processedDomain, start, points, tenant.series.size());
+    }
+
+    /**
+     * 레코드의 measurement / field / 태그로 시계열 버퍼를 찾거나 만듭니다. (최대 시계열 수 초과 시 null)
+     */
+    private SeriesBuffer resolveBuffer(TenantBuffer tenant, FluxRecord record) {
+        String measurement = record.getMeasurement();
+        String field = record.getField();
+        Map<String, String> tags = new TreeMap<>();
+        record.getValues().forEach((key, value) -> {
+            if (value != null && !key.startsWith("_") && !NON_TAG_COLUMNS.contains(key)) {
+                tags.put(key, value.toString());
+            }
+        });
+        String key = measurement + "|" + field + "|" + tags;
+
+        SeriesBuffer buffer = tenant.series.get(key);
+        if (buffer == null) {
+            if (tenant.series.size() >= maxSeries) {
+                log.debug("최근 데이터 버퍼 최대 시계열 수 초과 - 무시: {}", key);
+                return null;
+            }
+            int bufferCapacity = effectiveCapacity();
+            buffer = tenant.series.computeIfAbsent(key,
+                    k -> new SeriesBuffer(measurement, field, Map.copyOf(tags), bufferCapacity));
+        }
+        return buffer;
+    }
+
+    /**
+     * 버려진 시계열의 마지막 점 시각을 기록합니다. (그 시각을 포함하는 구간은 InfluxDB 로 위임)
+     */
+    private void markDropped(TenantBuffer tenant, List<FluxRecord> records) {
+        for (int i = records.size() - 1; i >= 0; i--) {
+            Instant time = records.get(i).getTime();
+            if (time != null) {
+                tenant.droppedUntilMillis = Math.max(tenant.droppedUntilMillis, time.toEpochMilli());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 시계열당 버퍼 크기 (설정값, 없으면 window-minutes 동안 수집되는 점 개수 + 25%)
+     */
+    private int effectiveCapacity() {
+        if (capacity > 0) {
+            return capacity;
+        }
+        long pointsInWindow = windowMinutes * 60L / Math.max(1, sampleIntervalSeconds);
+        return (int) Math.min(Integer.MAX_VALUE, pointsInWindow + pointsInWindow / 4 + 1);
+    }
+}
@@ -1,6 +1,8 @@
 package com.nhnacademy.environment.timeseries.service;
 
-import com.influxdb.client.QueryApi;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.util.AggregationWindowPlanner;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
@@ -20,32 +22,34 @@ import org.springframework.stereotype.Service;
 @Service
 public class TimeSeriesAverageService {
 
-    private final QueryApi queryApi;
+    private final InfluxQueryExecutor queryExecutor;
     private final String bucket;
     private final String influxOrg;
 
-    public TimeSeriesAverageService(QueryApi queryApi,
+    public TimeSeriesAverageService(InfluxQueryExecutor queryExecutor,
                                     @Qualifier("influxBucket") String bucket,
                                     @Qualifier("influxOrganization") String influxOrg) {
-        this.queryApi = queryApi;
+        this.queryExecutor = queryExecutor;
         this.bucket = bucket;
         this.influxOrg = influxOrg;
     }
 
     // ★★★ 시간 범위 열거형 (필수 3개만) ★★★
     public enum TimeRange {
-        HOURLY("1h", 60, "1시간"),
-        DAILY("24h", 1440, "24시간"),
-        WEEKLY("1w", 10080, "1주");
+        HOURLY("1h", 60, "1시간", 6),
+        DAILY("24h", 1440, "24시간", 24),
+        WEEKLY("1w", 10080, "1주", 28);
 
         private final String code;
         private final int minutes;
         private final String displayName;
+        private final int targetPoints;
 
-        TimeRange(String code, int minutes, String displayName) {
+        TimeRange(String code, int minutes, String displayName, int targetPoints) {
             this.code = code;
             this.minutes = minutes;
             this.displayName = displayName;
+            this.targetPoints = targetPoints;
         }
 
         public String getCode() {
@@ -60,6 +64,10 @@ public class TimeSeriesAverageService {
             return displayName;
         }
 
+        public int getTargetPoints() {
+            return targetPoints;
+        }
+
         public static TimeRange fromCode(String code) {
             for (TimeRange range : values()) {
                 if (range.code.equals(code)) {
@@ -85,7 +93,7 @@ public class TimeSeriesAverageService {
 
             log.debug("배치용 Flux 쿼리: {}", flux);
 
-            return queryApi.query(flux, influxOrg).stream()
+            return queryExecutor.query(flux, influxOrg).stream()
                     .flatMap(t -> t.getRecords().stream())
                     .map(r -> (Double) r.getValue())
                     .filter(Objects::nonNull)
@@ -141,17 +149,9 @@ public class TimeSeriesAverageService {
         return flux.toString();
     }
 
+    // 1시간 → 10m x 6, 24시간 → 1h x 24, 1주 → 6h x 28 (AggregationWindowPlanner 공용 규칙)
     private String getAggregateInterval(TimeRange timeRange) {
-        switch (timeRange) {
-            case HOURLY:
-                return "10m"; // 1시간을 6개 구간
-            case DAILY:
-                return "1h";  // 24시간을 24개 구간
-            case WEEKLY:
-                return "6h";  // 1주를 28개 구간
-            default:
-                return "1h";
-        }
+        return AggregationWindowPlanner.every(Duration.ofMinutes(timeRange.getMinutes()), timeRange.getTargetPoints());
     }
 
     // ★★★ 시간 범위를 지원하는 평균 데이터 조회 (검색 결과 [3] Period Over Period 방식) ★★★
@@ -221,7 +221,7 @@ public class TimeSeriesAverageService {
         log.debug("시간별 평균 Flux 쿼리: {}", flux);
 
         try {
-            return queryApi.query(flux, influxOrg).stream()
+            return queryExecutor.query(flux, influxOrg).stream()
                     .flatMap(t -> t.getRecords().stream())
                     .map(r -> (Double) r.getValue())
                     .filter(Objects::nonNull)
@@ -243,7 +243,7 @@ public class TimeSeriesAverageService {
         log.debug("전체 평균 Flux 쿼리: {}", flux);
 
         try {
-            return queryApi.query(flux, influxOrg).stream()
+            return queryExecutor.query(flux, influxOrg).stream()
                     .flatMap(t -> t.getRecords().stream())
                     .map(r -> (Double) r.getValue())
                     .filter(Objects::nonNull)
@@ -315,7 +315,7 @@ public class TimeSeriesAverageService {
                     bucket, processedDomain, origin, location // ★★★ 처리된 도메인 사용 ★★★
             );
 
-            List<String> gatewayIds = queryApi.query(flux, influxOrg).stream()
+            List<String> gatewayIds = queryExecutor.query(flux, influxOrg).stream()
                     .flatMap(t -> t.getRecords().stream())
                     .map(r -> (String) r.getValueByKey("gatewayId"))
                     .filter(Objects::nonNull)
@@ -1,17 +1,26 @@
 package com.nhnacademy.environment.timeseries.service;
 
-import com.influxdb.client.QueryApi;
 import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.query.QueryCostGuard;
+import com.nhnacademy.environment.query.QueryPriority;
+import com.nhnacademy.environment.query.QueryTooLargeException;
 import com.nhnacademy.environment.timeseries.dto.ChartDataDto;
+import com.nhnacademy.environment.timeseries.dto.ChartSeriesSelector;
 import com.nhnacademy.environment.timeseries.dto.TimeSeriesDataDto;
+import com.nhnacademy.environment.util.AggregationWindowPlanner;
 import com.nhnacademy.environment.util.InfluxUtil;
+import com.nhnacademy.environment.util.LttbDownsampler;
+import com.nhnacademy.environment.util.RunningStatistics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cglib.core.Local;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -27,7 +36,7 @@ import java.util.*;
 public class TimeSeriesDataService {
 
     /** InfluxDB 쿼리 API 입니다. */
-    private final QueryApi queryApi;
+    private final InfluxQueryExecutor queryExecutor;
 
     /** InfluxDB 버킷 이름 입니다. */
     private final String bucket;
@@ -38,22 +47,53 @@ public class TimeSeriesDataService {
     /** translation.json 의 영문 -> 한글 번역을 위해 사용합니다.*/
     private final Map<String, String> translationMap;
 
+    /** 최근 데이터 인메모리 저장소 입니다. */
+    private final RecentDataStore recentDataStore;
+
+    /** 최신값 조회 서비스 입니다. */
+    private final LatestValueService latestValueService;
+
+    /** 측정값 분포(파이 차트) 집계 서비스 입니다. */
+    private final MeasurementDistributionService measurementDistributionService;
+
+    /** 쿼리 비용(결과 크기) 제한 입니다. */
+    private final QueryCostGuard queryCostGuard;
+
+    /** maxPoints 를 지정하지 않은 차트 조회의 시계열당 목표 점 개수 입니다. (0 이하이면 집계하지 않음) */
+    @Value("${timeseries.chart.default-target-points:300}")
+    private int defaultTargetPoints = 300;
+
+    /** 요약 통계로 집계하는 Flux 함수 (yield 이름) 입니다. */
+    private static final String[] SUMMARY_STATS = {"count", "mean", "stddev", "min", "max"};
+
     /**
      * 생성자 - 필수 설정 값들 주입 합니다.
      *
-     * @param queryApi InfluxDB 쿼리 API
+     * @param queryExecutor InfluxDB 쿼리 실행기
      * @param bucket InfluxDB 버킷 이름
      * @param influxOrg InfluxDB 조직 이름
      * @param translationMap 한글 번역
+     * @param recentDataStore 최근 데이터 인메모리 저장소
+     * @param latestValueService 최신값 조회 서비스
+     * @param measurementDistributionService 측정값 분포 집계 서비스
+     * @param queryCostGuard 쿼리 비용(결과 크기) 제한
      */
-    public TimeSeriesDataService(QueryApi queryApi,
+    public TimeSeriesDataService(InfluxQueryExecutor queryExecutor,
                                  @Qualifier("influxBucket") String bucket,
                                  @Qualifier("influxOrganization") String influxOrg,
-                                 Map<String, String> translationMap) {
-        this.queryApi = queryApi;
+                                 Map<String, String> translationMap,
+                                 RecentDataStore recentDataStore,
+                                 LatestValueService latestValueService,
+                                 MeasurementDistributionService measurementDistributionService,
+                                 QueryCostGuard queryCostGuard) {
+        this.queryExecutor = queryExecutor;
         this.bucket = bucket;
         this.influxOrg = influxOrg;
         this.translationMap = translationMap;
+        this.recentDataStore = recentDataStore;
+        this.latestValueService = latestValueService;
+        this.measurementDistributionService = measurementDistributionService;
+        this.queryCostGuard = queryCostGuard;
     }
 
     /**
@@ -65,8 +105,84 @@ public class TimeSeriesDataService {
      * @return 측정값 기준 그룹화된 시계열 데이터 맵     */
     public Map<String, List<TimeSeriesDataDto>> getTimeSeriesData(Map<String, String> allParams,
                                                                   int rangeMinutes) {
+        return getTimeSeriesData(allParams, rangeMinutes, 0);
+    }
+
+    /**
+     * 시계열 데이터를 조회하고, 시계열(테이블)마다 LTTB 로 다운샘플링합니다.
+     *
+     * @param allParams 태그 필터 조건
+     * @param rangeMinutes 조회 범위 (분)
+     * @param maxPoints 응답 전체 최대 점 개수 (0 이하이면 시계열당 기본 목표 점 개수로 집계)
+     * @return 측정값 기준 그룹화된 시계열 데이터 맵
+     */
+    public Map<String, List<TimeSeriesDataDto>> getTimeSeriesData(Map<String, String> allParams,
+                                                                  int rangeMinutes, int maxPoints) {
+        QueryCostGuard.QueryPlan plan = planTimeSeriesQuery(allParams, rangeMinutes, maxPoints);
+        if (plan.action() == QueryCostGuard.Action.REJECT) {
+            throw new QueryTooLargeException(plan);
+        }
+        return getTimeSeriesData(allParams, rangeMinutes, maxPoints, plan);
+    }
+
+    /**
+     * getTimeSeriesData 의 결과 크기를 추정해 실행 계획을 세웁니다.
+     * 인메모리 저장소로 응답 가능한 짧은 구간은 추정하지 않습니다.
+     *
+     * @param allParams 태그 필터 조건
+     * @param rangeMinutes 조회 범위 (분)
+     * @param maxPoints 응답 전체 최대 점 개수 (0 이하이면 시계열당 기본 목표 점 개수로 집계)
+     * @return 실행 계획 (RAW / AGGREGATE / CAP / REJECT)
+     */
+    public QueryCostGuard.QueryPlan planTimeSeriesQuery(Map<String, String> allParams, int rangeMinutes, int maxPoints) {
+        Map<String, String> filters = new HashMap<>(allParams);
+        filters.remove("measurement");
+        return queryCostGuard.plan(filters, Duration.ofMinutes(rangeMinutes), targetPoints(maxPoints));
+    }
+
+    /**
+     * 실행 계획에 따라 시계열 데이터를 조회합니다.
+     * AGGREGATE 이면 계획된 간격으로 평균 집계하고, CAP 이면 시계열마다 최근 N개만 반환합니다.
+     *
+     * @param allParams 태그 필터 조건
+     * @param rangeMinutes 조회 범위 (분)
+     * @param maxPoints 응답 전체 최대 점 개수 (0 이하이면 시계열당 기본 목표 점 개수로 집계)
+     * @param plan {@link #planTimeSeriesQuery} 로 세운 실행 계획
+     * @return 측정값 기준 그룹화된 시계열 데이터 맵
+     */
+    public Map<String, List<TimeSeriesDataDto>> getTimeSeriesData(Map<String, String> allParams,
+                                                                  int rangeMinutes, int maxPoints,
+                                                                  QueryCostGuard.QueryPlan plan) {
         String companyDomain = allParams.get("companyDomain");
 
+        // ★★★ 최근 구간은 인메모리 저장소에서 응답 ★★★
+        Map<String, String> tagFilters = new HashMap<>(allParams);
+        tagFilters.remove("measurement");
+        Optional<List<RecentDataStore.RecentSeries>> recent =
+                recentDataStore.query(companyDomain, null, null, tagFilters, rangeMinutes);
+        if (recent.isPresent()) {
+            // InfluxDB 경로와 같은 간격으로 집계 / 잘라내기 (응답 모양이 데이터 출처에 따라 달라지지 않도록)
+            Duration every = plan.action() == QueryCostGuard.Action.AGGREGATE
+                    ? AggregationWindowPlanner.fromFlux(plan.aggregateEvery())
+                    : aggregateWindow(rangeMinutes, maxPoints);
+            int seriesLimit = LttbDownsampler.perSeriesLimit(maxPoints, recent.get().size());
+            Map<String, List<TimeSeriesDataDto>> resultMap = new HashMap<>();
+            for (RecentDataStore.RecentSeries series : aggregateRecent(recent.get(), every)) {
+                Map<String, String> tags = new HashMap<>();
+                for (String tagKey : allParams.keySet()) {
+                    tags.put(tagKey, series.tags().getOrDefault(tagKey, ""));
+                }
+                List<TimeSeriesDataDto> dtos = toDtos(series, tags);
+                if (plan.action() == QueryCostGuard.Action.CAP && dtos.size() > plan.perSeriesLimit()) {
+                    dtos = dtos.subList(dtos.size() - plan.perSeriesLimit(), dtos.size());
+                }
+                for (TimeSeriesDataDto dto : downsample(dtos, seriesLimit)) {
+                    resultMap.computeIfAbsent(dto.getMeasurement(), k -> new ArrayList<>()).add(dto);
+                }
+            }
+            return resultMap;
+        }
+
         StringBuilder flux = new StringBuilder(
                 String.format("from(bucket: \"%s\") |> range(start: -%dm)", bucket, rangeMinutes)
         );
@@ -80,17 +196,25 @@ public class TimeSeriesDataService {
             }
         });
 
+        if (plan.action() == QueryCostGuard.Action.AGGREGATE) {
+            flux.append(String.format(" |> aggregateWindow(every: %s, fn: mean, createEmpty: false)", plan.aggregateEvery()));
+        } else {
+            appendAggregateWindow(flux, rangeMinutes, maxPoints);
+        }
         flux.append(" |> keep(columns: [\"_time\", \"_field\", \"_value\", \"_measurement\", \"location\"");
         allParams.keySet().forEach(k -> flux.append(", \"" + k + "\""));
         flux.append("]) |> sort(columns: [\"_time\"])");
+        appendPerSeriesCap(flux, plan);
 
         log.debug("[TimeSeries] Flux query = {}", flux);
 
         Map<String, List<TimeSeriesDataDto>> resultMap = new HashMap<>();
 
         try {
-            List<FluxTable> tables = queryApi.query(flux.toString(), influxOrg);
+            List<FluxTable> tables = queryExecutor.query(flux.toString(), influxOrg);
+            int seriesLimit = LttbDownsampler.perSeriesLimit(maxPoints, tables.size());
             for (FluxTable table : tables) {
+                List<TimeSeriesDataDto> series = new ArrayList<>();
                 for (FluxRecord record : table.getRecords()) {
                     Instant time = record.getTime();
                     double value = ((Number) record.getValue()).doubleValue();
@@ -102,8 +226,10 @@ public class TimeSeriesDataService {
                         tags.put(tagKey, InfluxUtil.getTagValue(record, tagKey));
                     }
 
-                    TimeSeriesDataDto dto = new TimeSeriesDataDto(time, location, value, measurement, tags);
-                    resultMap.computeIfAbsent(measurement, k -> new ArrayList<>()).add(dto);
+                    series.add(new TimeSeriesDataDto(time, location, value, measurement, tags));
+                }
+                for (TimeSeriesDataDto dto : downsample(series, seriesLimit)) {
+                    resultMap.computeIfAbsent(dto.getMeasurement(), k -> new ArrayList<>()).add(dto);
                 }
             }
         } catch (Exception e) {
@@ -144,7 +270,7 @@ public class TimeSeriesDataService {
 
         log.info("[Flux Measurement Query] : {}", flux);
 
-        List<FluxTable> tables = queryApi.query(flux.toString(), influxOrg);
+        List<FluxTable> tables = queryExecutor.query(flux.toString(), influxOrg);
         List<String> result = new ArrayList<>();
         for (FluxTable table : tables) {
             for (FluxRecord record : table.getRecords()) {
@@ -173,7 +299,7 @@ public class TimeSeriesDataService {
 
         flux.append(String.format(" |> keep(columns: [\"%s\"]) |> distinct(column: \"%s\")", tag, tag));
 
-        return InfluxUtil.extractDistinctValues(queryApi, flux.toString(), influxOrg, tag);
+        return InfluxUtil.extractDistinctValues(queryExecutor, flux.toString(), influxOrg, tag);
     }
 
     /**
@@ -196,6 +322,29 @@ public class TimeSeriesDataService {
      * @return ChartDataDto 객체
      */
     public ChartDataDto getChartData(String measurement, String field, Map<String, String> filters, int rangeMinutes) {
+        return getChartData(measurement, field, filters, rangeMinutes, 0);
+    }
+
+    /**
+     * 라인 차트용 시계열 데이터를 조회하고, 시계열(테이블)마다 LTTB 로 다운샘플링합니다.
+     *
+     * @param measurement 측정값
+     * @param field 필드 이름
+     * @param filters 필터 조건
+     * @param rangeMinutes 시간 범위(분)
+     * @param maxPoints 응답 전체 최대 점 개수 (0 이하이면 시계열당 기본 목표 점 개수로 집계)
+     * @return ChartDataDto 객체
+     */
+    public ChartDataDto getChartData(String measurement, String field, Map<String, String> filters,
+                                     int rangeMinutes, int maxPoints) {
+        // ★★★ 최근 구간은 인메모리 저장소에서 응답 ★★★
+        Optional<List<RecentDataStore.RecentSeries>> recent =
+                recentDataStore.query(filters.get("companyDomain"), measurement, field, filters, rangeMinutes);
+        if (recent.isPresent()) {
+            return toChartData(measurement + "_" + field,
+                    aggregateRecent(recent.get(), aggregateWindow(rangeMinutes, maxPoints)), maxPoints);
+        }
+
         StringBuilder flux = new StringBuilder(
                 String.format("from(bucket: \"%s\") |> range(start: -%dm)", bucket, rangeMinutes)
         );
@@ -209,71 +358,172 @@ public class TimeSeriesDataService {
             }
         });
 
+        appendAggregateWindow(flux, rangeMinutes, maxPoints);
         flux.append(" |> sort(columns: [\"_time\"])");
 
-        List<String> labels = new ArrayList<>();      // X축 라벨 (예: 시간)
-        List<Double> data = new ArrayList<>();        // 차트 값
-        List<String> values = new ArrayList<>();      // 영문 value (여기선 의미 없음, 빈 배열로)
-
+        List<List<FluxRecord>> series = new ArrayList<>();
         try {
-            List<FluxTable> tables = queryApi.query(flux.toString(), influxOrg);
-            for (FluxTable table : tables) {
-                for (FluxRecord record : table.getRecords()) {
-                    Instant time = record.getTime();
-                    String label = DateTimeFormatter.ofPattern("HH:mm")
-                            .withZone(ZoneId.systemDefault())
-                            .format(time);
-                    Double value = ((Number) record.getValue()).doubleValue();
+            for (FluxTable table : queryExecutor.query(flux.toString(), influxOrg)) {
+                series.add(table.getRecords());
+            }
+        } catch (Exception e) {
+            log.error("ChartData 쿼리 실패", e);
+        }
+        return toFluxChartData(measurement + "_" + field, series, maxPoints);
+    }
 
-                    labels.add(label);
-                    data.add(value);
+    /**
+     * 여러 차트의 시계열을 한 번에 조회합니다.
+     * <p>
+     * - 최근 구간은 인메모리 저장소에서, 그 외에는 모든 차트 조건을 or 로 묶은 하나의 Flux 쿼리로 조회합니다.<br>
+     * - 결과 테이블(시계열)은 조건에 맞는 차트로 나누어 담습니다.<br>
+     * - 메모리 / InfluxDB 모두 같은 aggregateWindow 간격으로 집계하므로 차트들의 시간 축(labels)이 일치합니다.
+     *
+     * @param companyDomain 처리된 회사 도메인
+     * @param selectors     차트 조건 목록
+     * @param rangeMinutes  시간 범위(분)
+     * @param maxPoints     차트당 최대 점 개수 (0 이하이면 시계열당 기본 목표 점 개수로 집계)
+     * @return selector 순서대로 ChartDataDto
+     */
+    public List<ChartDataDto> getChartDataBatch(String companyDomain, List<ChartSeriesSelector> selectors,
+                                                int rangeMinutes, int maxPoints) {
+        List<ChartDataDto> result = new ArrayList<>(selectors.size());
+        if (selectors.isEmpty()) {
+            return result;
+        }
+
+        // ★★★ 최근 구간은 인메모리 저장소에서 응답 ★★★
+        List<List<RecentDataStore.RecentSeries>> recent = new ArrayList<>(selectors.size());
+        for (ChartSeriesSelector selector : selectors) {
+            Optional<List<RecentDataStore.RecentSeries>> series = recentDataStore.query(companyDomain,
+                    selector.getMeasurement(), selector.resolveField(), selector.toTagFilters(companyDomain), rangeMinutes);
+            if (series.isEmpty()) {
+                break;
+            }
+            recent.add(series.get());
+        }
+        if (recent.size() == selectors.size()) {
+            Duration every = aggregateWindow(rangeMinutes, maxPoints);
+            for (int i = 0; i < selectors.size(); i++) {
+                result.add(toChartData(chartTitle(selectors.get(i)), aggregateRecent(recent.get(i), every), maxPoints));
+            }
+            return result;
+        }
+
+        List<Map<String, String>> selectorFilters = new ArrayList<>(selectors.size());
+        List<String> predicates = new ArrayList<>(selectors.size());
+        for (ChartSeriesSelector selector : selectors) {
+            Map<String, String> filters = selector.toTagFilters(companyDomain);
+            filters.put("_measurement", selector.getMeasurement());
+            filters.put("_field", selector.resolveField());
+            selectorFilters.add(filters);
+            predicates.add(InfluxUtil.toPredicate(filters));
+        }
+
+        StringBuilder flux = new StringBuilder(
+                String.format("from(bucket: \"%s\") |> range(start: -%dm)", bucket, rangeMinutes)
+        );
+        flux.append(String.format(" |> filter(fn: (r) => r[\"companyDomain\"] == \"%s\")", companyDomain));
+        flux.append(String.format(" |> filter(fn: (r) => %s)", String.join(" or ", predicates)));
+        appendAggregateWindow(flux, rangeMinutes, maxPoints);
+        flux.append(" |> sort(columns: [\"_time\"])");
+
+        log.debug("[ChartBatch] Flux query = {}", flux);
+
+        List<List<List<FluxRecord>>> seriesBySelector = new ArrayList<>(selectors.size());
+        for (int i = 0; i < selectors.size(); i++) {
+            seriesBySelector.add(new ArrayList<>());
+        }
+        try {
+            for (FluxTable table : queryExecutor.query(flux.toString(), influxOrg)) {
+                List<FluxRecord> records = table.getRecords();
+                if (records.isEmpty()) {
+                    continue;
+                }
+                for (int i = 0; i < selectorFilters.size(); i++) {
+                    if (InfluxUtil.matchesFilters(records.get(0), selectorFilters.get(i))) {
+                        seriesBySelector.get(i).add(records);
+                    }
                 }
             }
         } catch (Exception e) {
-            log.error("ChartData 쿼리 실패", e);
+            log.error("ChartData 일괄 쿼리 실패", e);
+        }
+
+        for (int i = 0; i < selectors.size(); i++) {
+            result.add(toFluxChartData(chartTitle(selectors.get(i)), seriesBySelector.get(i), maxPoints));
+        }
+        return result;
+    }
+
+    private static String chartTitle(ChartSeriesSelector selector) {
+        return selector.getMeasurement() + "_" + selector.resolveField();
+    }
+
+    /**
+     * 인메모리 시계열 목록을 라인 차트 DTO 로 변환합니다. (시계열마다 LTTB 다운샘플링)
+     */
+    private static ChartDataDto toChartData(String title, List<RecentDataStore.RecentSeries> seriesList, int maxPoints) {
+        DateTimeFormatter labelFormatter = DateTimeFormatter.ofPattern("HH:mm").withZone(ZoneId.systemDefault());
+        List<String> labels = new ArrayList<>();
+        List<Double> data = new ArrayList<>();
+        int seriesLimit = LttbDownsampler.perSeriesLimit(maxPoints, seriesList.size());
+        for (RecentDataStore.RecentSeries series : seriesList) {
+            for (int index : LttbDownsampler.selectIndices(series.times(), series.values(), series.size(),
+                    seriesLimit > 0 ? seriesLimit : series.size())) {
+                labels.add(labelFormatter.format(Instant.ofEpochMilli(series.times()[index])));
+                data.add(series.values()[index]);
+            }
+        }
+        return new ChartDataDto(labels, new ArrayList<>(), title, data);
+    }
+
+    /**
+     * Flux 테이블(시계열)별 레코드 목록을 라인 차트 DTO 로 변환합니다. (시계열마다 LTTB 다운샘플링)
+     */
+    private static ChartDataDto toFluxChartData(String title, List<List<FluxRecord>> seriesList, int maxPoints) {
+        DateTimeFormatter labelFormatter = DateTimeFormatter.ofPattern("HH:mm").withZone(ZoneId.systemDefault());
+        List<String> labels = new ArrayList<>();      // X축 라벨 (예: 시간)
+        List<Double> data = new ArrayList<>();        // 차트 값
+        List<String> values = new ArrayList<>();      // 영문 value (여기선 의미 없음, 빈 배열로)
+
+        int seriesLimit = LttbDownsampler.perSeriesLimit(maxPoints, seriesList.size());
+        for (List<FluxRecord> series : seriesList) {
+            List<FluxRecord> numeric = series.stream()
+                    .filter(record -> record.getTime() != null && record.getValue() instanceof Number)
+                    .toList();
+            List<FluxRecord> records = LttbDownsampler.downsample(numeric,
+                    record -> record.getTime().toEpochMilli(),
+                    record -> ((Number) record.getValue()).doubleValue(),
+                    seriesLimit);
+            for (FluxRecord record : records) {
+                labels.add(labelFormatter.format(record.getTime()));
+                data.add(((Number) record.getValue()).doubleValue());
+            }
         }
         // values는 X축 카테고리/영문값이 없는 경우 빈 배열로 리턴 (혹은 필요에 따라 세팅)
-        return new ChartDataDto(labels, values, measurement + "_" + field, data);
+        return new ChartDataDto(labels, values, title, data);
     }
 
 
     /**
      * 파이 차트용 측정값별 데이터 개수 집계를 반환합니다.
+     * 최근 12시간 개수는 MeasurementDistributionService 의 시간별 버킷 합계로 계산합니다.
      *
      * @param filters 필터 조건
      * @return ChartDataDto 객체
      */
     public ChartDataDto getPieChartData(Map<String, String> filters) {
-        StringBuilder flux = new StringBuilder(
-                String.format("from(bucket: \"%s\") |> range(start: -12h)", bucket)
-        );
-
-        filters.forEach((key, value) -> {
-            if (value != null && !value.isBlank()) {
-                flux.append(String.format(" |> filter(fn: (r) => r[\"%s\"] == \"%s\")", key, value));
-            }
-        });
-
-        flux.append(" |> group(columns: [\"_measurement\"]) |> count()" +
-                " |> keep(columns: [\"_measurement\", \"_value\"])");
-
         List<String> labels = new ArrayList<>(); // 한글
         List<String> values = new ArrayList<>(); // 영문
         List<Double> data = new ArrayList<>();   // 숫자
 
         try {
-            List<FluxTable> tables = queryApi.query(flux.toString(), influxOrg);
-            for (FluxTable table : tables) {
-                for (FluxRecord record : table.getRecords()) {
-                    String measurement = (String) record.getValueByKey("_measurement");
-                    Double count = ((Number) record.getValue()).doubleValue();
-                    String label = translationMap.getOrDefault(measurement, measurement);
-
-                    labels.add(label);        // 한글
-                    values.add(measurement);  // 영문
-                    data.add(count);          // 값
-                }
-            }
+            measurementDistributionService.getCounts(filters).forEach((measurement, count) -> {
+                labels.add(translationMap.getOrDefault(measurement, measurement)); // 한글
+                values.add(measurement);                                            // 영문
+                data.add(count.doubleValue());                                      // 값
+            });
         } catch (Exception e) {
             log.error("PieChart 쿼리 실패", e);
         }
@@ -284,96 +534,120 @@ public class TimeSeriesDataService {
 
     /**
      * 주어진 필터 조건에 맞는 가장 최근의 시계열 데이터 하나를 조회합니다.
-     * InfluxDB에서 시간 역순으로 정렬 후 첫 번째 데이터를 가져옵니다.
+     * 인메모리 저장소 → 최신값 캐시 → InfluxDB last() (1h → 24h → 7d 순으로 구간 확장) 순으로 찾습니다.
      *
      * @param filters 필터 조건 (origin, location, _measurement, _field 등 포함 가능)
      * @return 가장 최근의 TimeSeriesDataDto, 없으면 null
      */
     public TimeSeriesDataDto getLatestTimeSeriesData(Map<String, String> filters) {
-        StringBuilder flux = new StringBuilder(
-                // 적절한 조회 범위 설정 (예: 최근 7일, 너무 짧으면 데이터가 없을 수 있음)
-                String.format("from(bucket: \"%s\") |> range(start: -7d)", bucket)
-        );
+        return latestValueService.getLatest(filters);
+    }
 
-        // 필수 필터 (_measurement, origin, location 등) 적용
-        // 예시: filters 맵에 있는 모든 키-값을 필터로 적용
-        filters.forEach((key, value) -> {
-            if (value != null && !value.isBlank()) {
-                // _measurement, _field는 InfluxDB의 시스템 컬럼이므로 r._measurement, r._field로 접근
-                // 나머지 태그들은 r["tagName"] 형태로 접근
-                if (key.equals("_measurement") || key.equals("_field")) {
-                    flux.append(String.format(" |> filter(fn: (r) => r.%s == \"%s\")", key, value));
-                } else {
-                    flux.append(String.format(" |> filter(fn: (r) => r[\"%s\"] == \"%s\")", key, value));
+    /**
+     * 여러 필터 조건의 최신 데이터를 한 번에 조회합니다. (대시보드 게이지 일괄 조회용)
+     *
+     * @param filtersList 필터 조건 목록
+     * @return 필터 조건 순서대로 최신 데이터 (없으면 null 원소)
+     */
+    public List<TimeSeriesDataDto> getLatestTimeSeriesData(List<Map<String, String>> filtersList) {
+        return latestValueService.getLatestBatch(filtersList);
+    }
+
+    /**
+     * 지정된 기간의 요약 통계(개수, 평균, 최소, 최대, 모표준편차)를 반환합니다.
+     * <p>
+     * 원본 점을 가져오지 않고 InfluxDB 에서 시계열별 count / mean / stddev / min / max 를 집계한 뒤,
+     * 시계열들을 병렬 분산 공식으로 합칩니다. (리포트 기간과 무관하게 시계열 수만큼의 레코드만 전송)
+     *
+     * @param origin      데이터 출처
+     * @param measurement 조회할 _measurement 이름
+     * @param filters     추가 태그 필터
+     * @param startDate   조회 시작 시각
+     * @param endDate     조회 종료 시각
+     * @return 요약 통계 (데이터가 없으면 count 0)
+     */
+    public RunningStatistics getSummaryStatistics(String origin, String measurement, Map<String, String> filters,
+                                                  LocalDateTime startDate, LocalDateTime endDate) {
+        String source = periodSource(origin, measurement, filters, startDate, endDate).toString();
+        StringBuilder flux = new StringBuilder("data = ").append(source);
+        for (String stat : SUMMARY_STATS) {
+            String fn = stat.equals("stddev") ? "stddev(mode: \"population\")" : stat + "()";
+            flux.append(String.format("\ndata |> %s |> set(key: \"stat\", value: \"%s\") |> yield(name: \"%s\")",
+                    fn, stat, stat));
+        }
+
+        log.debug("[SummaryStatistics] Flux query = {}", flux);
+
+        // 시계열(그룹 키) → 통계 이름 → 값
+        Map<String, Map<String, Double>> seriesStats = new HashMap<>();
+        RunningStatistics statistics = new RunningStatistics();
+        try {
+            for (FluxTable table : queryExecutor.query(flux.toString(), influxOrg, QueryPriority.BATCH)) {
+                for (FluxRecord record : table.getRecords()) {
+                    if (!(record.getValue() instanceof Number number)) {
+                        continue;
+                    }
+                    String stat = InfluxUtil.getTagValue(record, "stat");
+                    seriesStats.computeIfAbsent(seriesKey(record), key -> new HashMap<>())
+                            .put(stat, number.doubleValue());
                 }
             }
-        });
+        } catch (Exception e) {
+            log.error("SummaryStatistics query 실패 - measurement: {}, filters: {}", measurement, filters, e);
+            return statistics;
+        }
 
-        // 최신 데이터를 가져오기 위해 시간 역순 정렬 후 1개만 선택
-        flux.append(" |> sort(columns: [\"_time\"], desc: true)");
-        flux.append(" |> limit(n:1)");
-        // 필요한 컬럼만 유지 (선택 사항, 성능에 영향 줄 수 있음)
-        // flux.append(" |> keep(columns: [\"_time\", \"_value\", \"_measurement\", \"location\", \"origin\", ...])");
+        seriesStats.values().forEach(stats -> statistics.merge(
+                stats.getOrDefault("count", 0.0).longValue(),
+                stats.getOrDefault("mean", 0.0),
+                stats.getOrDefault("stddev", 0.0),
+                stats.getOrDefault("min", 0.0),
+                stats.getOrDefault("max", 0.0)));
+        return statistics;
+    }
 
+    /**
+     * 지정된 기간의 앞부분 데이터 최대 limit 개를 반환합니다. (리포트 샘플용, 정렬 없이 limit 만 적용)
+     *
+     * @param limit 최대 개수
+     * @return 시계열 데이터 샘플
+     */
+    public List<TimeSeriesDataDto> getSampleTimeSeriesData(String origin, String measurement, Map<String, String> filters,
+                                                           LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        StringBuilder flux = periodSource(origin, measurement, filters, startDate, endDate);
+        flux.append(String.format(" |> limit(n: %d)", limit));
 
-        log.debug("[LatestData] Flux query = {}", flux.toString());
+        log.debug("[SampleDataForPeriod] Flux query = {}", flux);
 
-        List<TimeSeriesDataDto> results = new ArrayList<>();
+        List<TimeSeriesDataDto> samples = new ArrayList<>();
         try {
-            List<FluxTable> tables = queryApi.query(flux.toString(), influxOrg);
-            for (FluxTable table : tables) {
+            for (FluxTable table : queryExecutor.query(flux.toString(), influxOrg, QueryPriority.BATCH)) {
                 for (FluxRecord record : table.getRecords()) {
-                    Instant time = record.getTime();
-                    // _value의 실제 타입에 따라 캐스팅 필요
-                    Object rawValue = record.getValue();
-                    double value = 0.0;
-                    if (rawValue instanceof Number) {
-                        value = ((Number) rawValue).doubleValue();
-                    } else if (rawValue != null) {
-                        // 다른 타입일 경우 처리 (예: String.valueOf(rawValue) 후 Double.parseDouble)
-                        log.warn("Unexpected value type for _value: " + rawValue.getClass().getName());
+                    if (samples.size() >= limit) {
+                        return samples;
                     }
-
-                    String measurement = InfluxUtil.getTagValue(record, "_measurement"); // getValueByKey 사용 가능
-                    String location = InfluxUtil.getTagValue(record, "location");
-                    String origin = InfluxUtil.getTagValue(record, "origin");
-
-                    // 모든 필터 태그 값을 가져오려면 filters.keySet()을 순회하며 InfluxUtil.getTagValue 사용
+                    if (!(record.getValue() instanceof Number number)) {
+                        continue;
+                    }
+                    String recordLocation = InfluxUtil.getTagValue(record, "location");
                     Map<String, String> recordTags = new HashMap<>();
-                    recordTags.put("origin", origin);
-                    recordTags.put("location", location);
-                    // 필요한 다른 태그들도 추가
-
-                    results.add(new TimeSeriesDataDto(time, location, value, measurement, recordTags));
+                    recordTags.put("origin", InfluxUtil.getTagValue(record, "origin"));
+                    recordTags.put("location", recordLocation);
+                    samples.add(new TimeSeriesDataDto(record.getTime(), recordLocation, number.doubleValue(),
+                            InfluxUtil.getTagValue(record, "_measurement"), recordTags));
                 }
             }
         } catch (Exception e) {
-            log.error("LatestData query 실패", e);
-            // 실패 시 null 또는 빈 Optional 반환 등 처리
-            return null;
+            log.error("SampleDataForPeriod query 실패 - measurement: {}, filters: {}", measurement, filters, e);
         }
-
-        return results.isEmpty() ? null : results.get(0);
+        return samples;
     }
 
     /**
-     * 지정된 기간(startDate ~ endDate) 동안 특정 origin, measurement 및 필터 조건에 맞는
-     * 모든 시계열 데이터 포인트를 반환합니다.
-     *
-     * @param origin        데이터 출처 (Flux 쿼리에서 필터링)
-     * @param measurement   조회할 _measurement 이름 (Flux 쿼리에서 필터링)
-     * @param filters       추가적인 태그 필터 (예: location, deviceId, gatewayId 등)
-     * @param startDate     조회 시작 시각 (포함)
-     * @param endDate       조회 종료 시각 (미포함 또는 포함, Flux 쿼리 range 특성 고려)
-     * @return 해당 기간의 TimeSeriesDataDto 리스트
+     * 기간 조회 공통 Flux (from → range → origin / _measurement / _field / 태그 필터)
      */
-    public List<TimeSeriesDataDto> getRawTimeSeriesData(
-            String origin,
-            String measurement,
-            Map<String, String> filters,
-            LocalDateTime startDate,
-            LocalDateTime endDate
-    ) {
+    private StringBuilder periodSource(String origin, String measurement, Map<String, String> filters,
+                                       LocalDateTime startDate, LocalDateTime endDate) {
         // startDate와 endDate를 InfluxDB가 이해하는 RFC3339 형식의 문자열로 변환
         String startDateTimeStr = startDate.atZone(ZoneId.of("Asia/Seoul")).toInstant().toString();
         String endDateTimeStr = endDate.atZone(ZoneId.of("Asia/Seoul")).toInstant().toString();
@@ -394,7 +668,6 @@ public class TimeSeriesDataService {
         // field는 보통 "value"로 고정되거나, 필요시 필터 추가
         flux.append(" |> filter(fn: (r) => r[\"_field\"] == \"value\")");
 
-
         // 추가 태그 필터 적용 (filters Map 사용)
         if (filters != null) {
             filters.forEach((key, value) -> {
@@ -406,47 +679,16 @@ public class TimeSeriesDataService {
                 }
             });
         }
+        return flux;
+    }
 
-        // 필요한 컬럼만 유지 (기존 getTimeSeriesData와 유사하게)
-        List<String> keepColumns = new ArrayList<>(List.of("_time", "_field", "_value", "_measurement", "origin", "location"));
-        if (filters != null) {
-            filters.keySet().forEach(k -> {
-                if (!keepColumns.contains(k)) keepColumns.add(k);
-            });
-        }
-        flux.append(" |> keep(columns: [\"" + String.join("\", \"", keepColumns) + "\"])");
-        flux.append(" |> sort(columns: [\"_time\"])");
-
-        log.debug("[RawDataForPeriod] Flux query = {}", flux.toString());
-
-        List<TimeSeriesDataDto> resultList = new ArrayList<>();
-        try {
-            List<FluxTable> tables = queryApi.query(flux.toString(), influxOrg);
-            for (FluxTable table : tables) {
-                for (FluxRecord record : table.getRecords()) {
-                    Instant time = record.getTime();
-                    double value = ((Number) record.getValue()).doubleValue(); // _value 타입 확인 필요
-                    String recordMeasurement = (String) record.getValueByKey("_measurement");
-                    String recordLocation = InfluxUtil.getTagValue(record, "location"); // InfluxUtil 사용
-                    String recordOrigin = InfluxUtil.getTagValue(record, "origin");
-
-                    Map<String, String> recordTags = new HashMap<>();
-                    recordTags.put("origin", recordOrigin);
-                    recordTags.put("location", recordLocation);
-                    // filters Map의 key들을 사용하여 다른 태그들도 가져와 recordTags에 추가 가능
-                    if (filters != null) {
-                        filters.keySet().forEach(tagKey ->
-                                recordTags.put(tagKey, InfluxUtil.getTagValue(record, tagKey))
-                        );
-                    }
-
-                    resultList.add(new TimeSeriesDataDto(time, recordLocation, value, recordMeasurement, recordTags));
-                }
-            }
-        } catch (Exception e) {
-            log.error("RawTimeSeriesDataForPeriod query 실패 - measurement: {}, filters: {}", measurement, filters, e);
-        }
-        return resultList;
+    /**
+     * 집계 레코드의 시계열 식별 키 (_value, 시간, 결과 메타 컬럼 제외)
+     */
+    private static String seriesKey(FluxRecord record) {
+        Map<String, Object> columns = new TreeMap<>(record.getValues());
+        columns.keySet().removeAll(Set.of("_value", "_time", "_start", "_stop", "result", "table", "stat"));
+        return columns.toString();
     }
 
     /**
@@ -501,7 +743,7 @@ public class TimeSeriesDataService {
         String chartTitle = measurement + " (" + aggregationInterval + " 집계)"; // 차트 제목 개선 가능
 
         try {
-            List<FluxTable> tables = queryApi.query(flux.toString(), influxOrg);
+            List<FluxTable> tables = queryExecutor.query(flux.toString(), influxOrg, QueryPriority.BATCH);
             for (FluxTable table : tables) {
                 for (FluxRecord record : table.getRecords()) {
                     Instant time = record.getTime();
@@ -534,10 +776,44 @@ public class TimeSeriesDataService {
                                                    String measurement,
                                                    String gatewayId,
                                                    int rangeMinutes) {
+        return getRealtimeData(companyDomain, measurement, gatewayId, rangeMinutes, 0);
+    }
+
+    /**
+     * 실시간 데이터를 조회하고, 시계열(테이블)마다 LTTB 로 다운샘플링합니다.
+     *
+     * @param maxPoints 응답 전체 최대 점 개수 (0 이하이면 시계열당 기본 목표 점 개수로 집계)
+     */
+    public List<TimeSeriesDataDto> getRealtimeData(String companyDomain,
+                                                   String measurement,
+                                                   String gatewayId,
+                                                   int rangeMinutes,
+                                                   int maxPoints) {
 
         log.info("실시간 데이터 조회 시작 - companyDomain: {}, measurement: {}, gatewayId: {}, rangeMinutes: {}",
                 companyDomain, measurement, gatewayId, rangeMinutes);
 
+        // ★★★ 최근 구간은 인메모리 저장소에서 응답 ★★★
+        Map<String, String> tagFilters = new HashMap<>();
+        tagFilters.put("companyDomain", companyDomain);
+        tagFilters.put("gatewayId", gatewayId);
+        Optional<List<RecentDataStore.RecentSeries>> recent =
+                recentDataStore.query(companyDomain, measurement, "value", tagFilters, rangeMinutes);
+        if (recent.isPresent()) {
+            int seriesLimit = LttbDownsampler.perSeriesLimit(maxPoints, recent.get().size());
+            List<TimeSeriesDataDto> resultList = new ArrayList<>();
+            for (RecentDataStore.RecentSeries series : aggregateRecent(recent.get(), aggregateWindow(rangeMinutes, maxPoints))) {
+                Map<String, String> tags = new HashMap<>();
+                tags.put("origin", series.tags().getOrDefault("origin", ""));
+                tags.put("location", series.tags().getOrDefault("location", ""));
+                tags.put("gatewayId", series.tags().getOrDefault("gatewayId", ""));
+                tags.put("companyDomain", series.tags().getOrDefault("companyDomain", ""));
+                resultList.addAll(downsample(toDtos(series, tags), seriesLimit));
+            }
+            log.debug("실시간 데이터 메모리 응답 - 결과: {}건", resultList.size());
+            return resultList;
+        }
+
         StringBuilder flux = new StringBuilder(
                 String.format("from(bucket: \"%s\")", bucket)
         );
@@ -547,17 +823,20 @@ public class TimeSeriesDataService {
                 .append(String.format(" |> filter(fn: (r) => r[\"companyDomain\"] == \"%s\")", companyDomain))
                 .append(String.format(" |> filter(fn: (r) => r[\"_measurement\"] == \"%s\")", measurement))
                 .append(String.format(" |> filter(fn: (r) => r[\"gatewayId\"] == \"%s\")", gatewayId))
-                .append(" |> filter(fn: (r) => r[\"_field\"] == \"value\")")
-                .append(" |> sort(columns: [\"_time\"])");
+                .append(" |> filter(fn: (r) => r[\"_field\"] == \"value\")");
+        appendAggregateWindow(flux, rangeMinutes, maxPoints);
+        flux.append(" |> sort(columns: [\"_time\"])");
 
         log.debug("InfluxDB 쿼리: {}", flux.toString());
 
         List<TimeSeriesDataDto> resultList = new ArrayList<>();
 
         try {
-            List<FluxTable> tables = queryApi.query(flux.toString(), influxOrg);
+            List<FluxTable> tables = queryExecutor.query(flux.toString(), influxOrg);
+            int seriesLimit = LttbDownsampler.perSeriesLimit(maxPoints, tables.size());
 
             for (FluxTable table : tables) {
+                List<TimeSeriesDataDto> series = new ArrayList<>();
                 for (FluxRecord record : table.getRecords()) {
                     Instant time = record.getTime();
                     double value = ((Number) record.getValue()).doubleValue();
@@ -571,8 +850,9 @@ public class TimeSeriesDataService {
                     tags.put("gatewayId", InfluxUtil.getTagValue(record, "gatewayId"));
                     tags.put("companyDomain", InfluxUtil.getTagValue(record, "companyDomain"));
 
-                    resultList.add(new TimeSeriesDataDto(time, location, value, recordMeasurement, tags));
+                    series.add(new TimeSeriesDataDto(time, location, value, recordMeasurement, tags));
                 }
+                resultList.addAll(downsample(series, seriesLimit));
             }
 
             log.info("실시간 데이터 조회 완료 - 결과: {}건", resultList.size());
@@ -584,4 +864,78 @@ public class TimeSeriesDataService {
 
         return resultList;
     }
-}
\ No newline at end of file
+
+    /**
+     * 시계열당 약 maxPoints 개(지정하지 않으면 기본 목표 점 개수)가 되도록 InfluxDB 에서 먼저 평균 집계합니다.
+     * 집계 간격은 AggregationWindowPlanner 로 정하고, maxPoints 가 지정된 경우 남는 점은 LTTB 가 모양을 보존하며 줄입니다.
+     */
+    private void appendAggregateWindow(StringBuilder flux, int rangeMinutes, int maxPoints) {
+        Duration every = aggregateWindow(rangeMinutes, maxPoints);
+        if (every == null) {
+            return;
+        }
+        flux.append(String.format(" |> aggregateWindow(every: %s, fn: mean, createEmpty: false)",
+                AggregationWindowPlanner.toFlux(every)));
+    }
+
+    /**
+     * 구간과 목표 점 개수로 정한 집계 간격 (목표 점 개수가 0 이하이면 null - 집계하지 않음)
+     */
+    private Duration aggregateWindow(int rangeMinutes, int maxPoints) {
+        int targetPoints = targetPoints(maxPoints);
+        return targetPoints > 0 ? AggregationWindowPlanner.plan(Duration.ofMinutes(rangeMinutes), targetPoints) : null;
+    }
+
+    /**
+     * 인메모리 시계열을 InfluxDB 경로의 aggregateWindow 와 같은 간격으로 평균 집계합니다. (every 가 null 이면 그대로)
+     */
+    private static List<RecentDataStore.RecentSeries> aggregateRecent(List<RecentDataStore.RecentSeries> seriesList,
+                                                                      Duration every) {
+        if (every == null) {
+            return seriesList;
+        }
+        long stopMillis = System.currentTimeMillis();
+        return seriesList.stream()
+                .map(series -> series.aggregateWindow(every.toMillis(), stopMillis))
+                .toList();
+    }
+
+    /**
+     * 집계 목표 점 개수 (요청한 maxPoints, 없으면 기본값)
+     */
+    private int targetPoints(int maxPoints) {
+        return maxPoints > 0 ? maxPoints : defaultTargetPoints;
+    }
+
+    /**
+     * CAP 계획이면 시계열(테이블)마다 최근 perSeriesLimit 개만 남깁니다. (정렬 이후에 호출)
+     */
+    private static void appendPerSeriesCap(StringBuilder flux, QueryCostGuard.QueryPlan plan) {
+        if (plan.action() == QueryCostGuard.Action.CAP) {
+            flux.append(String.format(" |> tail(n: %d)", plan.perSeriesLimit()));
+        }
+    }
+
+    /**
+     * 인메모리 시계열을 DTO 목록으로 변환합니다. (태그 맵은 모든 점이 공유)
+     */
+    private static List<TimeSeriesDataDto> toDtos(RecentDataStore.RecentSeries series, Map<String, String> tags) {
+        String location = series.tags().getOrDefault("location", "");
+        List<TimeSeriesDataDto> dtos = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            dtos.add(new TimeSeriesDataDto(Instant.ofEpochMilli(series.times()[i]), location,
+                    series.values()[i], series.measurement(), tags));
+        }
+        return dtos;
+    }
+
+    /**
+     * 하나의 시계열을 시간/값 기준 LTTB 로 다운샘플링합니다.
+     */
+    private List<TimeSeriesDataDto> downsample(List<TimeSeriesDataDto> series, int maxPoints) {
+        return LttbDownsampler.downsample(series,
+                dto -> dto.getTime().toEpochMilli(),
+                TimeSeriesDataDto::getValue,
+                maxPoints);
+    }
+}
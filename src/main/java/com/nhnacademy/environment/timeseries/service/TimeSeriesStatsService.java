@@ -1,15 +1,24 @@
 package com.nhnacademy.environment.timeseries.service;
 
-import com.influxdb.client.QueryApi;
+import com.nhnacademy.environment.timeseries.dto.DeviceDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.regex.Pattern;
 
 /**
@@ -20,9 +29,48 @@ import java.util.regex.Pattern;
 @Slf4j
 public class TimeSeriesStatsService {
 
-    private final QueryApi queryApi;
-    private final String bucket;
-    private final String influxOrg;
+    private final Executor statsTaskExecutor;
+    private final DeviceInventoryService deviceInventoryService;
+    private final DeviceCountSketchService deviceCountSketchService;
+    private final TrafficAccumulatorService trafficAccumulatorService;
+
+    /**
+     * 회사별 대시보드 통계 스냅샷
+     * Key: 처리된 companyDomain, Value: 마지막으로 집계된 통계
+     */
+    private final Map<String, DashboardSnapshot> dashboardSnapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 회사별 마지막 스냅샷 조회 시각 (오래 조회되지 않은 회사는 갱신 대상에서 제외)
+     */
+    private final Map<String, Instant> snapshotLastReadAt = new ConcurrentHashMap<>();
+
+    /**
+     * 회사별 첫 스냅샷 집계 (동시 첫 조회는 하나의 집계 결과를 공유 - single-flight)
+     */
+    private final Map<String, CompletableFuture<DashboardSnapshot>> initialLoads = new ConcurrentHashMap<>();
+
+    @Value("${stats.snapshot.idle-minutes:60}")
+    private long snapshotIdleMinutes = 60;
+
+    @Value("${stats.distinct-count.mode:EXACT}")
+    private CountMode defaultCountMode = CountMode.EXACT;
+
+    /**
+     * 고유 장비 개수 계산 방식
+     * EXACT: 30일 인벤토리 기반 정확 계산 (감사용)
+     * APPROXIMATE: 일자별 HyperLogLog 스케치 병합 (스케치 준비 전에는 EXACT 로 대체)
+     */
+    public enum CountMode {
+        EXACT, APPROXIMATE
+    }
+
+    /**
+     * 고유 장비 개수와 실제로 사용한 계산 방식
+     * (APPROXIMATE 를 요청해도 스케치가 준비되지 않았으면 mode 는 EXACT)
+     */
+    public record DeviceCount(int count, CountMode mode) {
+    }
 
     // ★★★ IP 주소 패턴 정규식 ★★★
     private static final Pattern IP_PATTERN = Pattern.compile(
@@ -30,12 +78,20 @@ public class TimeSeriesStatsService {
     );
 
     // 수동으로 생성자 작성
-    public TimeSeriesStatsService(QueryApi queryApi,
-                                  @Qualifier("influxBucket") String bucket,
-                                  @Qualifier("influxOrganization") String influxOrg) {
-        this.queryApi = queryApi;
-        this.bucket = bucket;
-        this.influxOrg = influxOrg;
+    public TimeSeriesStatsService(@Qualifier("statsTaskExecutor") Executor statsTaskExecutor,
+                                  DeviceInventoryService deviceInventoryService,
+                                  DeviceCountSketchService deviceCountSketchService,
+                                  TrafficAccumulatorService trafficAccumulatorService) {
+        this.statsTaskExecutor = statsTaskExecutor;
+        this.deviceInventoryService = deviceInventoryService;
+        this.deviceCountSketchService = deviceCountSketchService;
+        this.trafficAccumulatorService = trafficAccumulatorService;
+    }
+
+    /**
+     * 대시보드 통계 스냅샷 (집계 결과 + 집계 시각)
+     */
+    private record DashboardSnapshot(Map<String, Object> stats, Instant refreshedAt) {
     }
 
     /**
@@ -75,134 +131,88 @@ public class TimeSeriesStatsService {
      * 서버 개수 조회 (server_resource_data location의 deviceId)
      */
     public int countUniqueServers(String companyDomain) {
-        String processedDomain = processCompanyDomain(companyDomain);
-
-        String flux = String.format(
-                "from(bucket: \"%s\") " +
-                        "|> range(start: -30d) " +
-                        "|> filter(fn: (r) => r[\"companyDomain\"] == \"%s\") " +
-                        "|> filter(fn: (r) => r[\"origin\"] == \"server_data\") " +
-                        "|> filter(fn: (r) => r[\"location\"] == \"server_resource_data\") " + // ★★★ 서버 location ★★★
-                        "|> filter(fn: (r) => r[\"deviceId\"] != \"\") " +
-                        "|> keep(columns: [\"deviceId\"]) " +
-                        "|> group() " +
-                        "|> distinct(column: \"deviceId\") " +
-                        "|> count()",
-                bucket, processedDomain
-        );
-
-        log.debug("서버 개수 Flux 쿼리 (원본: {}, 처리됨: {}): {}", companyDomain, processedDomain, flux);
-
-        try {
-            List<Long> results = queryApi.query(flux, influxOrg).stream()
-                    .flatMap(table -> table.getRecords().stream())
-                    .map(record -> {
-                        Object value = record.getValue();
-                        if (value instanceof Number) {
-                            return ((Number) value).longValue();
-                        }
-                        return 0L;
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-
-            int count = results.isEmpty() ? 0 : results.get(0).intValue();
-            log.info("고유 서버 개수: {} (원본: {}, 처리됨: {})", count, companyDomain, processedDomain);
-
-            return count;
+        return countUniqueServers(companyDomain, defaultCountMode).count();
+    }
 
-        } catch (Exception e) {
-            log.error("서버 개수 조회 실패 - companyDomain: {} (처리됨: {})", companyDomain, processedDomain, e);
-            return 0;
-        }
+    /**
+     * 서버 개수 조회 (계산 방식 지정)
+     * 반환값의 mode 는 요청한 방식이 아니라 실제로 사용한 방식입니다.
+     */
+    public DeviceCount countUniqueServers(String companyDomain, CountMode mode) {
+        String processedDomain = processCompanyDomain(companyDomain);
+        OptionalLong estimate = estimateCount(processedDomain, DeviceCountSketchService.DeviceClass.SERVER, mode);
+        DeviceCount result = estimate.isPresent()
+                ? new DeviceCount((int) estimate.getAsLong(), CountMode.APPROXIMATE)
+                : new DeviceCount(countServers(deviceInventoryService.getInventory(processedDomain)), CountMode.EXACT);
+        log.info("고유 서버 개수: {} (원본: {}, 처리됨: {}, 방식: {})", result.count(), companyDomain, processedDomain,
+                result.mode());
+        return result;
     }
 
     /**
      * 센서 개수 조회 (server_resource_data가 아닌 모든 location의 deviceId)
      */
     public int countUniqueSensors(String companyDomain) {
-        String processedDomain = processCompanyDomain(companyDomain);
+        return countUniqueSensors(companyDomain, defaultCountMode).count();
+    }
 
-        String flux = String.format(
-                "from(bucket: \"%s\") " +
-                        "|> range(start: -30d) " +
-                        "|> filter(fn: (r) => r[\"companyDomain\"] == \"%s\") " +
-                        "|> filter(fn: (r) => r[\"origin\"] == \"server_data\") " +
-                        "|> filter(fn: (r) => r[\"location\"] != \"server_resource_data\") " + // ★★★ 서버가 아닌 location ★★★
-                        "|> filter(fn: (r) => r[\"location\"] != \"service_resource_data\") " + // ★★★ 서비스도 아닌 location ★★★
-                        "|> filter(fn: (r) => r[\"deviceId\"] != \"\") " +
-                        "|> keep(columns: [\"deviceId\"]) " +
-                        "|> group() " +
-                        "|> distinct(column: \"deviceId\") " +
-                        "|> count()",
-                bucket, processedDomain
-        );
-
-        log.debug("센서 개수 Flux 쿼리 (원본: {}, 처리됨: {}): {}", companyDomain, processedDomain, flux);
+    /**
+     * 센서 개수 조회 (계산 방식 지정)
+     * 반환값의 mode 는 요청한 방식이 아니라 실제로 사용한 방식입니다.
+     */
+    public DeviceCount countUniqueSensors(String companyDomain, CountMode mode) {
+        String processedDomain = processCompanyDomain(companyDomain);
+        OptionalLong estimate = estimateCount(processedDomain, DeviceCountSketchService.DeviceClass.SENSOR, mode);
+        DeviceCount result = estimate.isPresent()
+                ? new DeviceCount((int) estimate.getAsLong(), CountMode.APPROXIMATE)
+                : new DeviceCount(countSensors(deviceInventoryService.getInventory(processedDomain)), CountMode.EXACT);
+        log.info("고유 센서 개수: {} (원본: {}, 처리됨: {}, 방식: {})", result.count(), companyDomain, processedDomain,
+                result.mode());
+        return result;
+    }
 
-        try {
-            List<Long> results = queryApi.query(flux, influxOrg).stream()
-                    .flatMap(table -> table.getRecords().stream())
-                    .map(record -> {
-                        Object value = record.getValue();
-                        if (value instanceof Number) {
-                            return ((Number) value).longValue();
-                        }
-                        return 0L;
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-
-            int count = results.isEmpty() ? 0 : results.get(0).intValue();
-            log.info("고유 센서 개수: {} (원본: {}, 처리됨: {})", count, companyDomain, processedDomain);
-
-            return count;
+    /**
+     * 아웃바운드 트래픽 계산 (최근 24시간)
+     * 장비별 시간 슬롯 누적기에서 합산하므로 호출마다 24시간을 다시 조회하지 않습니다.
+     */
+    public Map<String, Object> calculateOutboundTraffic(String companyDomain) {
+        return calculateTraffic(companyDomain, TrafficAccumulatorService.Direction.OUTBOUND);
+    }
 
-        } catch (Exception e) {
-            log.error("센서 개수 조회 실패 - companyDomain: {} (처리됨: {})", companyDomain, processedDomain, e);
-            return 0;
-        }
+    /**
+     * 인바운드 트래픽 계산 (최근 24시간)
+     */
+    public Map<String, Object> calculateInboundTraffic(String companyDomain) {
+        return calculateTraffic(companyDomain, TrafficAccumulatorService.Direction.INBOUND);
     }
 
     /**
-     * 아웃바운드 트래픽 계산 (검색 결과 [4] Proxmox 패턴 적용)
+     * 장비별 트래픽 조회 (최근 24시간, 많은 순)
+     *
+     * @param companyDomain 회사 도메인
+     * @param direction     트래픽 방향
+     * @return deviceId, totalBytes, totalMB 목록
      */
-    public Map<String, Object> calculateOutboundTraffic(String companyDomain) {
+    public List<Map<String, Object>> getTrafficByDevice(String companyDomain, TrafficAccumulatorService.Direction direction) {
         String processedDomain = processCompanyDomain(companyDomain);
 
-        // ★★★ 검색 결과 [4] LAST - FIRST 패턴 적용 ★★★
-        String flux = String.format(
-                "from(bucket: \"%s\") " +
-                        "|> range(start: -24h) " +
-                        "|> filter(fn: (r) => r[\"companyDomain\"] == \"%s\") " +
-                        "|> filter(fn: (r) => r[\"origin\"] == \"server_data\") " +
-                        "|> filter(fn: (r) => r[\"location\"] == \"server_resource_data\") " +
-                        "|> filter(fn: (r) => r[\"gatewayId\"] == \"net\") " +
-                        "|> filter(fn: (r) => r[\"_measurement\"] == \"bytes_sent\") " + // 아웃바운드
-                        "|> filter(fn: (r) => r[\"_field\"] == \"value\") " +
-                        "|> group(columns: [\"deviceId\"]) " +
-                        "|> aggregateWindow(every: 1h, fn: last, createEmpty: false) " +
-                        "|> difference() " + // 검색 결과 [3] 누적값 차이 계산
-                        "|> sum()", // 24시간 총합
-                bucket, processedDomain
-        );
-
-        log.debug("아웃바운드 트래픽 Flux 쿼리: {}", flux);
+        return trafficAccumulatorService.getBytesByDevice(processedDomain, direction).entrySet().stream()
+                .map(entry -> {
+                    Map<String, Object> device = new HashMap<>();
+                    device.put("deviceId", entry.getKey());
+                    device.put("totalBytes", entry.getValue().longValue());
+                    device.put("totalMB", Math.round(entry.getValue() / (1024.0 * 1024.0) * 100.0) / 100.0);
+                    return device;
+                })
+                .toList();
+    }
+
+    private Map<String, Object> calculateTraffic(String companyDomain, TrafficAccumulatorService.Direction direction) {
+        String processedDomain = processCompanyDomain(companyDomain);
+        String measurement = direction.getMeasurement();
 
         try {
-            List<Double> results = queryApi.query(flux, influxOrg).stream()
-                    .flatMap(table -> table.getRecords().stream())
-                    .map(record -> {
-                        Object value = record.getValue();
-                        if (value instanceof Number) {
-                            return ((Number) value).doubleValue();
-                        }
-                        return 0.0;
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-
-            double totalBytes = results.stream().mapToDouble(Double::doubleValue).sum();
+            double totalBytes = trafficAccumulatorService.getTotalBytes(processedDomain, direction);
 
             // ★★★ 바이트를 MB로 변환 ★★★
             double totalMB = totalBytes / (1024.0 * 1024.0);
@@ -212,22 +222,22 @@ public class TimeSeriesStatsService {
             trafficData.put("totalMB", Math.round(totalMB * 100.0) / 100.0);
             trafficData.put("formattedValue", String.format("%.1f MB", totalMB));
             trafficData.put("period", "24h");
-            trafficData.put("measurement", "bytes_sent");
+            trafficData.put("measurement", measurement);
             trafficData.put("success", true);
 
-            log.info("아웃바운드 트래픽 계산 완료 - {} bytes ({} MB)", (long) totalBytes, totalMB);
+            log.info("{} 트래픽 계산 완료 - {} bytes ({} MB)", direction, (long) totalBytes, totalMB);
 
             return trafficData;
 
         } catch (Exception e) {
-            log.error("아웃바운드 트래픽 계산 실패", e);
+            log.error("{} 트래픽 계산 실패", direction, e);
 
             return Map.of(
                     "totalBytes", 0L,
                     "totalMB", 0.0,
                     "formattedValue", "0.0 MB",
                     "period", "24h",
-                    "measurement", "bytes_sent",
+                    "measurement", measurement,
                     "success", false,
                     "error", true
             );
@@ -238,84 +248,220 @@ public class TimeSeriesStatsService {
      * 고유 서비스 개수 조회 (gatewayId 기준)
      */
     public int countUniqueServices(String companyDomain) {
+        return countUniqueServices(companyDomain, defaultCountMode).count();
+    }
+
+    /**
+     * 서비스 개수 조회 (계산 방식 지정)
+     * 반환값의 mode 는 요청한 방식이 아니라 실제로 사용한 방식입니다.
+     */
+    public DeviceCount countUniqueServices(String companyDomain, CountMode mode) {
+        String processedDomain = processCompanyDomain(companyDomain);
+        OptionalLong estimate = estimateCount(processedDomain, DeviceCountSketchService.DeviceClass.SERVICE, mode);
+        DeviceCount result = estimate.isPresent()
+                ? new DeviceCount((int) estimate.getAsLong(), CountMode.APPROXIMATE)
+                : new DeviceCount(countServices(deviceInventoryService.getInventory(processedDomain)), CountMode.EXACT);
+        log.info("고유 서비스 개수: {} (원본: {}, 처리됨: {}, 방식: {})", result.count(), companyDomain, processedDomain,
+                result.mode());
+        return result;
+    }
+
+    /**
+     * 장비 목록 조회 (인벤토리 기반)
+     *
+     * @param companyDomain 회사 도메인
+     * @param location      location 필터 (null 이면 전체)
+     * @return 고유 (location, deviceId, gatewayId) 목록
+     */
+    public List<DeviceDto> getDeviceList(String companyDomain, String location) {
+        List<DeviceDto> inventory = deviceInventoryService.getInventory(processCompanyDomain(companyDomain));
+        if (location == null || location.isBlank()) {
+            return inventory;
+        }
+        return inventory.stream()
+                .filter(device -> location.equals(device.getLocation()))
+                .toList();
+    }
+
+    /**
+     * APPROXIMATE 모드이고 스케치가 준비되었으면 추정치를 반환합니다.
+     */
+    private OptionalLong estimateCount(String processedDomain, DeviceCountSketchService.DeviceClass deviceClass,
+                                       CountMode mode) {
+        if ((mode != null ? mode : defaultCountMode) != CountMode.APPROXIMATE) {
+            return OptionalLong.empty();
+        }
+        return deviceCountSketchService.estimate(processedDomain, deviceClass);
+    }
+
+    private int countServers(List<DeviceDto> inventory) {
+        return (int) inventory.stream()
+                .filter(DeviceInventoryService::isServer)
+                .map(DeviceDto::getDeviceId)
+                .distinct()
+                .count();
+    }
+
+    private int countSensors(List<DeviceDto> inventory) {
+        return (int) inventory.stream()
+                .filter(DeviceInventoryService::isSensor)
+                .map(DeviceDto::getDeviceId)
+                .distinct()
+                .count();
+    }
+
+    private int countServices(List<DeviceDto> inventory) {
+        return (int) inventory.stream()
+                .filter(DeviceInventoryService::isService)
+                .map(DeviceDto::getGatewayId)
+                .distinct()
+                .count();
+    }
+
+    /**
+     * 통합 대시보드 통계 조회 (스냅샷 기반)
+     * 백그라운드에서 주기적으로 갱신되는 스냅샷을 반환하며, 스냅샷이 없으면 즉시 집계합니다.
+     * 조회 시각을 먼저 기록하므로 첫 집계가 실패해도 다음 주기 갱신에서 다시 시도합니다.
+     */
+    public Map<String, Object> getDashboardStats(String companyDomain) {
         String processedDomain = processCompanyDomain(companyDomain);
+        snapshotLastReadAt.put(processedDomain, Instant.now());
+
+        DashboardSnapshot snapshot = dashboardSnapshots.get(processedDomain);
+        if (snapshot == null) {
+            snapshot = loadInitialSnapshot(processedDomain);
+        }
+
+        Map<String, Object> stats = new HashMap<>(snapshot.stats());
+        stats.put("companyDomain", companyDomain);
+        stats.put("snapshotAt", LocalDateTime.ofInstant(snapshot.refreshedAt(), ZoneId.systemDefault()));
+        stats.put("snapshotAgeSeconds", Duration.between(snapshot.refreshedAt(), Instant.now()).toSeconds());
+        return stats;
+    }
+
+    /**
+     * 조회된 적 있는 회사들의 대시보드 통계 스냅샷을 주기적으로 갱신합니다.
+     * 일정 시간 이상 조회되지 않은 회사는 스냅샷을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${stats.snapshot.refresh-ms:300000}",
+            initialDelayString = "${stats.snapshot.refresh-ms:300000}")
+    public void refreshDashboardSnapshots() {
+        Instant idleLimit = Instant.now().minus(Duration.ofMinutes(snapshotIdleMinutes));
+        snapshotLastReadAt.entrySet().removeIf(entry -> {
+            if (entry.getValue().isBefore(idleLimit)) {
+                dashboardSnapshots.remove(entry.getKey());
+                log.info("대시보드 통계 스냅샷 제거 (장시간 미조회) - companyDomain: {}", entry.getKey());
+                return true;
+            }
+            return false;
+        });
+
+        // ★★★ 첫 집계에 실패해 스냅샷이 없는 회사도 조회 기록이 있으면 다시 집계 ★★★
+        for (String processedDomain : snapshotLastReadAt.keySet()) {
+            refreshDashboardSnapshot(processedDomain);
+        }
+        log.debug("대시보드 통계 스냅샷 갱신 완료 - 대상 회사 수: {}", snapshotLastReadAt.size());
+    }
 
-        String flux = String.format(
-                "from(bucket: \"%s\") " +
-                        "|> range(start: -30d) " +
-                        "|> filter(fn: (r) => r[\"companyDomain\"] == \"%s\") " +
-                        "|> filter(fn: (r) => r[\"origin\"] == \"server_data\") " +
-                        "|> filter(fn: (r) => r[\"location\"] == \"service_resource_data\") " +
-                        "|> keep(columns: [\"gatewayId\"]) " +
-                        "|> group() " +
-                        "|> distinct(column: \"gatewayId\") " +
-                        "|> count()",
-                bucket, processedDomain
-        );
-
-        log.debug("서비스 개수 Flux 쿼리 (원본: {}, 처리됨: {}): {}", companyDomain, processedDomain, flux);
+    /**
+     * 스냅샷이 없는 회사의 첫 집계를 수행합니다.
+     * 동시에 들어온 첫 조회들은 진행 중인 집계 하나를 기다려 결과를 공유합니다.
+     */
+    private DashboardSnapshot loadInitialSnapshot(String processedDomain) {
+        CompletableFuture<DashboardSnapshot> newFuture = new CompletableFuture<>();
+        CompletableFuture<DashboardSnapshot> existing = initialLoads.putIfAbsent(processedDomain, newFuture);
+        if (existing != null) {
+            log.debug("대시보드 통계 첫 집계 진행 중 - 결과 공유 대기: {}", processedDomain);
+            return existing.join();
+        }
 
         try {
-            List<Long> results = queryApi.query(flux, influxOrg).stream()
-                    .flatMap(table -> table.getRecords().stream())
-                    .map(record -> {
-                        Object value = record.getValue();
-                        if (value instanceof Number) {
-                            return ((Number) value).longValue();
-                        }
-                        return 0L;
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-
-            int count = results.isEmpty() ? 0 : results.get(0).intValue();
-            log.info("고유 서비스 개수: {} (원본: {}, 처리됨: {})", count, companyDomain, processedDomain);
-
-            return count;
+            // 앞선 첫 집계가 방금 끝났으면 그 스냅샷을 사용
+            DashboardSnapshot snapshot = dashboardSnapshots.get(processedDomain);
+            if (snapshot == null) {
+                log.info("대시보드 통계 스냅샷 없음 - 즉시 집계: {}", processedDomain);
+                snapshot = refreshDashboardSnapshot(processedDomain);
+            }
+            newFuture.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            newFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            initialLoads.remove(processedDomain, newFuture);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("서비스 개수 조회 실패 - companyDomain: {} (처리됨: {})", companyDomain, processedDomain, e);
-            return 0;
+    /**
+     * 대시보드 통계를 집계하여 스냅샷을 갱신합니다. 집계 실패 시 기존 스냅샷을 유지합니다.
+     */
+    private DashboardSnapshot refreshDashboardSnapshot(String processedDomain) {
+        Map<String, Object> stats = computeDashboardStats(processedDomain);
+        DashboardSnapshot snapshot = new DashboardSnapshot(stats, Instant.now());
+
+        if (Boolean.TRUE.equals(stats.get("success"))) {
+            dashboardSnapshots.put(processedDomain, snapshot);
+            return snapshot;
         }
+        return dashboardSnapshots.getOrDefault(processedDomain, snapshot);
     }
 
     /**
      * 통합 대시보드 통계에 트래픽 정보 추가
+     * 장비 인벤토리와 아웃바운드 트래픽을 병렬로 조회한 뒤 서비스/서버/센서 개수를 계산합니다.
      */
-    public Map<String, Object> getDashboardStats(String companyDomain) {
+    private Map<String, Object> computeDashboardStats(String companyDomain) {
         Map<String, Object> stats = new HashMap<>();
 
         try {
-            log.info("통합 대시보드 통계 조회 시작 - companyDomain: {}", companyDomain);
-
-            int serviceCount = countUniqueServices(companyDomain);
-            int serverCount = countUniqueServers(companyDomain);
-            int sensorCount = countUniqueSensors(companyDomain);
+            log.info("통합 대시보드 통계 집계 시작 - companyDomain: {}", companyDomain);
 
             // ★★★ 트래픽 정보 추가 ★★★
-            Map<String, Object> outboundTraffic = calculateOutboundTraffic(companyDomain);
+            CompletableFuture<Map<String, Object>> trafficFuture =
+                    CompletableFuture.supplyAsync(() -> calculateOutboundTraffic(companyDomain), statsTaskExecutor);
+
+            int serviceCount;
+            int serverCount;
+            int sensorCount;
+            OptionalLong approxServices = estimateCount(companyDomain, DeviceCountSketchService.DeviceClass.SERVICE, defaultCountMode);
+            OptionalLong approxServers = estimateCount(companyDomain, DeviceCountSketchService.DeviceClass.SERVER, defaultCountMode);
+            OptionalLong approxSensors = estimateCount(companyDomain, DeviceCountSketchService.DeviceClass.SENSOR, defaultCountMode);
+            // ★★★ 추정치가 하나라도 없으면(스케치 준비 전 / 실패) 0 대신 정확 계산으로 대체 ★★★
+            CountMode countMode = approxServices.isPresent() && approxServers.isPresent() && approxSensors.isPresent()
+                    ? CountMode.APPROXIMATE : CountMode.EXACT;
+            if (countMode == CountMode.APPROXIMATE) {
+                serviceCount = (int) approxServices.getAsLong();
+                serverCount = (int) approxServers.getAsLong();
+                sensorCount = (int) approxSensors.getAsLong();
+            } else {
+                // 서비스/서버/센서 개수는 하나의 인벤토리 조회에서 계산
+                List<DeviceDto> inventory = deviceInventoryService.getInventory(companyDomain);
+                serviceCount = countServices(inventory);
+                serverCount = countServers(inventory);
+                sensorCount = countSensors(inventory);
+            }
+            Map<String, Object> outboundTraffic = trafficFuture.join();
 
             stats.put("serviceCount", serviceCount);
             stats.put("serverCount", serverCount);
             stats.put("sensorCount", sensorCount);
             stats.put("totalDevices", serverCount + sensorCount);
             stats.put("outboundTraffic", outboundTraffic);
-            stats.put("companyDomain", companyDomain);
+            stats.put("countMode", countMode);
             stats.put("success", true);
 
-            log.info("통합 대시보드 통계 조회 완료 - 서비스: {}, 서버: {}, 센서: {}, 아웃바운드: {}",
+            log.info("통합 대시보드 통계 집계 완료 - 서비스: {}, 서버: {}, 센서: {}, 아웃바운드: {}",
                     serviceCount, serverCount, sensorCount,
                     outboundTraffic.get("formattedValue"));
 
         } catch (Exception e) {
-            log.error("통합 대시보드 통계 조회 실패", e);
+            log.error("통합 대시보드 통계 집계 실패", e);
 
             stats.put("serviceCount", 0);
             stats.put("serverCount", 0);
             stats.put("sensorCount", 0);
             stats.put("totalDevices", 0);
             stats.put("outboundTraffic", Map.of("formattedValue", "0.0 MB", "success", false));
-            stats.put("companyDomain", companyDomain);
             stats.put("success", false);
             stats.put("error", true);
             stats.put("message", e.getMessage());
@@ -0,0 +1,276 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.query.QueryPriority;
+import com.nhnacademy.environment.util.InfluxUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회사별 네트워크 트래픽 누적 서비스
+ * <p>
+ * - 장비별 누적 카운터(bytes_sent / bytes_recv)의 시간별 마지막 값을 받아 직전 값과의 차이를 시간 슬롯에 더합니다.<br>
+ * - 장비마다 24칸 링 버퍼(시간별 바이트 합계)를 유지하므로 최근 24시간 합계는 InfluxDB 조회 없이 계산됩니다.<br>
+ * - 최초 조회 시 최근 25시간으로 초기화하고, 이후에는 마지막 수집 시각이 속한 시간부터만 다시 조회합니다.<br>
+ * - 카운터 값이 줄어들면(재부팅 등으로 카운터 리셋) 새 값 전체를 증가량으로 봅니다.<br>
+ * - 24시간 동안 값이 들어오지 않은 장비의 카운터는 제거합니다.
+ */
+@Slf4j
+@Service
+public class TrafficAccumulatorService {
+
+    private static final int SLOT_COUNT = 24;
+
+    /**
+     * 트래픽 방향과 measurement
+     */
+    public enum Direction {
+        OUTBOUND("bytes_sent"),
+        INBOUND("bytes_recv");
+
+        private final String measurement;
+
+        Direction(String measurement) {
+            this.measurement = measurement;
+        }
+
+        public String getMeasurement() {
+            return measurement;
+        }
+    }
+
+    private final InfluxQueryExecutor queryExecutor;
+    private final String bucket;
+    private final String influxOrg;
+
+    /**
+     * 회사별 누적 상태
+     * Key: 처리된 companyDomain
+     */
+    private final Map<String, TenantTraffic> tenants = new ConcurrentHashMap<>();
+
+    @Value("${stats.traffic.idle-minutes:60}")
+    private long idleMinutes = 60;
+
+    public TrafficAccumulatorService(InfluxQueryExecutor queryExecutor,
+                                     @Qualifier("influxBucket") String bucket,
+                                     @Qualifier("influxOrganization") String influxOrg) {
+        this.queryExecutor = queryExecutor;
+        this.bucket = bucket;
+        this.influxOrg = influxOrg;
+    }
+
+    /**
+     * 한 회사의 방향별/장비별 카운터와 마지막 수집 시각
+     */
+    private static final class TenantTraffic {
+        private final Map<Direction, Map<String, DeviceCounter>> counters = new EnumMap<>(Direction.class);
+        private Instant lastIngestAt;
+        private volatile Instant lastReadAt = Instant.now();
+
+        private TenantTraffic() {
+            for (Direction direction : Direction.values()) {
+                counters.put(direction, new HashMap<>());
+            }
+        }
+    }
+
+    /**
+     * 장비 하나의 누적 카운터와 시간별 링 버퍼
+     */
+    private static final class DeviceCounter {
+        private final long[] slotHours = new long[SLOT_COUNT];
+        private final double[] slotBytes = new double[SLOT_COUNT];
+        private double lastValue;
+        private Instant lastTime;
+
+        /**
+         * 시간별 마지막 카운터 값을 반영합니다.
+         *
+         * @param windowStop aggregateWindow 의 _time (시간 구간의 끝)
+         * @param value      구간 내 마지막 카운터 값
+         */
+        private void accept(Instant windowStop, double value) {
+            if (lastTime == null) {
+                lastValue = value;
+                lastTime = windowStop;
+                return;
+            }
+            if (windowStop.isBefore(lastTime)) {
+                return;
+            }
+
+            double delta = value - lastValue;
+            if (delta < 0) {
+                // 카운터 리셋: 0 부터 다시 증가한 것으로 간주
+                delta = value;
+            }
+
+            // _time 은 구간의 끝 (현재 시간 구간은 정각이 아닌 현재 시각이므로 끝 직전 시각이 속한 시간으로 계산)
+            long hour = Math.floorDiv(windowStop.toEpochMilli() - 1, 3_600_000L);
+            int slot = (int) Math.floorMod(hour, (long) SLOT_COUNT);
+            if (slotHours[slot] != hour) {
+                slotHours[slot] = hour;
+                slotBytes[slot] = 0;
+            }
+            slotBytes[slot] += delta;
+
+            lastValue = value;
+            lastTime = windowStop;
+        }
+
+        /**
+         * 현재 시간을 포함한 최근 24시간 슬롯의 합계
+         */
+        private double sumLast24h(long currentHour) {
+            double sum = 0;
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                if (slotHours[i] > currentHour - SLOT_COUNT && slotHours[i] <= currentHour) {
+                    sum += slotBytes[i];
+                }
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * 최근 24시간 전체 트래픽(바이트)을 반환합니다.
+     *
+     * @param processedDomain .com 이 제거된 회사 도메인
+     * @param direction       트래픽 방향
+     * @return 최근 24시간 바이트 합계
+     */
+    public double getTotalBytes(String processedDomain, Direction direction) {
+        return getBytesByDevice(processedDomain, direction).values().stream()
+                .mapToDouble(Double::doubleValue)
+                .sum();
+    }
+
+    /**
+     * 최근 24시간 장비별 트래픽(바이트)을 반환합니다.
+     * 처음 조회하는 회사는 InfluxDB 에서 최근 25시간으로 초기화합니다. (초기화 실패 시 예외 전파)
+     *
+     * @param processedDomain .com 이 제거된 회사 도메인
+     * @param direction       트래픽 방향
+     * @return deviceId → 최근 24시간 바이트 합계 (많은 순)
+     */
+    public Map<String, Double> getBytesByDevice(String processedDomain, Direction direction) {
+        TenantTraffic tenant = tenants.computeIfAbsent(processedDomain, key -> new TenantTraffic());
+        tenant.lastReadAt = Instant.now();
+
+        long currentHour = Instant.now().getEpochSecond() / 3600;
+        Map<String, Double> totals = new HashMap<>();
+        synchronized (tenant) {
+            if (tenant.lastIngestAt == null) {
+                ingest(processedDomain, tenant);
+            }
+            tenant.counters.get(direction)
+                    .forEach((deviceId, counter) -> totals.put(deviceId, counter.sumLast24h(currentHour)));
+        }
+
+        Map<String, Double> result = new LinkedHashMap<>();
+        totals.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    /**
+     * 조회된 적 있는 회사의 트래픽 카운터를 주기적으로 갱신하고, 장시간 미조회 회사는 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${stats.traffic.ingest-ms:60000}",
+            initialDelayString = "${stats.traffic.ingest-ms:60000}")
+    public void ingestRecent() {
+        Instant idleLimit = Instant.now().minus(Duration.ofMinutes(idleMinutes));
+        tenants.entrySet().removeIf(entry -> entry.getValue().lastReadAt.isBefore(idleLimit));
+
+        tenants.forEach((processedDomain, tenant) -> {
+            synchronized (tenant) {
+                try {
+                    ingest(processedDomain, tenant);
+                } catch (Exception e) {
+                    log.warn("트래픽 카운터 갱신 실패 - companyDomain: {}, {}", processedDomain, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 마지막 수집 시각이 속한 시간부터 (처음이면 최근 25시간) 시간별 마지막 카운터 값을 조회해 반영합니다.
+     */
+    private void ingest(String processedDomain, TenantTraffic tenant) {
+        Instant now = Instant.now();
+        Instant start = tenant.lastIngestAt != null
+                ? tenant.lastIngestAt.truncatedTo(ChronoUnit.HOURS)
+                : now.truncatedTo(ChronoUnit.HOURS).minus(Duration.ofHours(SLOT_COUNT + 1L));
+
+        String flux = String.format(
+                "from(bucket: \"%s\") " +
+                        "|> range(start: time(v: \"%s\")) " +
+                        "|> filter(fn: (r) => r[\"companyDomain\"] == \"%s\") " +
+                        "|> filter(fn: (r) => r[\"origin\"] == \"server_data\") " +
+                        "|> filter(fn: (r) => r[\"location\"] == \"server_resource_data\") " +
+                        "|> filter(fn: (r) => r[\"gatewayId\"] == \"net\") " +
+                        "|> filter(fn: (r) => r[\"_measurement\"] == \"%s\" or r[\"_measurement\"] == \"%s\") " +
+                        "|> filter(fn: (r) => r[\"_field\"] == \"value\") " +
+                        "|> group(columns: [\"deviceId\", \"_measurement\"]) " +
+                        "|> aggregateWindow(every: 1h, fn: last, createEmpty: false)",
+                bucket, start, processedDomain,
+                Direction.OUTBOUND.getMeasurement(), Direction.INBOUND.getMeasurement()
+        );
+
+        log.debug("트래픽 카운터 Flux 쿼리 (companyDomain: {}): {}", processedDomain, flux);
+
+        int points = 0;
+        for (FluxTable table : queryExecutor.query(flux, influxOrg, QueryPriority.BATCH)) {
+            for (FluxRecord record : table.getRecords()) {
+                Direction direction = toDirection(record.getMeasurement());
+                String deviceId = InfluxUtil.getTagValue(record, "deviceId");
+                if (direction == null || deviceId.isEmpty()
+                        || record.getTime() == null || !(record.getValue() instanceof Number value)) {
+                    continue;
+                }
+                tenant.counters.get(direction)
+                        .computeIfAbsent(deviceId, key -> new DeviceCounter())
+                        .accept(record.getTime(), value.doubleValue());
+                points++;
+            }
+        }
+        tenant.lastIngestAt = now;
+
+        // ★★★ 24시간 동안 값이 없는 장비는 합계에 기여하지 않으므로 제거 ★★★
+        Instant evictBefore = now.minus(Duration.ofHours(SLOT_COUNT));
+        int evicted = 0;
+        for (Map<String, DeviceCounter> devices : tenant.counters.values()) {
+            int before = devices.size();
+            devices.values().removeIf(counter -> counter.lastTime.isBefore(evictBefore));
+            evicted += before - devices.size();
+        }
+
+        log.debug("트래픽 카운터 갱신 완료 - companyDomain: {}, 시작: {}, 포인트 수: {}, 제거된 장비 수: {}",
+                processedDomain, start, points, evicted);
+    }
+
+    private static Direction toDirection(String measurement) {
+        for (Direction direction : Direction.values()) {
+            if (direction.getMeasurement().equals(measurement)) {
+                return direction;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.nhnacademy.environment.util;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 조회 구간과 목표 점 개수로부터 Flux aggregateWindow 의 every 값을 결정하는 공용 플래너입니다.
+ * <p>
+ * - range / targetPoints 이상인 가장 작은 "보기 좋은" 간격(1s, 5s, ... 1h, 6h, 1d ...)을 선택합니다.<br>
+ * - 차트, 평균, 리포트, 예측 화면이 모두 같은 규칙으로 간격을 정하므로 응답 크기는 구간과 무관하게 약 N 개로 유지되고,
+ * 집계는 InfluxDB 에서 수행됩니다.
+ */
+public final class AggregationWindowPlanner {
+
+    /**
+     * 선택 가능한 집계 간격 (오름차순)
+     */
+    private static final List<Duration> WINDOWS = List.of(
+            Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(15),
+            Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(2), Duration.ofMinutes(5),
+            Duration.ofMinutes(10), Duration.ofMinutes(15), Duration.ofMinutes(30), Duration.ofHours(1),
+            Duration.ofHours(2), Duration.ofHours(3), Duration.ofHours(6), Duration.ofHours(12),
+            Duration.ofDays(1), Duration.ofDays(2), Duration.ofDays(7), Duration.ofDays(30)
+    );
+
+    private AggregationWindowPlanner() {
+    }
+
+    /**
+     * 조회 구간을 약 targetPoints 개의 점으로 나누는 집계 간격을 반환합니다.
+     *
+     * @param range        조회 구간 길이
+     * @param targetPoints 목표 점 개수 (1 이상)
+     * @return 집계 간격
+     */
+    public static Duration plan(Duration range, int targetPoints) {
+        return plan(range, targetPoints, Duration.ZERO);
+    }
+
+    /**
+     * 조회 구간을 약 targetPoints 개의 점으로 나누되, minWindow 보다 작은 간격은 사용하지 않습니다.
+     *
+     * @param range        조회 구간 길이
+     * @param targetPoints 목표 점 개수 (1 이상)
+     * @param minWindow    최소 집계 간격 (예: 예측 데이터 정렬 단위 30m)
+     * @return 집계 간격
+     */
+    public static Duration plan(Duration range, int targetPoints, Duration minWindow) {
+        long rawMillis = Math.max(1, range.toMillis() / Math.max(1, targetPoints));
+        long minMillis = minWindow.toMillis();
+
+        for (Duration window : WINDOWS) {
+            if (window.toMillis() >= rawMillis && window.toMillis() >= minMillis) {
+                return window;
+            }
+        }
+        return WINDOWS.get(WINDOWS.size() - 1);
+    }
+
+    /**
+     * {@link #plan(Duration, int)} 결과를 Flux duration 문자열로 반환합니다. (예: "10m", "1h", "1d")
+     */
+    public static String every(Duration range, int targetPoints) {
+        return toFlux(plan(range, targetPoints));
+    }
+
+    /**
+     * {@link #plan(Duration, int, Duration)} 결과를 Flux duration 문자열로 반환합니다.
+     */
+    public static String every(Duration range, int targetPoints, Duration minWindow) {
+        return toFlux(plan(range, targetPoints, minWindow));
+    }
+
+    /**
+     * Flux duration 문자열을 Duration 으로 변환합니다. ({@link #toFlux(Duration)} 의 역변환, 단위 하나만 지원)
+     *
+     * @param every 예: "30s", "15m", "6h", "1d"
+     * @return 집계 간격
+     */
+    public static Duration fromFlux(String every) {
+        long amount = Long.parseLong(every.substring(0, every.length() - 1));
+        return switch (every.charAt(every.length() - 1)) {
+            case 'd' -> Duration.ofDays(amount);
+            case 'h' -> Duration.ofHours(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 's' -> Duration.ofSeconds(amount);
+            default -> throw new IllegalArgumentException("지원하지 않는 Flux duration 입니다: " + every);
+        };
+    }
+
+    /**
+     * Duration 을 Flux duration 문자열로 변환합니다.
+     *
+     * @param window 집계 간격
+     * @return 예: "30s", "15m", "6h", "1d"
+     */
+    public static String toFlux(Duration window) {
+        long seconds = window.toSeconds();
+        if (seconds % 86400 == 0) {
+            return (seconds / 86400) + "d";
+        }
+        if (seconds % 3600 == 0) {
+            return (seconds / 3600) + "h";
+        }
+        if (seconds % 60 == 0) {
+            return (seconds / 60) + "m";
+        }
+        return seconds + "s";
+    }
+}
@@ -0,0 +1,109 @@
+package com.nhnacademy.environment.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고유값 개수를 근사적으로 계산하는 HyperLogLog 스케치입니다.
+ * <p>
+ * - 2^precision 개의 레지스터(byte)만 사용하므로 메모리 사용량이 데이터 양과 무관합니다.<br>
+ * - 같은 precision 의 스케치끼리 {@link #merge(HyperLogLog)} 로 합칠 수 있어 일자별 스케치를 합쳐 기간 전체를 계산할 수 있습니다.<br>
+ * - 표준 오차는 약 1.04 / sqrt(2^precision) 입니다. (precision 12 → 약 1.6%)
+ * <p>
+ * 이 클래스는 thread-safe 하지 않으므로 호출하는 쪽에서 동기화해야 합니다.
+ */
+public class HyperLogLog {
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * @param precision 레지스터 인덱스 비트 수 (4 ~ 16)
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision 은 4 ~ 16 사이여야 합니다: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * 값을 스케치에 추가합니다.
+     *
+     * @param value 추가할 값 (null 은 무시)
+     */
+    public void add(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash = hash64(value);
+        int index = (int) (hash >>> (64 - precision));
+        int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), 64 - precision) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * 다른 스케치의 내용을 이 스케치에 합칩니다. (합집합)
+     *
+     * @param other 같은 precision 의 스케치
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("precision 이 다른 스케치는 합칠 수 없습니다.");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * 추가된 고유값 개수의 추정치를 반환합니다.
+     *
+     * @return 고유값 개수 추정치
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0.0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double alpha = 0.7213 / (1.0 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+
+        // 작은 범위에서는 linear counting 으로 보정
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * FNV-1a 64bit 해시 후 MurmurHash3 의 fmix64 로 비트를 섞습니다.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53e4b87L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -3,11 +3,15 @@ package com.nhnacademy.environment.util;
 import com.influxdb.client.QueryApi;
 import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -45,16 +49,96 @@ public class InfluxUtil {
      */
     public static List<String> extractDistinctValues(QueryApi queryApi, String fluxQuery, String org, String columnName) {
         try {
-            List<FluxTable> tables = queryApi.query(fluxQuery, org);
-            return tables.stream()
-                    .flatMap(table -> table.getRecords().stream())
-                    .map(record -> (String) record.getValueByKey(columnName))
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .collect(Collectors.toList());
+            return distinctColumnValues(queryApi.query(fluxQuery, org), columnName);
         } catch (Exception e) {
             log.error("extractDistinctValues 실패: {}", e.getMessage());
             return Collections.emptyList();
         }
     }
+
+    /**
+     * {@link InfluxQueryExecutor} 를 통해 Flux 쿼리를 실행하고 특정 컬럼의 distinct 값을 추출합니다.
+     *
+     * @param queryExecutor InfluxDB 쿼리 실행기
+     * @param fluxQuery     실행할 Flux 쿼리 문자열
+     * @param org           조직 이름 (influxOrg)
+     * @param columnName    추출할 컬럼명
+     * @return 중복 제거된 컬럼 값 리스트
+     */
+    public static List<String> extractDistinctValues(InfluxQueryExecutor queryExecutor, String fluxQuery, String org, String columnName) {
+        try {
+            return distinctColumnValues(queryExecutor.query(fluxQuery, org), columnName);
+        } catch (Exception e) {
+            log.error("extractDistinctValues 실패: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 필터 조건을 하나의 Flux 조건식으로 변환합니다. 여러 시계열을 한 쿼리로 묶을 때 or 로 연결해 사용합니다.
+     * _measurement, _field 는 r._measurement / r._field 로, 나머지 태그는 r["tag"] 로 접근하며 빈 값은 제외합니다.
+     * 키와 값은 요청 본문에서 그대로 들어오므로 Flux 문자열 리터럴로 이스케이프합니다.
+     *
+     * @param filters 필터 조건
+     * @return 예: (r._measurement == "temperature" and r["origin"] == "sensor_data"), 조건이 없으면 "true"
+     */
+    public static String toPredicate(Map<String, String> filters) {
+        List<String> conditions = new ArrayList<>();
+        new TreeMap<>(filters).forEach((key, value) -> {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            if (key.equals("_measurement") || key.equals("_field")) {
+                conditions.add(String.format("r.%s == \"%s\"", key, escapeFluxString(value)));
+            } else {
+                conditions.add(String.format("r[\"%s\"] == \"%s\"", escapeFluxString(key), escapeFluxString(value)));
+            }
+        });
+        return conditions.isEmpty() ? "true" : "(" + String.join(" and ", conditions) + ")";
+    }
+
+    /**
+     * Flux 문자열 리터럴 안에 넣을 값을 이스케이프합니다.
+     * 따옴표로 리터럴을 닫고 조건식을 덧붙이거나 ${} 보간을 일으키지 못하도록 {@code \ " $} 앞에 {@code \} 를 붙입니다.
+     *
+     * @param value 원본 문자열
+     * @return 이스케이프된 문자열
+     */
+    public static String escapeFluxString(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"' || c == '$') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * 레코드가 필터 조건을 모두 만족하는지 확인합니다. (빈 값 조건은 무시)
+     *
+     * @param record  Flux 쿼리 결과의 단일 레코드
+     * @param filters 필터 조건 (_measurement, _field 포함 가능)
+     * @return 모든 조건 만족 여부
+     */
+    public static boolean matchesFilters(FluxRecord record, Map<String, String> filters) {
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            String value = filter.getValue();
+            if (value != null && !value.isBlank() && !value.equals(getTagValue(record, filter.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> distinctColumnValues(List<FluxTable> tables, String columnName) {
+        return tables.stream()
+                .flatMap(table -> table.getRecords().stream())
+                .map(record -> (String) record.getValueByKey(columnName))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,216 @@
+package com.nhnacademy.environment.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 한 번의 순회로 찾는 Aho-Corasick 매처입니다.
+ * <p>
+ * - 키워드 목록으로 한 번만 만들어 두고(불변, 스레드 안전) 요청마다 {@link #scan(String)} 을 호출합니다.<br>
+ * - 키워드마다 {@code String.contains} 를 반복하는 대신 문자열 길이에 비례하는 시간에 모든 적중 위치를 찾습니다.<br>
+ * - 대소문자 변환은 하지 않습니다. (키워드와 입력 모두 호출자가 소문자로 전달)
+ */
+public final class KeywordMatcher {
+
+    /**
+     * 적중한 키워드와 시작 위치
+     *
+     * @param keyword 키워드
+     * @param start   입력 문자열에서의 시작 위치
+     */
+    public record Match(String keyword, int start) {
+    }
+
+    /**
+     * 한 입력에 대한 적중 결과입니다.
+     */
+    public final class Hits {
+
+        private final List<Match> matches;
+        /** 적중한 키워드 번호 */
+        private final BitSet found;
+
+        private Hits(List<Match> matches, BitSet found) {
+            this.matches = matches;
+            this.found = found;
+        }
+
+        /**
+         * 주어진 키워드 중 하나라도 입력에 포함되어 있는지 여부 ({@code contains} 조건과 동일)
+         *
+         * @throws IllegalArgumentException 매처에 등록되지 않은 키워드 (항상 false 가 되는 실수 방지)
+         */
+        public boolean any(String... candidates) {
+            for (String candidate : candidates) {
+                Integer id = dictionary.get(candidate);
+                if (id == null) {
+                    throw new IllegalArgumentException("등록되지 않은 키워드입니다: " + candidate);
+                }
+                if (found.get(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 입력 순서대로의 모든 적중 (겹치는 키워드 포함)
+         */
+        public List<Match> matches() {
+            return matches;
+        }
+
+        /**
+         * 긴(구체적인) 키워드 우선, 길이가 같으면 앞에 나온 순서로 정렬한 적중 목록
+         */
+        public List<Match> ranked() {
+            List<Match> ranked = new ArrayList<>(matches);
+            ranked.sort(Comparator.comparingInt((Match match) -> match.keyword().length()).reversed()
+                    .thenComparingInt(Match::start));
+            return ranked;
+        }
+    }
+
+    /**
+     * 컴파일된 상태 (자식은 문자 오름차순 배열로 보관하여 이진 탐색)
+     */
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private Node fail;
+        /** 이 상태에서 끝나는 키워드 */
+        private String keyword;
+        private int keywordId;
+        /** fail 경로에서 가장 가까운, 키워드가 끝나는 상태 */
+        private Node output;
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private final Node root = new Node();
+    /** 키워드 → 번호 */
+    private final Map<String, Integer> dictionary;
+
+    private KeywordMatcher(Map<String, Integer> dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * 키워드 목록으로 매처를 만듭니다. 빈 문자열은 무시합니다.
+     *
+     * @param keywords 키워드 목록
+     * @return 매처
+     */
+    public static KeywordMatcher of(Collection<String> keywords) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.isEmpty()) {
+                dictionary.putIfAbsent(keyword, dictionary.size());
+            }
+        }
+        KeywordMatcher matcher = new KeywordMatcher(Map.copyOf(dictionary));
+        matcher.build();
+        return matcher;
+    }
+
+    /**
+     * 등록된 키워드 수
+     */
+    public int size() {
+        return dictionary.size();
+    }
+
+    /**
+     * 입력에서 모든 키워드 적중을 찾습니다.
+     *
+     * @param text 입력 (소문자)
+     * @return 적중 결과
+     */
+    public Hits scan(String text) {
+        List<Match> matches = new ArrayList<>();
+        BitSet found = new BitSet(dictionary.size());
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Node next = state.child(c);
+            while (next == null && state != root) {
+                state = state.fail;
+                next = state.child(c);
+            }
+            state = next != null ? next : root;
+
+            for (Node node = state.keyword != null ? state : state.output; node != null; node = node.output) {
+                matches.add(new Match(node.keyword, i - node.keyword.length() + 1));
+                found.set(node.keywordId);
+            }
+        }
+        return new Hits(matches, found);
+    }
+
+    private void build() {
+        // 1. trie (빌드 중에는 TreeMap 으로 자식 보관 → 문자 오름차순)
+        Map<Node, TreeMap<Character, Node>> building = new HashMap<>();
+        building.put(root, new TreeMap<>());
+        for (Map.Entry<String, Integer> entry : dictionary.entrySet()) {
+            String keyword = entry.getKey();
+            Node node = root;
+            for (int i = 0; i < keyword.length(); i++) {
+                TreeMap<Character, Node> children = building.get(node);
+                Node child = children.get(keyword.charAt(i));
+                if (child == null) {
+                    child = new Node();
+                    children.put(keyword.charAt(i), child);
+                    building.put(child, new TreeMap<>());
+                }
+                node = child;
+            }
+            node.keyword = keyword;
+            node.keywordId = entry.getValue();
+        }
+        building.forEach((node, children) -> {
+            node.labels = new char[children.size()];
+            node.children = new Node[children.size()];
+            int index = 0;
+            for (Map.Entry<Character, Node> child : children.entrySet()) {
+                node.labels[index] = child.getKey();
+                node.children[index] = child.getValue();
+                index++;
+            }
+        });
+
+        // 2. fail / output 링크 (BFS)
+        Deque<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (Node child : root.children) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            node.output = node.fail.keyword != null ? node.fail : node.fail.output;
+            for (int i = 0; i < node.labels.length; i++) {
+                char c = node.labels[i];
+                Node child = node.children[i];
+                Node fail = node.fail;
+                while (fail != root && fail.child(c) == null) {
+                    fail = fail.fail;
+                }
+                Node target = fail.child(c);
+                child.fail = target != null && target != child ? target : root;
+                queue.add(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.nhnacademy.environment.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Largest-Triangle-Three-Buckets(LTTB) 다운샘플링 유틸리티입니다.
+ * <p>
+ * - 시간순으로 정렬된 하나의 시계열을 최대 maxPoints 개의 점으로 줄이며, 첫 점과 마지막 점은 항상 유지합니다.<br>
+ * - 각 구간에서 이전 선택 점 / 다음 구간 평균과 만드는 삼각형 넓이가 가장 큰 점을 골라 피크와 골의 모양을 보존합니다.<br>
+ * - 원시 배열(long[], double[]) 위에서 한 번의 순회(O(n))로 계산합니다.
+ */
+public final class LttbDownsampler {
+
+    private LttbDownsampler() {
+    }
+
+    /**
+     * LTTB 로 선택된 점의 인덱스를 반환합니다.
+     *
+     * @param x         X 값 (시간, 오름차순)
+     * @param y         Y 값
+     * @param length    사용할 점 개수 (배열 앞에서부터)
+     * @param maxPoints 최대 점 개수 (0 이하이거나 length 이상이면 전체 인덱스,
+     *                  2 이면 첫 점과 마지막 점, 1 이면 마지막 점만 반환)
+     * @return 선택된 인덱스 (오름차순)
+     */
+    public static int[] selectIndices(long[] x, double[] y, int length, int maxPoints) {
+        if (maxPoints <= 0 || maxPoints >= length) {
+            int[] all = new int[length];
+            for (int i = 0; i < length; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        // 구간을 나눌 수 없으므로 양 끝 점만 유지 (1 이면 가장 최근 점)
+        if (maxPoints == 1) {
+            return new int[]{length - 1};
+        }
+        if (maxPoints == 2) {
+            return new int[]{0, length - 1};
+        }
+
+        int[] selected = new int[maxPoints];
+        int selectedCount = 0;
+        double bucketSize = (double) (length - 2) / (maxPoints - 2);
+
+        int a = 0;
+        selected[selectedCount++] = a;
+
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            // 다음 구간의 평균 점
+            int avgStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int avgEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, length);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = avgStart; i < avgEnd; i++) {
+                avgX += x[i];
+                avgY += y[i];
+            }
+            int avgLength = avgEnd - avgStart;
+            avgX /= avgLength;
+            avgY /= avgLength;
+
+            // 현재 구간에서 삼각형 넓이가 가장 큰 점
+            int rangeStart = (int) Math.floor(bucket * bucketSize) + 1;
+            int rangeEnd = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double pointAX = x[a];
+            double pointAY = y[a];
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int i = rangeStart; i < rangeEnd; i++) {
+                double area = Math.abs((pointAX - avgX) * (y[i] - pointAY) - (pointAX - x[i]) * (avgY - pointAY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = i;
+                }
+            }
+
+            selected[selectedCount++] = next;
+            a = next;
+        }
+
+        selected[selectedCount] = length - 1;
+        return selected;
+    }
+
+    /**
+     * 시간순으로 정렬된 목록을 최대 maxPoints 개로 다운샘플링합니다.
+     *
+     * @param points    시간순 목록
+     * @param xFunction X 값 (예: epoch millis)
+     * @param yFunction Y 값
+     * @param maxPoints 최대 점 개수 (0 이하이면 다운샘플링하지 않음)
+     * @return 다운샘플링된 목록 (다운샘플링이 필요 없으면 원본 그대로)
+     */
+    public static <T> List<T> downsample(List<T> points, ToLongFunction<T> xFunction,
+                                         ToDoubleFunction<T> yFunction, int maxPoints) {
+        int length = points.size();
+        if (maxPoints <= 0 || length <= maxPoints) {
+            return points;
+        }
+
+        long[] x = new long[length];
+        double[] y = new double[length];
+        for (int i = 0; i < length; i++) {
+            T point = points.get(i);
+            x[i] = xFunction.applyAsLong(point);
+            y[i] = yFunction.applyAsDouble(point);
+        }
+
+        int[] indices = selectIndices(x, y, length, maxPoints);
+        List<T> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(points.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * 여러 시계열이 하나의 응답에 함께 담길 때 시계열당 점 개수 한도를 계산합니다.
+     * 시계열마다 최소 3점은 유지하므로 시계열이 많으면 합계가 maxPoints 를 넘을 수 있습니다.
+     *
+     * @param maxPoints   응답 전체 최대 점 개수 (0 이하이면 제한 없음)
+     * @param seriesCount 시계열 개수
+     * @return 시계열당 최대 점 개수 (0 이면 제한 없음, 최소 3)
+     */
+    public static int perSeriesLimit(int maxPoints, int seriesCount) {
+        if (maxPoints <= 0) {
+            return 0;
+        }
+        return Math.max(3, maxPoints / Math.max(1, seriesCount));
+    }
+}
@@ -0,0 +1,78 @@
+package com.nhnacademy.environment.util;
+
+/**
+ * 값 목록을 저장하지 않고 개수 / 평균 / 최소 / 최대 / 표준편차를 누적하는 통계입니다.
+ * <p>
+ * - 값 하나씩은 Welford 알고리즘으로 한 번의 순회에서 누적합니다. ({@link #add(double)})<br>
+ * - 시계열별로 InfluxDB 에서 집계한 (개수, 평균, 모표준편차, 최소, 최대) 는
+ * 병렬 분산 공식(Chan)으로 합칩니다. ({@link #merge(long, double, double, double, double)})<br>
+ * - 표준편차는 기존 리포트와 같은 모표준편차(population)입니다.
+ */
+public final class RunningStatistics {
+
+    private long count;
+    private double mean;
+    /** 평균과의 편차 제곱합. */
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * 값 하나를 누적합니다.
+     *
+     * @param value 값
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 다른 구간(시계열)의 집계 결과를 합칩니다.
+     *
+     * @param otherCount  개수
+     * @param otherMean   평균
+     * @param otherStdDev 모표준편차
+     * @param otherMin    최소값
+     * @param otherMax    최대값
+     */
+    public void merge(long otherCount, double otherMean, double otherStdDev, double otherMin, double otherMax) {
+        if (otherCount <= 0) {
+            return;
+        }
+        long total = count + otherCount;
+        double delta = otherMean - mean;
+        m2 += otherStdDev * otherStdDev * otherCount + delta * delta * count * otherCount / total;
+        mean += delta * otherCount / total;
+        count = total;
+        min = Math.min(min, otherMin);
+        max = Math.max(max, otherMax);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : mean;
+    }
+
+    public double getMin() {
+        return count == 0 ? 0.0 : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? 0.0 : max;
+    }
+
+    /**
+     * 모표준편차 (데이터가 없으면 0)
+     */
+    public double getStdDev() {
+        return count == 0 ? 0.0 : Math.sqrt(m2 / count);
+    }
+}
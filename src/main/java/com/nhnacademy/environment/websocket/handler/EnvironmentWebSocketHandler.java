@@ -4,6 +4,7 @@ package com.nhnacademy.environment.websocket.handler;
 import com.nhnacademy.environment.timeseries.dto.TimeSeriesDataDto;
 import com.nhnacademy.environment.timeseries.service.TimeSeriesDataService;
 import com.nhnacademy.environment.websocket.dto.WebSocketMessage;
+import com.nhnacademy.environment.websocket.manager.ConnectionQuotaManager;
 import com.nhnacademy.environment.websocket.manager.WebSocketSessionManager;
 import com.nhnacademy.environment.websocket.util.JsonUtils;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 
@@ -37,6 +39,7 @@ public class EnvironmentWebSocketHandler extends TextWebSocketHandler {
     private final TimeSeriesDataService timeSeriesDataService;
     private final TaskScheduler webSocketTaskScheduler;
     private final WebSocketSessionManager sessionManager;
+    private final ConnectionQuotaManager connectionQuotaManager;
 
     /**
      * 세션별 스케줄링 작업 관리
@@ -53,6 +56,15 @@ public class EnvironmentWebSocketHandler extends TextWebSocketHandler {
         String companyDomain = (String) session.getAttributes().get("companyDomain");
         String userEmail = (String) session.getAttributes().get("userEmail");
 
+        // 연결 수 제한 확인 (handshake 이후 동시에 들어온 연결까지 반영)
+        Optional<ConnectionQuotaManager.Rejection> rejection =
+                connectionQuotaManager.acquire(ConnectionQuotaManager.Channel.WEBSOCKET, companyDomain, sessionId);
+        if (rejection.isPresent()) {
+            sendRejection(session, rejection.get());
+            session.close(CloseStatus.SERVICE_OVERLOAD.withReason("connection quota exceeded"));
+            return;
+        }
+
         // SessionManager에 세션 등록
         sessionManager.addSession(session);
 
@@ -119,6 +131,14 @@ public class EnvironmentWebSocketHandler extends TextWebSocketHandler {
         String gatewayId = (String) request.get("gatewayId");
         Integer intervalSeconds = (Integer) request.getOrDefault("interval", 10); // 기본 10초
         Integer rangeMinutes = (Integer) request.getOrDefault("rangeMinutes", 3); // 기본 3분
+        Integer maxPoints = (Integer) request.getOrDefault("maxPoints", 0); // 기본 0 (다운샘플링 없음)
+
+        // 세션별 구독 요청 수 제한
+        Optional<ConnectionQuotaManager.Rejection> rejection = connectionQuotaManager.tryRecordSubscribe(sessionId);
+        if (rejection.isPresent()) {
+            sendRejection(session, rejection.get());
+            return;
+        }
 
         // 기존 스케줄 취소
         cancelExistingSchedule(sessionId);
@@ -134,7 +154,7 @@ public class EnvironmentWebSocketHandler extends TextWebSocketHandler {
 
                 // 핵심: rangeMinutes를 그대로 서비스로 넘김!
                 List<TimeSeriesDataDto> data = timeSeriesDataService.getRealtimeData(
-                        companyDomain, measurement, gatewayId, rangeMinutes
+                        companyDomain, measurement, gatewayId, rangeMinutes, maxPoints
                 );
 
                 log.info("전송 직전 데이터: {}", data);
@@ -234,6 +254,7 @@ public class EnvironmentWebSocketHandler extends TextWebSocketHandler {
 
         // SessionManager에서 세션 제거 (구독도 자동으로 해제됨)
         sessionManager.removeSession(session);
+        connectionQuotaManager.release(sessionId);
 
         // 스케줄 작업 정리
         cancelExistingSchedule(sessionId);
@@ -251,6 +272,7 @@ public class EnvironmentWebSocketHandler extends TextWebSocketHandler {
 
         // 오류 발생 시 세션 정리
         sessionManager.removeSession(session);
+        connectionQuotaManager.release(sessionId);
         cancelExistingSchedule(sessionId);
     }
 
@@ -285,6 +307,20 @@ public class EnvironmentWebSocketHandler extends TextWebSocketHandler {
         sendMessage(session, errorMsg);
     }
 
+    /**
+     * 연결 / 구독 제한 초과 메시지 전송 (retryAfterSeconds 포함)
+     */
+    private void sendRejection(WebSocketSession session, ConnectionQuotaManager.Rejection rejection) {
+        WebSocketMessage rejectMsg = WebSocketMessage.builder()
+                .type("error")
+                .status("rejected")
+                .message(rejection.reason())
+                .timestamp(System.currentTimeMillis())
+                .extra(Map.of("retryAfterSeconds", rejection.retryAfterSeconds()))
+                .build();
+        sendMessage(session, rejectMsg);
+    }
+
     /**
      * 기존 스케줄 취소
      */
@@ -1,62 +1,89 @@
 package com.nhnacademy.environment.websocket.interceptor;
 
-import com.nhnacademy.environment.websocket.dto.MemberResponse;
+import com.nhnacademy.environment.websocket.manager.ConnectionQuotaManager;
+import com.nhnacademy.environment.websocket.service.CompanyDomainResolver;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cloud.client.loadbalancer.LoadBalanced;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.HandshakeInterceptor;
-import reactor.core.publisher.Mono;
 
-import javax.annotation.PostConstruct;
 import javax.crypto.SecretKey;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Component
 @Slf4j
 public class AuthHandshakeInterceptor implements HandshakeInterceptor {
 
-    @Value("${member.api.url:http://MEMBER-API}")
-    private String memberApiUrl;
-
-    @Value("${member.api.me.uri:/members/me}")
-    private String memberMeUri;
-
     @Value("${jwt.secret}")
     private String jwtSecret;
 
-    private WebClient webClient;
+    @Value("${websocket.auth.token-cache.ttl-seconds:30}")
+    private long tokenCacheTtlSeconds = 30;
+
+    @Value("${websocket.auth.token-cache.max-entries:10000}")
+    private int tokenCacheMaxEntries = 10000;
+
+    /**
+     * 시작 시 한 번만 만드는 서명 검증 파서 (thread-safe)
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * 검증된 토큰의 SHA-256 digest → Claims (재연결 시 HMAC 검증 생략)
+     */
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
 
-    private final WebClient.Builder loadBalancedWebClientBuilder;
+    private final AtomicLong tokenCacheHits = new AtomicLong();
+    private final AtomicLong tokenVerifications = new AtomicLong();
 
-    public AuthHandshakeInterceptor(@LoadBalanced WebClient.Builder webClientBuilder) {
-        this.loadBalancedWebClientBuilder = webClientBuilder;
+    private final CompanyDomainResolver companyDomainResolver;
+    private final ConnectionQuotaManager connectionQuotaManager;
+
+    public AuthHandshakeInterceptor(CompanyDomainResolver companyDomainResolver,
+                                    ConnectionQuotaManager connectionQuotaManager) {
+        this.companyDomainResolver = companyDomainResolver;
+        this.connectionQuotaManager = connectionQuotaManager;
     }
 
+    /**
+     * jwtSecret 을 한 번만 Base64 디코딩해 서명 키와 파서를 만듭니다.
+     */
     @PostConstruct
-    public void initWebClient() {
-        this.webClient = loadBalancedWebClientBuilder
-                .baseUrl(memberApiUrl)
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
+    public void initJwtParser() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
                 .build();
+    }
 
-        log.info("=== AuthHandshakeInterceptor 초기화 완료 ===");
-        log.info("memberApiUrl: {}", memberApiUrl);
-        log.info("memberMeUri: {}", memberMeUri);
+    /**
+     * 검증 캐시에 보관하는 Claims (만료 시각은 캐시 TTL 과 토큰 exp 중 빠른 쪽)
+     */
+    private record VerifiedToken(Claims claims, Instant expiresAt) {
     }
 
     @Override
@@ -68,6 +95,11 @@ public class AuthHandshakeInterceptor implements HandshakeInterceptor {
         log.debug("WebSocket handshake 시작 - URI: {}", request.getURI());
 
         try {
+            // 0. 전체 연결 수 제한 (토큰 검증 전에 빠르게 거절)
+            if (rejectIfOverQuota(response, null)) {
+                return false;
+            }
+
             // 1. JWT 토큰 추출
             String token = extractToken(request);
             if (token == null) {
@@ -75,14 +107,14 @@ public class AuthHandshakeInterceptor implements HandshakeInterceptor {
                 return false;
             }
 
-            // 2. JWT 토큰 검증
-            if (!validateToken(token)) {
+            // 2. JWT 토큰 검증 + 사용자 정보 추출 (서명 검증은 한 번만)
+            Claims claims = verifyToken(token);
+            if (claims == null) {
                 log.warn("WebSocket handshake 실패 - JWT 토큰이 유효하지 않습니다");
                 return false;
             }
 
             // 3. JWT에서 사용자 정보 추출
-            Claims claims = parseTokenClaims(token);
             String userEmail = claims.getSubject();
             String userRole = claims.get("role", String.class);
 
@@ -91,8 +123,11 @@ public class AuthHandshakeInterceptor implements HandshakeInterceptor {
                 return false;
             }
 
-            // 4. Member API 호출해서 companyDomain 조회 (필수)
-            String companyDomain = getCompanyDomainFromMemberApi(userEmail, userRole);
+            // 4. companyDomain 조회 (필수) - JWT claim 우선, 없으면 캐시 / Member API
+            String companyDomain = claims.get("companyDomain", String.class);
+            if (companyDomain == null || companyDomain.isBlank()) {
+                companyDomain = companyDomainResolver.resolve(userEmail, userRole);
+            }
             if (companyDomain == null) {
                 log.error("Member API에서 companyDomain 조회 실패. 회사 소속이 없는 비정상적인 사용자로 판단하여 WebSocket 연결 거부. userEmail: {}", userEmail);
                 return false;
@@ -105,7 +140,12 @@ public class AuthHandshakeInterceptor implements HandshakeInterceptor {
                 log.info("companyDomain에서 .com 제거: {} -> {}", companyDomain, cleanCompanyDomain);
             }
 
-            // 5. WebSocket 세션에 인증 정보 저장 (정리된 도메인 사용)
+            // 5. 회사별 연결 수 제한
+            if (rejectIfOverQuota(response, cleanCompanyDomain)) {
+                return false;
+            }
+
+            // 6. WebSocket 세션에 인증 정보 저장 (정리된 도메인 사용)
             attributes.put("companyDomain", cleanCompanyDomain); // ★★★ 정리된 도메인 저장 ★★★
             attributes.put("userEmail", userEmail);
             attributes.put("userRole", userRole);
@@ -133,6 +173,20 @@ public class AuthHandshakeInterceptor implements HandshakeInterceptor {
         }
     }
 
+    /**
+     * 연결 수 제한을 넘었으면 429 + Retry-After 로 응답하고 true 를 반환합니다.
+     */
+    private boolean rejectIfOverQuota(ServerHttpResponse response, String companyDomain) {
+        Optional<ConnectionQuotaManager.Rejection> rejection = connectionQuotaManager.check(companyDomain);
+        if (rejection.isEmpty()) {
+            return false;
+        }
+        log.warn("WebSocket handshake 거절 - companyDomain: {}, 사유: {}", companyDomain, rejection.get().reason());
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(rejection.get().retryAfterSeconds()));
+        return true;
+    }
+
     /**
      * HTTP 요청에서 JWT 토큰 추출 (accessToken 파라미터 지원)
      */
@@ -186,88 +240,64 @@ public class AuthHandshakeInterceptor implements HandshakeInterceptor {
 
 
     /**
-     * JWT 토큰 유효성 검증
+     * JWT 토큰 서명을 검증하고 Claims 를 반환합니다.
+     * 최근에 검증한 토큰(SHA-256 digest 기준)은 캐시된 Claims 를 그대로 사용합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 Claims, 유효하지 않으면 null
      */
-    private boolean validateToken(String token) {
-        try {
-            byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-            SecretKey key = Keys.hmacShaKeyFor(keyBytes);
-
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-
-            log.debug("JWT 토큰 검증 성공");
-            return true;
-
-        } catch (Exception e) {
-            log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
-            return false;
+    Claims verifyToken(String token) {
+        String digest = sha256(token);
+        Instant now = Instant.now();
+
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            tokenCacheHits.incrementAndGet();
+            return cached.claims();
         }
-    }
 
-    /**
-     * JWT 토큰에서 Claims 추출
-     */
-    private Claims parseTokenClaims(String token) {
         try {
-            byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-            SecretKey key = Keys.hmacShaKeyFor(keyBytes);
-
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            log.debug("JWT Claims 파싱 성공 - sub: {}, role: {}",
-                    claims.getSubject(), claims.get("role"));
+            tokenVerifications.incrementAndGet();
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            log.debug("JWT 토큰 검증 성공 - sub: {}, role: {}", claims.getSubject(), claims.get("role"));
+
+            Instant expiresAt = now.plusSeconds(tokenCacheTtlSeconds);
+            Date expiration = claims.getExpiration();
+            if (expiration != null && expiration.toInstant().isBefore(expiresAt)) {
+                expiresAt = expiration.toInstant();
+            }
+            if (verifiedTokens.size() >= tokenCacheMaxEntries) {
+                verifiedTokens.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+                if (verifiedTokens.size() >= tokenCacheMaxEntries) {
+                    verifiedTokens.clear();
+                }
+            }
+            verifiedTokens.put(digest, new VerifiedToken(claims, expiresAt));
             return claims;
 
         } catch (Exception e) {
-            log.error("JWT Claims 파싱 실패", e);
-            throw new RuntimeException("JWT Claims 파싱 실패", e);
+            log.warn("JWT 토큰 검증 실패: {}", e.getMessage());
+            return null;
         }
     }
 
     /**
-     * Member API를 호출하여 사용자의 companyDomain 조회
+     * 토큰 검증 통계 (캐시 응답 수, 서명 검증 수)
      */
-    private String getCompanyDomainFromMemberApi(String userEmail, String userRole) {
-        try {
-            log.info("=== Member API 호출 시작 ===");
-            log.info("URL: {}", memberApiUrl);
-            log.info("userEmail: {}", userEmail);
-
-            MemberResponse member = webClient.get()
-                    .uri(memberMeUri)
-                    .header("X-User-Email", userEmail)
-                    .header("X-User-Role", userRole)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError,
-                            response -> response.bodyToMono(String.class)
-                                    .doOnNext(body -> log.error("4xx 에러: {}", body))
-                                    .then(Mono.error(new RuntimeException("Member API 4xx 에러"))))
-                    .onStatus(HttpStatusCode::is5xxServerError,
-                            response -> response.bodyToMono(String.class)
-                                    .doOnNext(body -> log.error("5xx 에러: {}", body))
-                                    .then(Mono.error(new RuntimeException("Member API 5xx 에러"))))
-                    .bodyToMono(MemberResponse.class)
-                    .timeout(Duration.ofSeconds(5)) // 타임아웃 단축
-                    .block();
-
-            if (member != null && member.getCompanyDomain() != null && !member.getCompanyDomain().isBlank()) {
-                log.info("companyDomain 조회 성공: {}", member.getCompanyDomain());
-                return member.getCompanyDomain();
-            }
-
-            log.error("Member API 응답이 null이거나 companyDomain이 없음");
-            return null;
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("cacheHits", tokenCacheHits.get());
+        stats.put("verifications", tokenVerifications.get());
+        stats.put("cacheEntries", verifiedTokens.size());
+        return stats;
+    }
 
-        } catch (Exception e) {
-            log.error("Member API 호출 실패: {}", e.getMessage());
-            return null;
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
         }
     }
 }
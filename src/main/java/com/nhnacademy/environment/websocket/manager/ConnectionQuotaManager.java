@@ -0,0 +1,186 @@
+package com.nhnacademy.environment.websocket.manager;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 연결(WebSocket 세션, SSE emitter) 수 제한을 담당하는 매니저 클래스
+ *
+ * - 전체 / 회사별 동시 연결 수 제한 (WebSocket + SSE 합산)
+ * - 세션별 구독 요청 수 제한 (1분 고정 구간)
+ * - 제한 초과 시 retry-after 와 함께 즉시 거절
+ * - 현재 사용률 모니터링
+ */
+@Component
+@Slf4j
+public class ConnectionQuotaManager {
+
+    /**
+     * 연결 종류
+     */
+    public enum Channel {
+        WEBSOCKET, SSE
+    }
+
+    /**
+     * 거절 사유와 재시도 대기 시간(초)
+     */
+    public record Rejection(String reason, long retryAfterSeconds) {
+    }
+
+    @Value("${connection.quota.max-total:2000}")
+    private int maxTotal = 2000;
+
+    @Value("${connection.quota.max-per-company:200}")
+    private int maxPerCompany = 200;
+
+    @Value("${connection.quota.max-subscribes-per-minute:30}")
+    private int maxSubscribesPerMinute = 30;
+
+    @Value("${connection.quota.retry-after-seconds:10}")
+    private long retryAfterSeconds = 10;
+
+    /**
+     * Key: connectionId, Value: 연결 정보
+     */
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    /**
+     * Key: companyDomain, Value: connectionId 목록
+     */
+    private final Map<String, Set<String>> companyConnections = new ConcurrentHashMap<>();
+
+    /**
+     * Key: connectionId, Value: 현재 1분 구간의 구독 요청 수
+     */
+    private final Map<String, SubscribeWindow> subscribeWindows = new ConcurrentHashMap<>();
+
+    private final AtomicLong rejectedGlobal = new AtomicLong();
+    private final AtomicLong rejectedCompany = new AtomicLong();
+    private final AtomicLong rejectedSubscribes = new AtomicLong();
+
+    private record Connection(Channel channel, String companyDomain) {
+    }
+
+    private record SubscribeWindow(long minute, int count) {
+    }
+
+    /**
+     * 연결을 만들기 전에 현재 사용량만으로 빠르게 거절 여부를 판단합니다. (자리 예약 없음)
+     *
+     * @param companyDomain 회사 도메인 (null 이면 전체 제한만 확인)
+     * @return 거절 사유, 허용이면 empty
+     */
+    public Optional<Rejection> check(String companyDomain) {
+        if (connections.size() >= maxTotal) {
+            rejectedGlobal.incrementAndGet();
+            return Optional.of(new Rejection("서버 전체 실시간 연결 수 제한(" + maxTotal + ")을 초과했습니다.", retryAfterSeconds));
+        }
+        if (companyDomain != null && companyCount(companyDomain) >= maxPerCompany) {
+            rejectedCompany.incrementAndGet();
+            return Optional.of(new Rejection("회사별 실시간 연결 수 제한(" + maxPerCompany + ")을 초과했습니다.", retryAfterSeconds));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 연결 자리를 확보합니다. 제한을 넘으면 등록하지 않고 거절 사유를 반환합니다.
+     *
+     * @param channel       연결 종류
+     * @param companyDomain 회사 도메인
+     * @param connectionId  세션 id 등 연결 식별자
+     * @return 거절 사유, 허용이면 empty
+     */
+    public synchronized Optional<Rejection> acquire(Channel channel, String companyDomain, String connectionId) {
+        if (connections.containsKey(connectionId)) {
+            return Optional.empty();
+        }
+        Optional<Rejection> rejection = check(companyDomain);
+        if (rejection.isPresent()) {
+            log.warn("실시간 연결 거절 - channel: {}, companyDomain: {}, 사유: {}",
+                    channel, companyDomain, rejection.get().reason());
+            return rejection;
+        }
+        connections.put(connectionId, new Connection(channel, companyDomain));
+        if (companyDomain != null) {
+            companyConnections.computeIfAbsent(companyDomain, k -> ConcurrentHashMap.newKeySet()).add(connectionId);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 연결 자리를 반환합니다. 여러 번 호출해도 한 번만 반영됩니다.
+     */
+    public synchronized void release(String connectionId) {
+        Connection connection = connections.remove(connectionId);
+        subscribeWindows.remove(connectionId);
+        if (connection == null || connection.companyDomain() == null) {
+            return;
+        }
+        Set<String> ids = companyConnections.get(connection.companyDomain());
+        if (ids != null) {
+            ids.remove(connectionId);
+            if (ids.isEmpty()) {
+                companyConnections.remove(connection.companyDomain());
+            }
+        }
+    }
+
+    /**
+     * 세션의 구독 요청 한 건을 기록하고, 1분 동안의 제한을 넘으면 거절합니다.
+     *
+     * @param connectionId 연결 식별자
+     * @return 거절 사유, 허용이면 empty
+     */
+    public Optional<Rejection> tryRecordSubscribe(String connectionId) {
+        long nowMillis = System.currentTimeMillis();
+        long minute = nowMillis / 60_000;
+        SubscribeWindow window = subscribeWindows.compute(connectionId, (key, current) ->
+                current == null || current.minute() != minute
+                        ? new SubscribeWindow(minute, 1)
+                        : new SubscribeWindow(minute, current.count() + 1));
+        if (window.count() <= maxSubscribesPerMinute) {
+            return Optional.empty();
+        }
+        rejectedSubscribes.incrementAndGet();
+        long retryAfter = Math.max(1, ((minute + 1) * 60_000 - nowMillis + 999) / 1000);
+        return Optional.of(new Rejection("세션별 구독 요청 제한(분당 " + maxSubscribesPerMinute + "회)을 초과했습니다.", retryAfter));
+    }
+
+    public int companyCount(String companyDomain) {
+        Set<String> ids = companyConnections.get(companyDomain);
+        return ids != null ? ids.size() : 0;
+    }
+
+    /**
+     * 연결 제한 사용률 (모니터링용)
+     */
+    public Map<String, Object> getStats() {
+        Map<Channel, Integer> byChannel = new EnumMap<>(Channel.class);
+        connections.values().forEach(connection -> byChannel.merge(connection.channel(), 1, Integer::sum));
+
+        Map<String, Integer> companyCounts = new HashMap<>();
+        companyConnections.forEach((companyDomain, ids) -> companyCounts.put(companyDomain, ids.size()));
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalConnections", connections.size());
+        stats.put("maxTotal", maxTotal);
+        stats.put("totalUtilization", maxTotal > 0 ? (double) connections.size() / maxTotal : 0.0);
+        stats.put("maxPerCompany", maxPerCompany);
+        stats.put("companyConnections", companyCounts);
+        stats.put("channelConnections", byChannel);
+        stats.put("rejectedGlobal", rejectedGlobal.get());
+        stats.put("rejectedCompany", rejectedCompany.get());
+        stats.put("rejectedSubscribes", rejectedSubscribes.get());
+        return stats;
+    }
+}
@@ -0,0 +1,238 @@
+package com.nhnacademy.environment.websocket.service;
+
+import com.nhnacademy.environment.websocket.dto.MemberResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket handshake 용 사용자 companyDomain 조회 서비스
+ * <p>
+ * - userEmail 별 조회 결과를 TTL 캐시에 보관해 재연결마다 Member API 를 호출하지 않습니다.<br>
+ * - 같은 사용자의 동시 조회는 하나의 Member API 호출을 공유합니다. (single-flight)<br>
+ * - Member API 호출은 circuit breaker(memberApi)로 감싸고, 실패하거나 차단된 경우
+ * 만료된 캐시 값이라도 stale 허용 시간 안이면 그대로 반환합니다.
+ */
+@Slf4j
+@Service
+public class CompanyDomainResolver {
+
+    static final String CIRCUIT_BREAKER_NAME = "memberApi";
+
+    @Value("${member.api.url:http://MEMBER-API}")
+    private String memberApiUrl;
+
+    @Value("${member.api.me.uri:/members/me}")
+    private String memberMeUri;
+
+    @Value("${member.api.timeout-seconds:5}")
+    private long timeoutSeconds = 5;
+
+    @Value("${websocket.company-domain.cache.ttl-seconds:300}")
+    private long cacheTtlSeconds = 300;
+
+    @Value("${websocket.company-domain.cache.stale-seconds:86400}")
+    private long staleSeconds = 86400;
+
+    @Value("${websocket.company-domain.cache.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    private final WebClient.Builder loadBalancedWebClientBuilder;
+    private final CircuitBreaker circuitBreaker;
+
+    private WebClient webClient;
+
+    /**
+     * Key: userEmail
+     */
+    private final Map<String, CachedDomain> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Key: userEmail, 진행 중인 Member API 조회
+     */
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong memberApiCalls = new AtomicLong();
+    private final AtomicLong sharedLoads = new AtomicLong();
+
+    public CompanyDomainResolver(@LoadBalanced WebClient.Builder webClientBuilder,
+                                 CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.loadBalancedWebClientBuilder = webClientBuilder;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+    }
+
+    @PostConstruct
+    public void initWebClient() {
+        this.webClient = loadBalancedWebClientBuilder
+                .baseUrl(memberApiUrl)
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
+                .build();
+
+        log.info("=== CompanyDomainResolver 초기화 완료 ===");
+        log.info("memberApiUrl: {}", memberApiUrl);
+        log.info("memberMeUri: {}", memberMeUri);
+    }
+
+    /**
+     * 캐시된 companyDomain 과 조회 시각
+     */
+    private record CachedDomain(String companyDomain, Instant loadedAt) {
+    }
+
+    /**
+     * Member API 4xx 응답 (사용자 문제이므로 circuit breaker 실패로 집계하지 않음)
+     */
+    private static class MemberApiClientException extends RuntimeException {
+        MemberApiClientException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 사용자의 companyDomain 을 반환합니다.
+     *
+     * @param userEmail 사용자 이메일 (캐시 key)
+     * @param userRole  사용자 역할 (Member API 헤더)
+     * @return companyDomain, 조회할 수 없으면 null
+     */
+    public String resolve(String userEmail, String userRole) {
+        CachedDomain cached = cache.get(userEmail);
+        if (cached != null && cached.loadedAt().plusSeconds(cacheTtlSeconds).isAfter(Instant.now())) {
+            cacheHits.incrementAndGet();
+            return cached.companyDomain();
+        }
+
+        CompletableFuture<String> loading = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(userEmail, loading);
+        if (existing != null) {
+            sharedLoads.incrementAndGet();
+            try {
+                return existing.get(timeoutSeconds + 1, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.warn("companyDomain 공유 조회 대기 실패 - userEmail: {}, {}", userEmail, e.getMessage());
+                return staleOrNull(userEmail);
+            }
+        }
+
+        try {
+            String companyDomain = load(userEmail, userRole);
+            loading.complete(companyDomain);
+            return companyDomain;
+        } catch (RuntimeException e) {
+            loading.complete(null);
+            throw e;
+        } finally {
+            inFlight.remove(userEmail, loading);
+        }
+    }
+
+    /**
+     * companyDomain 조회 통계 (캐시 / stale 응답 수, Member API 호출 수, circuit breaker 상태)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("staleHits", staleHits.get());
+        stats.put("memberApiCalls", memberApiCalls.get());
+        stats.put("sharedLoads", sharedLoads.get());
+        stats.put("cacheEntries", cache.size());
+        stats.put("circuitBreakerState", circuitBreaker.getState().name());
+        return stats;
+    }
+
+    /**
+     * circuit breaker 를 거쳐 Member API 를 호출하고, 실패 시 stale 캐시 값을 반환합니다.
+     */
+    private String load(String userEmail, String userRole) {
+        String companyDomain;
+        try {
+            companyDomain = circuitBreaker.executeSupplier(() -> fetchFromMemberApi(userEmail, userRole));
+        } catch (CallNotPermittedException e) {
+            log.warn("Member API circuit breaker OPEN - 캐시된 companyDomain 사용 시도. userEmail: {}", userEmail);
+            return staleOrNull(userEmail);
+        } catch (Exception e) {
+            log.error("Member API 호출 실패: {}", e.getMessage());
+            return staleOrNull(userEmail);
+        }
+
+        if (companyDomain == null) {
+            cache.remove(userEmail);
+            return null;
+        }
+        if (cache.size() >= maxEntries && !cache.containsKey(userEmail)) {
+            Instant staleLimit = Instant.now().minusSeconds(staleSeconds);
+            cache.values().removeIf(entry -> entry.loadedAt().isBefore(staleLimit));
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(userEmail, new CachedDomain(companyDomain, Instant.now()));
+        return companyDomain;
+    }
+
+    private String staleOrNull(String userEmail) {
+        CachedDomain cached = cache.get(userEmail);
+        if (cached != null && cached.loadedAt().plusSeconds(staleSeconds).isAfter(Instant.now())) {
+            staleHits.incrementAndGet();
+            log.info("만료된 companyDomain 캐시 사용 - userEmail: {}, companyDomain: {}", userEmail, cached.companyDomain());
+            return cached.companyDomain();
+        }
+        return null;
+    }
+
+    /**
+     * Member API를 호출하여 사용자의 companyDomain 조회
+     * 4xx 응답은 null 로 반환하고, 5xx / 타임아웃은 예외로 전파합니다.
+     */
+    private String fetchFromMemberApi(String userEmail, String userRole) {
+        log.info("=== Member API 호출 시작 ===");
+        log.info("URL: {}", memberApiUrl);
+        log.info("userEmail: {}", userEmail);
+        memberApiCalls.incrementAndGet();
+
+        MemberResponse member = webClient.get()
+                .uri(memberMeUri)
+                .header("X-User-Email", userEmail)
+                .header("X-User-Role", userRole)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError,
+                        response -> response.bodyToMono(String.class)
+                                .doOnNext(body -> log.error("4xx 에러: {}", body))
+                                .then(Mono.error(new MemberApiClientException("Member API 4xx 에러"))))
+                .onStatus(HttpStatusCode::is5xxServerError,
+                        response -> response.bodyToMono(String.class)
+                                .doOnNext(body -> log.error("5xx 에러: {}", body))
+                                .then(Mono.error(new RuntimeException("Member API 5xx 에러"))))
+                .bodyToMono(MemberResponse.class)
+                .onErrorResume(MemberApiClientException.class, e -> Mono.empty())
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .block();
+
+        if (member != null && member.getCompanyDomain() != null && !member.getCompanyDomain().isBlank()) {
+            log.info("companyDomain 조회 성공: {}", member.getCompanyDomain());
+            return member.getCompanyDomain();
+        }
+
+        log.error("Member API 응답이 null이거나 companyDomain이 없음");
+        return null;
+    }
+}
@@ -0,0 +1,14 @@
+-- ==========================================
+-- latest_predictions 조회용 복합 인덱스
+-- ==========================================
+-- spring.jpa.hibernate.ddl-auto 를 사용하지 않으므로 @Index 선언만으로는 인덱스가 생성되지 않습니다.
+-- 배포 전에 운영 / 개발 DB 에 한 번 실행합니다. (이미 있으면 "Duplicate key name" 오류 - 무시)
+--
+-- 예측 화면 조회 조건 (company_domain, device_id, resource_type, target_time) 순서이며,
+-- predicted_value, confidence_score 까지 포함하여 PredictionPoint 프로젝션 조회를 인덱스만으로 처리합니다.
+CREATE INDEX idx_latest_predictions_lookup
+    ON latest_predictions (company_domain, device_id, resource_type, target_time, predicted_value, confidence_score);
+
+-- 예측 캐시 무효화 확인용 (MAX(batch_id) 를 인덱스만으로 조회)
+CREATE INDEX idx_latest_predictions_batch
+    ON latest_predictions (batch_id);
@@ -0,0 +1,109 @@
+package com.nhnacademy.environment.prediction.repository;
+
+import com.nhnacademy.environment.prediction.domain.LatestPrediction;
+import com.nhnacademy.environment.prediction.dto.PredictionPoint;
+import com.nhnacademy.environment.prediction.dto.PredictionVersion;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 테스트: LatestPredictionRepository (임베디드 H2)
+ * - 프로젝션 조회 결과와 복합 인덱스 사용 여부를 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+class LatestPredictionRepositoryTest {
+
+    @Autowired
+    private LatestPredictionRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        repository.save(prediction("cpu", base.plusMinutes(30), 40.0));
+        repository.save(prediction("cpu", base, 35.0));
+        repository.save(prediction("mem", base, 60.0));
+        repository.save(prediction("disk", base.plusDays(2), 70.0));
+    }
+
+    private LatestPrediction prediction(String resourceType, LocalDateTime targetTime, double value) {
+        return new LatestPrediction(null, "nhnacademy", "1", targetTime, resourceType, value,
+                "v1", 0.9, "batch-1", "192.168.0.10");
+    }
+
+    @Test
+    @DisplayName("findPredictionPoints: 필요한 컬럼만 시간순으로 조회")
+    void testFindPredictionPoints() {
+        List<PredictionPoint> points = repository.findPredictionPoints(
+                "nhnacademy", "192.168.0.10", "cpu", base.minusHours(1), base.plusHours(1));
+
+        assertThat(points).extracting(PredictionPoint::predictedValue).containsExactly(35.0, 40.0);
+        assertThat(points).allSatisfy(point -> assertThat(point.confidenceScore()).isEqualTo(0.9));
+    }
+
+    @Test
+    @DisplayName("findPredictionPointsByResourceTypes: resource_type IN 조회")
+    void testFindPredictionPointsByResourceTypes() {
+        List<PredictionPoint> points = repository.findPredictionPointsByResourceTypes(
+                "nhnacademy", "192.168.0.10", List.of("cpu", "mem", "disk"), base.minusHours(1), base.plusHours(1));
+
+        assertThat(points).extracting(PredictionPoint::resourceType).containsExactlyInAnyOrder("cpu", "cpu", "mem");
+    }
+
+    @Test
+    @DisplayName("findPredictionVersion: batch_id 가 사전순으로 작아도 새 batch 기록 시 값이 바뀜")
+    void testFindPredictionVersionChangesOnNewBatch() {
+        PredictionVersion before = repository.findPredictionVersion();
+
+        LatestPrediction next = prediction("cpu", base.plusHours(1), 45.0);
+        next.setBatchId("batch-0");
+        repository.save(next);
+
+        PredictionVersion after = repository.findPredictionVersion();
+        assertThat(after.maxId()).isGreaterThan(before.maxId());
+        assertThat(after.rowCount()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("findPredictionVersion: max(id) 가 그대로인 덮어쓰기 / 삭제도 버전이 바뀜")
+    void testFindPredictionVersionChangesOnRewriteAndDelete() {
+        PredictionVersion before = repository.findPredictionVersion();
+
+        List<LatestPrediction> rows = repository.findAll();
+        rows.forEach(row -> row.setBatchId("batch-2"));
+        repository.saveAllAndFlush(rows);
+        PredictionVersion rewritten = repository.findPredictionVersion();
+        assertThat(rewritten).isNotEqualTo(before);
+        assertThat(rewritten.maxId()).isEqualTo(before.maxId());
+
+        repository.delete(rows.stream().filter(row -> !row.getId().equals(before.maxId())).findFirst().orElseThrow());
+        repository.flush();
+        assertThat(repository.findPredictionVersion()).isNotEqualTo(rewritten);
+    }
+
+    @Test
+    @DisplayName("조회 조건이 idx_latest_predictions_lookup 인덱스를 사용")
+    void testLookupUsesCompositeIndex() {
+        Object plan = entityManager.createNativeQuery(
+                "EXPLAIN SELECT resource_type, target_time, predicted_value, confidence_score " +
+                        "FROM latest_predictions WHERE company_domain = 'nhnacademy' " +
+                        "AND device_id = '192.168.0.10' AND resource_type = 'cpu' " +
+                        "AND target_time BETWEEN TIMESTAMP '2025-06-01 11:00:00' AND TIMESTAMP '2025-06-01 13:00:00' " +
+                        "ORDER BY target_time")
+                .getSingleResult();
+
+        assertThat(plan.toString()).containsIgnoringCase("IDX_LATEST_PREDICTIONS_LOOKUP");
+    }
+}
@@ -0,0 +1,93 @@
+package com.nhnacademy.environment.prediction.service;
+
+import com.nhnacademy.environment.prediction.dto.PredictionPoint;
+import com.nhnacademy.environment.prediction.dto.PredictionVersion;
+import com.nhnacademy.environment.prediction.repository.LatestPredictionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: PredictionCacheService
+ * - 테이블 버전 기준 캐시 적중과 테이블 변경 감지 시 무효화를 검증합니다.
+ */
+class PredictionCacheServiceTest {
+
+    private LatestPredictionRepository predictionRepository;
+    private PredictionCacheService cacheService;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        predictionRepository = mock(LatestPredictionRepository.class);
+        cacheService = new PredictionCacheService(predictionRepository);
+        now = LocalDateTime.now();
+
+        List<PredictionPoint> points = List.of(
+                new PredictionPoint("cpu", now.plusHours(1), 30.0, 0.9),
+                new PredictionPoint("cpu", now.plusHours(30), 50.0, 0.8),
+                new PredictionPoint("mem", now.plusHours(1), 60.0, 0.9));
+        when(predictionRepository.findPredictionVersion()).thenReturn(new PredictionVersion(100L, 3L, "batch-1"));
+        when(predictionRepository.findPredictionPointsByResourceTypes(anyString(), anyString(), anyCollection(), any(), any()))
+                .thenReturn(points);
+    }
+
+    @Test
+    @DisplayName("같은 batch 에서는 두 번째 조회부터 메모리에서 구간만 잘라 반환")
+    void testServedFromCacheWithinBatch() {
+        List<PredictionPoint> first = cacheService.getPredictions("nhnacademy", "192.168.0.10", "cpu", now, now.plusHours(6));
+        List<PredictionPoint> second = cacheService.getPredictions("nhnacademy", "192.168.0.10", "cpu", now, now.plusHours(48));
+
+        assertThat(first).extracting(PredictionPoint::predictedValue).containsExactly(30.0);
+        assertThat(second).extracting(PredictionPoint::predictedValue).containsExactly(30.0, 50.0);
+        verify(predictionRepository, times(1))
+                .findPredictionPointsByResourceTypes(anyString(), anyString(), anyCollection(), any(), any());
+        assertThat(cacheService.getStats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("pollLatestBatch(): 최신 예측 id 가 바뀌면 캐시를 비우고 다시 조회")
+    void testNewBatchInvalidatesCache() {
+        cacheService.getPredictions("nhnacademy", "192.168.0.10", "cpu", now, now.plusHours(6));
+
+        cacheService.pollLatestBatch();
+        cacheService.getPredictions("nhnacademy", "192.168.0.10", "cpu", now, now.plusHours(6));
+        verify(predictionRepository, times(1))
+                .findPredictionPointsByResourceTypes(anyString(), anyString(), anyCollection(), any(), any());
+
+        when(predictionRepository.findPredictionVersion()).thenReturn(new PredictionVersion(250L, 3L, "batch-2"));
+        cacheService.pollLatestBatch();
+        cacheService.getPredictions("nhnacademy", "192.168.0.10", "cpu", now, now.plusHours(6));
+
+        verify(predictionRepository, times(2))
+                .findPredictionPointsByResourceTypes(anyString(), anyString(), anyCollection(), any(), any());
+        assertThat(cacheService.getStats()).containsEntry("latestPredictionId", 250L).containsEntry("invalidations", 1L);
+    }
+
+    @Test
+    @DisplayName("pollLatestBatch(): max(id) 가 그대로여도 기존 행을 새 batch 로 덮어쓰거나 삭제하면 캐시를 비움")
+    void testInPlaceRewriteInvalidatesCache() {
+        cacheService.getPredictions("nhnacademy", "192.168.0.10", "cpu", now, now.plusHours(6));
+
+        // 같은 행을 UPDATE 로 새 batch 로 덮어씀
+        when(predictionRepository.findPredictionVersion()).thenReturn(new PredictionVersion(100L, 3L, "batch-2"));
+        cacheService.pollLatestBatch();
+        cacheService.getPredictions("nhnacademy", "192.168.0.10", "cpu", now, now.plusHours(6));
+
+        // 일부 행 삭제
+        when(predictionRepository.findPredictionVersion()).thenReturn(new PredictionVersion(100L, 2L, "batch-2"));
+        cacheService.pollLatestBatch();
+        cacheService.getPredictions("nhnacademy", "192.168.0.10", "cpu", now, now.plusHours(6));
+
+        verify(predictionRepository, times(3))
+                .findPredictionPointsByResourceTypes(anyString(), anyString(), anyCollection(), any(), any());
+        assertThat(cacheService.getStats()).containsEntry("invalidations", 2L).containsEntry("predictionRows", 2L);
+    }
+}
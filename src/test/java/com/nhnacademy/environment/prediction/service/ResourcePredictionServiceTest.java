@@ -0,0 +1,93 @@
+package com.nhnacademy.environment.prediction.service;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.prediction.dto.PredictionPoint;
+import com.nhnacademy.environment.prediction.dto.ResourcePredictionDto;
+import com.nhnacademy.environment.prediction.repository.LatestPredictionRepository;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: ResourcePredictionService
+ * - /forecast/all 통합 조회가 InfluxDB 1회, MySQL 1회로 처리되는지 검증합니다.
+ */
+class ResourcePredictionServiceTest {
+
+    private QueryApi queryApi;
+    private LatestPredictionRepository predictionRepository;
+    private ResourcePredictionService predictionService;
+
+    @BeforeEach
+    void setUp() {
+        queryApi = mock(QueryApi.class);
+        predictionRepository = mock(LatestPredictionRepository.class);
+        predictionService = new ResourcePredictionService(predictionRepository,
+                new PredictionCacheService(predictionRepository), new InfluxQueryExecutor(queryApi), Runnable::run);
+        ReflectionTestUtils.setField(predictionService, "influxOrg", "my-org");
+        ReflectionTestUtils.setField(predictionService, "influxBucket", "data");
+    }
+
+    private FluxRecord point(String gatewayId, Instant time, double value) {
+        FluxRecord record = mock(FluxRecord.class);
+        when(record.getValueByKey("gatewayId")).thenReturn(gatewayId);
+        when(record.getTime()).thenReturn(time);
+        when(record.getValue()).thenReturn(value);
+        return record;
+    }
+
+    private PredictionPoint prediction(String resourceType, LocalDateTime targetTime, double value) {
+        return new PredictionPoint(resourceType, targetTime, value, 0.9);
+    }
+
+    @Test
+    @DisplayName("getAllPredictionData(): gatewayId 별 통합 Flux 쿼리 1회 + resource_type IN 쿼리 1회")
+    void testAllPredictionsUseTwoRoundTrips() {
+        Instant now = Instant.now();
+        List<FluxRecord> records = List.of(
+                point("cpu", now.minusSeconds(3600), 70.0),
+                point("mem", now.minusSeconds(3600), 40.0),
+                point("disk", now.minusSeconds(3600), 55.0),
+                point("disk", now.minusSeconds(1800), 56.0));
+        FluxTable table = mock(FluxTable.class);
+        when(table.getRecords()).thenReturn(records);
+        when(queryApi.query(anyString(), anyString())).thenReturn(List.of(table));
+
+        LocalDateTime future = LocalDateTime.now().plusHours(1);
+        List<PredictionPoint> predictions = List.of(
+                prediction("cpu", future, 35.0),
+                prediction("memory", future, 45.0),
+                prediction("disk", future, 57.0));
+        when(predictionRepository.findPredictionPointsByResourceTypes(anyString(), anyString(), anyCollection(), any(), any()))
+                .thenReturn(predictions);
+
+        Map<String, ResourcePredictionDto> all = predictionService.getAllPredictionData("nhnacademy", "192.168.0.10", 12, 24);
+
+        assertThat(all).containsOnlyKeys("cpu", "memory", "disk");
+        assertThat(all.get("cpu").getHistoricalData()).singleElement()
+                .satisfies(point -> assertThat(point.getValue()).isEqualTo(30.0));
+        assertThat(all.get("memory").getHistoricalData()).hasSize(1);
+        assertThat(all.get("memory").getPredictedData()).singleElement()
+                .satisfies(point -> assertThat(point.getValue()).isEqualTo(45.0));
+        assertThat(all.get("disk").getHistoricalData()).hasSize(2);
+
+        verify(queryApi, times(1)).query(anyString(), anyString());
+        verify(predictionRepository, times(1))
+                .findPredictionPointsByResourceTypes(anyString(), anyString(), anyCollection(), any(), any());
+        verify(predictionRepository, times(1)).findPredictionVersion();
+        verifyNoMoreInteractions(predictionRepository);
+    }
+}
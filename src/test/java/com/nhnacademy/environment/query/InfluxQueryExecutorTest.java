@@ -0,0 +1,166 @@
+package com.nhnacademy.environment.query;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class InfluxQueryExecutorTest {
+
+    private QueryApi queryApi;
+    private InfluxQueryExecutor queryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        queryApi = mock(QueryApi.class);
+        queryExecutor = new InfluxQueryExecutor(queryApi);
+    }
+
+    @Test
+    @DisplayName("query: 동시에 들어온 동일 쿼리는 한 번만 실행하고 결과를 공유")
+    void testConcurrentIdenticalQueriesAreCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<FluxTable> tables = List.of(mock(FluxTable.class));
+
+        when(queryApi.query(anyString(), eq("org"))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return tables;
+        });
+
+        CompletableFuture<List<FluxTable>> leader =
+                CompletableFuture.supplyAsync(() -> queryExecutor.query("from(bucket: \"data\")  |> range(start: -1h)", "org"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<List<FluxTable>> follower =
+                CompletableFuture.supplyAsync(() -> queryExecutor.query("from(bucket: \"data\") |> range(start: -1h)", "org"));
+
+        // follower 가 in-flight 쿼리에 합류할 때까지 대기
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((long) queryExecutor.getStats().get("coalescedQueries") == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(tables);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(tables);
+        verify(queryApi, times(1)).query(anyString(), eq("org"));
+        assertThat(queryExecutor.getStats())
+                .containsEntry("executedQueries", 1L)
+                .containsEntry("coalescedQueries", 1L)
+                .containsEntry("inFlightQueries", 0);
+    }
+
+    @Test
+    @DisplayName("query: 우선순위가 다르면 실행 중인 BATCH 쿼리에 합류하지 않고 따로 실행")
+    void testInteractiveQueryDoesNotJoinBatchLeader() throws Exception {
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<FluxTable> batchTables = List.of(mock(FluxTable.class));
+        List<FluxTable> interactiveTables = List.of(mock(FluxTable.class));
+
+        when(queryApi.query(anyString(), eq("org")))
+                .thenAnswer(invocation -> {
+                    batchStarted.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return batchTables;
+                })
+                .thenReturn(interactiveTables);
+
+        CompletableFuture<List<FluxTable>> batch =
+                CompletableFuture.supplyAsync(() -> queryExecutor.query("flux", "org", QueryPriority.BATCH));
+        assertThat(batchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // BATCH 가 끝나기 전에 INTERACTIVE 는 자기 결과를 받음
+        assertThat(queryExecutor.query("flux", "org", QueryPriority.INTERACTIVE)).isSameAs(interactiveTables);
+        release.countDown();
+
+        assertThat(batch.get(5, TimeUnit.SECONDS)).isSameAs(batchTables);
+        assertThat(queryExecutor.getStats())
+                .containsEntry("executedQueries", 2L)
+                .containsEntry("coalescedQueries", 0L);
+    }
+
+    @Test
+    @DisplayName("query: 순차 호출은 매번 새로 실행")
+    void testSequentialQueriesAreNotCached() {
+        when(queryApi.query(anyString(), anyString())).thenReturn(List.of());
+
+        queryExecutor.query("flux", "org");
+        queryExecutor.query("flux", "org");
+
+        verify(queryApi, times(2)).query("flux", "org");
+    }
+
+    @Test
+    @DisplayName("query: 예외 발생 시 호출자에게 그대로 전달")
+    void testExceptionIsPropagated() {
+        when(queryApi.query(anyString(), anyString())).thenThrow(new IllegalStateException("쿼리 실패"));
+
+        assertThatThrownBy(() -> queryExecutor.query("flux", "org"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("쿼리 실패");
+        assertThat(queryExecutor.getStats()).containsEntry("inFlightQueries", 0);
+    }
+
+    @Test
+    @DisplayName("query: 실행 중 Error 가 나도 합류한 호출자는 멈추지 않고 같은 Error 를 받음")
+    void testErrorCompletesCoalescedCallers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(queryApi.query(anyString(), eq("org"))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new OutOfMemoryError("결과가 너무 큼");
+        });
+
+        CompletableFuture<List<FluxTable>> leader = CompletableFuture.supplyAsync(() -> queryExecutor.query("flux", "org"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<FluxTable>> follower = CompletableFuture.supplyAsync(() -> queryExecutor.query("flux", "org"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((long) queryExecutor.getStats().get("coalescedQueries") == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(OutOfMemoryError.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(OutOfMemoryError.class);
+        assertThat(queryExecutor.getStats()).containsEntry("inFlightQueries", 0);
+    }
+
+    @Test
+    @DisplayName("normalize: 문자열 리터럴 밖의 공백만 줄이고 리터럴 안의 공백은 유지")
+    void testNormalizeKeepsWhitespaceInsideStringLiterals() {
+        assertThat(InfluxQueryExecutor.normalize("  from(bucket: \"data\")\n   |>  range(start: -1h)  "))
+                .isEqualTo("from(bucket: \"data\") |> range(start: -1h)");
+        assertThat(InfluxQueryExecutor.normalize("r.location == \"A  101\""))
+                .isNotEqualTo(InfluxQueryExecutor.normalize("r.location == \"A 101\""));
+        assertThat(InfluxQueryExecutor.normalize("r.a == \"x\\\"  y\"  and  r.b == \"z\""))
+                .isEqualTo("r.a == \"x\\\"  y\" and r.b == \"z\"");
+    }
+
+    @Test
+    @DisplayName("tenantOf: Flux 의 companyDomain 필터 값으로 tenant 를 구분")
+    void testTenantOf() {
+        assertThat(InfluxQueryExecutor.tenantOf("from(bucket: \"data\") |> filter(fn: (r) => r[\"companyDomain\"] == \"nhnacademy\")"))
+                .isEqualTo("nhnacademy");
+        assertThat(InfluxQueryExecutor.tenantOf("filter(fn: (r) => r.companyDomain == \"a\" or r.companyDomain == \"a\")"))
+                .isEqualTo("a");
+        assertThat(InfluxQueryExecutor.tenantOf("filter(fn: (r) => r.companyDomain == \"a\" or r.companyDomain == \"b\")"))
+                .isEqualTo(QueryFairScheduler.SHARED_TENANT);
+        assertThat(InfluxQueryExecutor.tenantOf("from(bucket: \"data\") |> range(start: -1h)"))
+                .isEqualTo(QueryFairScheduler.SHARED_TENANT);
+    }
+}
@@ -0,0 +1,105 @@
+package com.nhnacademy.environment.query;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: QueryCostGuard
+ * - 시계열 수 × 구간 ÷ 수집 주기 추정과 한도 초과 시 실행 계획을 검증합니다.
+ */
+class QueryCostGuardTest {
+
+    private static final Map<String, String> FILTERS = Map.of("companyDomain", "nhnacademy", "origin", "sensor_data");
+
+    private QueryApi queryApi;
+    private QueryCostGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        queryApi = mock(QueryApi.class);
+        FluxRecord record = mock(FluxRecord.class);
+        when(record.getValue()).thenReturn(10L);
+        FluxTable table = mock(FluxTable.class);
+        when(table.getRecords()).thenReturn(List.of(record));
+        List<FluxTable> tables = List.of(table);
+        when(queryApi.query(contains("influxdb.cardinality"), anyString())).thenReturn(tables);
+
+        guard = new QueryCostGuard(new InfluxQueryExecutor(queryApi), "data", "my-org");
+    }
+
+    @Test
+    @DisplayName("plan(): 1년 원본 조회는 한도 안에 들어오는 집계 간격으로 전환하고 시계열 수는 캐시")
+    void testDownsamplesOversizedRange() {
+        QueryCostGuard.QueryPlan plan = guard.plan(FILTERS, Duration.ofDays(365), 0);
+
+        assertThat(plan.action()).isEqualTo(QueryCostGuard.Action.AGGREGATE);
+        assertThat(plan.seriesCount()).isEqualTo(10);
+        assertThat(plan.estimatedPoints()).isEqualTo(10L * 365 * 24 * 360);
+        assertThat(plan.truncated()).isTrue();
+        // 시계열당 5000점 이하 → 1년 / 2h = 4380점
+        assertThat(plan.aggregateEvery()).isEqualTo("2h");
+
+        guard.plan(FILTERS, Duration.ofDays(365), 0);
+        verify(queryApi, times(1)).query(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("plan(): 한도 이하 / 짧은 구간은 RAW, 모드에 따라 CAP / REJECT")
+    void testRawCapAndReject() {
+        assertThat(guard.plan(FILTERS, Duration.ofMinutes(60), 0).action()).isEqualTo(QueryCostGuard.Action.RAW);
+        assertThat(guard.plan(FILTERS, Duration.ofDays(30), 200).action()).isEqualTo(QueryCostGuard.Action.RAW);
+
+        QueryCostGuard.QueryPlan capped = guard.plan(FILTERS, Duration.ofDays(30), 0, QueryCostGuard.Mode.CAP);
+        assertThat(capped.action()).isEqualTo(QueryCostGuard.Action.CAP);
+        assertThat(capped.perSeriesLimit()).isEqualTo(5000);
+
+        ReflectionTestUtils.setField(guard, "mode", QueryCostGuard.Mode.REJECT);
+        assertThat(guard.plan(FILTERS, Duration.ofDays(30), 0).action()).isEqualTo(QueryCostGuard.Action.REJECT);
+        assertThat(guard.getStats()).containsEntry("rejected", 1L).containsEntry("capped", 1L);
+    }
+
+    @Test
+    @DisplayName("plan(): 시계열 수는 쿼리와 같은 상대 구간으로 셈")
+    void testCountsSeriesInSameRelativeWindow() {
+        QueryCostGuard.QueryPlan plan = guard.plan(FILTERS, Duration.ofDays(365), 0, QueryCostGuard.Mode.DOWNSAMPLE);
+
+        assertThat(plan.action()).isEqualTo(QueryCostGuard.Action.AGGREGATE);
+        ArgumentCaptor<String> flux = ArgumentCaptor.forClass(String.class);
+        verify(queryApi).query(flux.capture(), anyString());
+        assertThat(flux.getValue()).contains("start: -525600m");
+    }
+
+    @Test
+    @DisplayName("plan(): 시계열 수 조회에 실패하면 캐시하지 않고 다음 요청에서 다시 조회")
+    void testFailedCardinalityLookupIsNotCached() {
+        FluxRecord record = mock(FluxRecord.class);
+        when(record.getValue()).thenReturn(10L);
+        FluxTable table = mock(FluxTable.class);
+        when(table.getRecords()).thenReturn(List.of(record));
+        List<FluxTable> tables = List.of(table);
+        when(queryApi.query(contains("influxdb.cardinality"), anyString()))
+                .thenThrow(new IllegalStateException("influx down"))
+                .thenReturn(tables);
+
+        assertThat(guard.plan(FILTERS, Duration.ofDays(30), 0).seriesCount()).isEqualTo(1);
+        assertThat(guard.plan(FILTERS, Duration.ofDays(30), 0).seriesCount()).isEqualTo(10);
+
+        verify(queryApi, times(2)).query(anyString(), anyString());
+        assertThat(guard.getStats()).containsEntry("cardinalityFailures", 1L);
+    }
+}
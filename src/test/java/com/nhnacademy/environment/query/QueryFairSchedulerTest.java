@@ -0,0 +1,99 @@
+package com.nhnacademy.environment.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 단위 테스트: QueryFairScheduler
+ * - 회사별 동시 실행 제한, INTERACTIVE 우선 실행, 대기 시간 초과를 검증합니다.
+ */
+class QueryFairSchedulerTest {
+
+    private QueryFairScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new QueryFairScheduler();
+        ReflectionTestUtils.setField(scheduler, "maxConcurrent", 2);
+        ReflectionTestUtils.setField(scheduler, "maxPerTenant", 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int queueDepth(String tenant) {
+        Map<String, Object> tenants = (Map<String, Object>) scheduler.getStats().get("tenants");
+        Map<String, Object> stats = (Map<String, Object>) tenants.get(tenant);
+        return stats == null ? 0 : (int) stats.get("queueDepth");
+    }
+
+    private void awaitQueueDepth(String tenant, int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queueDepth(tenant) != depth && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(queueDepth(tenant)).isEqualTo(depth);
+    }
+
+    @Test
+    @DisplayName("acquire(): 한 회사가 자리를 다 써도 다른 회사 쿼리는 바로 실행")
+    void testPerTenantLimit() throws Exception {
+        scheduler.acquire("heavy", QueryPriority.BATCH);
+
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> scheduler.acquire("heavy", QueryPriority.BATCH));
+        awaitQueueDepth("heavy", 1);
+
+        scheduler.acquire("light", QueryPriority.INTERACTIVE);
+        assertThat(second).isNotDone();
+
+        scheduler.release("heavy");
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(queueDepth("heavy")).isZero();
+    }
+
+    @Test
+    @DisplayName("acquire(): 대기열에서는 먼저 들어온 BATCH 보다 INTERACTIVE 를 먼저 실행")
+    void testInteractiveFirst() throws Exception {
+        ReflectionTestUtils.setField(scheduler, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(scheduler, "maxPerTenant", 4);
+        List<String> order = new CopyOnWriteArrayList<>();
+        scheduler.acquire("a", QueryPriority.BATCH);
+
+        CompletableFuture<Void> batch = CompletableFuture.runAsync(() -> {
+            scheduler.acquire("b", QueryPriority.BATCH);
+            order.add("batch");
+            scheduler.release("b");
+        });
+        awaitQueueDepth("b", 1);
+        CompletableFuture<Void> interactive = CompletableFuture.runAsync(() -> {
+            scheduler.acquire("c", QueryPriority.INTERACTIVE);
+            order.add("interactive");
+            scheduler.release("c");
+        });
+        awaitQueueDepth("c", 1);
+
+        scheduler.release("a");
+        CompletableFuture.allOf(batch, interactive).get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly("interactive", "batch");
+    }
+
+    @Test
+    @DisplayName("acquire(): 대기 시간이 초과되면 QueryRejectedException")
+    void testQueueTimeout() {
+        ReflectionTestUtils.setField(scheduler, "queueTimeoutMs", 50L);
+        scheduler.acquire("a", QueryPriority.INTERACTIVE);
+
+        assertThatThrownBy(() -> scheduler.acquire("a", QueryPriority.INTERACTIVE))
+                .isInstanceOf(QueryRejectedException.class);
+        assertThat(queueDepth("a")).isZero();
+    }
+}
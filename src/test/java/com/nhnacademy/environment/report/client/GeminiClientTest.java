@@ -0,0 +1,68 @@
+package com.nhnacademy.environment.report.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단위 테스트: GeminiClient
+ * - 로컬 스텁 모델 서버(streamGenerateContent, SSE 응답)로 스트리밍 요약 조각 전달을 검증합니다.
+ */
+class GeminiClientTest {
+
+    private static final List<String> CHUNKS = List.of("## CPU 리포트\n", "평균 사용률은 ", "42.0% 입니다.");
+
+    private HttpServer server;
+    private final List<String> requestPaths = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requestPaths.add(exchange.getRequestURI().toString());
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (String chunk : CHUNKS) {
+                    String json = "{\"candidates\":[{\"content\":{\"role\":\"model\",\"parts\":[{\"text\":\""
+                            + chunk.replace("\n", "\\n") + "\"}]}}]}";
+                    body.write(("data: " + json + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                    body.flush();
+                }
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("streamSummary(): 모델이 보내는 조각을 순서대로 전달하고 전체 요약을 반환")
+    void testStreamSummaryFromStubServer() {
+        GeminiClient geminiClient = new GeminiClient("stub-model",
+                "http://localhost:" + server.getAddress().getPort(), "test-key");
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        String summary = geminiClient.streamSummary(Map.of("summary", "CPU 평균 42%"), "CPU 리포트", received::add);
+
+        assertThat(received).containsExactlyElementsOf(CHUNKS);
+        assertThat(summary).isEqualTo(String.join("", CHUNKS));
+        assertThat(requestPaths).singleElement().asString()
+                .contains("stub-model:streamGenerateContent");
+    }
+}
@@ -0,0 +1,82 @@
+package com.nhnacademy.environment.report.service;
+
+import com.nhnacademy.environment.timeseries.service.TimeSeriesDataService;
+import com.nhnacademy.environment.util.RunningStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: AiReportDataService 프롬프트 해석
+ * - 키워드 매처로 바꾼 뒤에도 게이트웨이 / measurement 우선순위 규칙이 유지되는지 검증합니다.
+ */
+class AiReportDataServiceTest {
+
+    private AiReportDataService aiReportDataService;
+
+    @BeforeEach
+    void setUp() {
+        TimeSeriesDataService timeSeriesDataService = mock(TimeSeriesDataService.class);
+        when(timeSeriesDataService.getSummaryStatistics(anyString(), anyString(), any(), any(), any()))
+                .thenReturn(new RunningStatistics());
+        when(timeSeriesDataService.getSampleTimeSeriesData(anyString(), anyString(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of());
+        aiReportDataService = new AiReportDataService(timeSeriesDataService);
+    }
+
+    private void assertResolved(String prompt, String gatewayId, String measurement) {
+        Map<String, Object> result = aiReportDataService.prepareSimpleReport(prompt);
+
+        assertThat(result.get("success")).as(prompt).isEqualTo(true);
+        assertThat(result.get("gatewayId")).as(prompt).isEqualTo(gatewayId);
+        assertThat(result.get("measurement")).as(prompt).isEqualTo(measurement);
+    }
+
+    @Test
+    @DisplayName("prepareSimpleReport(): 서버 리소스 / JVM 서비스 프롬프트의 게이트웨이와 measurement")
+    void testResolvesGatewayAndMeasurement() {
+        assertResolved("CPU 지난 주", "cpu", "usage_idle");
+        assertResolved("지난 3일간 cpu 시스템 사용률", "cpu", "usage_idle");
+        assertResolved("서버실 온도 센서 값 확인해줘", "sensors", "temp_input");
+        assertResolved("전력 소비량 분석해줘", "modbus", "power_watts");
+        assertResolved("네트워크 트래픽 보여줘", "net", "bytes_recv");
+        assertResolved("메모리 사용중 비율", "mem", "available_percent");
+        assertResolved("인증 서비스 힙메모리 알려줘", "javame-auth", "memory_total_heap_used_bytes");
+        assertResolved("게이트웨이 파일 핸들러 분석해줘", "javame-gateway", "process_open_file_descriptors_count");
+        assertResolved("회원 서비스 스레드 수", "javame-member", "thread_active_count");
+        assertResolved("jvm gc 횟수", "javame-environment-api", "gc_g1_young_generation_count");
+    }
+
+    @Test
+    @DisplayName("prepareSimpleReport(): 일반 요청 / JVM 메모리 안내")
+    void testGeneralRequests() {
+        assertThat(aiReportDataService.prepareSimpleReport("전체 상태 리포트")).containsEntry("isGeneralRequest", true);
+        assertThat(aiReportDataService.prepareSimpleReport("자바 메모리 알려줘")).containsEntry("isGeneralRequest", true);
+    }
+
+    @Test
+    @DisplayName("prepareSimpleReport(): 긴 기간도 조회 구간 끝은 캐시 유효 시간 이상 잘라내지 않음")
+    void testEndTimeDropsAtMostCacheTtl() {
+        LocalDateTime before = LocalDateTime.now();
+
+        // 약 3개월 → 집계 간격 7d 이지만 구간 끝은 30분 경계까지만 내림
+        Map<String, Object> result = aiReportDataService.prepareSimpleReport("최근 3개월 cpu 사용률");
+
+        LocalDateTime endTime = (LocalDateTime) result.get("endTime");
+        LocalDateTime startTime = (LocalDateTime) result.get("startTime");
+        assertThat(endTime).isAfter(before.minusMinutes(30)).isBeforeOrEqualTo(before);
+        assertThat(endTime.getMinute() % 30).isZero();
+        assertThat(Duration.between(startTime, endTime).toDays()).isBetween(89L, 93L);
+    }
+}
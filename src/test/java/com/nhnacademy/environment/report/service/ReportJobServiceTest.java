@@ -0,0 +1,94 @@
+package com.nhnacademy.environment.report.service;
+
+import com.nhnacademy.environment.report.dto.ReportRequest;
+import com.nhnacademy.environment.report.dto.ReportResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: ReportJobService
+ * - 작업 등록 / 완료 조회, 대기열 초과 거절, 대기 중 작업 취소를 검증합니다.
+ */
+class ReportJobServiceTest {
+
+    private ReportService reportService;
+    private ThreadPoolTaskExecutor executor;
+    private ReportJobService reportJobService;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        reportService = mock(ReportService.class);
+        release = new CountDownLatch(1);
+        when(reportService.generateReport(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ReportResponse.builder().summaryText("요약").build();
+        });
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+
+        reportJobService = new ReportJobService(reportService, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private void awaitStatus(ReportJobService.ReportJob job, ReportJobService.Status status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (job.getStatus() != status && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(job.getStatus()).isEqualTo(status);
+    }
+
+    @Test
+    @DisplayName("submit(): 작업 ID 를 바로 반환하고, 완료 후 결과를 조회")
+    void testSubmitAndComplete() throws Exception {
+        ReportJobService.ReportJob job = reportJobService.submit(new ReportRequest("CPU 리포트", null)).orElseThrow();
+        awaitStatus(job, ReportJobService.Status.RUNNING);
+
+        release.countDown();
+        awaitStatus(job, ReportJobService.Status.COMPLETED);
+
+        assertThat(reportJobService.getJob(job.getId())).containsSame(job);
+        assertThat(job.toMap()).containsEntry("status", "COMPLETED").containsKey("result");
+        assertThat(reportJobService.getStats()).containsEntry("completed", 1L);
+    }
+
+    @Test
+    @DisplayName("submit(): 작업자 / 대기열이 가득 차면 거절하고, 대기 중 작업은 취소하면 실행되지 않음")
+    void testRejectAndCancel() throws Exception {
+        ReportJobService.ReportJob running = reportJobService.submit(new ReportRequest("1", null)).orElseThrow();
+        awaitStatus(running, ReportJobService.Status.RUNNING);
+        ReportJobService.ReportJob queued = reportJobService.submit(new ReportRequest("2", null)).orElseThrow();
+
+        Optional<ReportJobService.ReportJob> rejected = reportJobService.submit(new ReportRequest("3", null));
+        assertThat(rejected).isEmpty();
+        assertThat(reportJobService.getStats()).containsEntry("rejected", 1L);
+
+        reportJobService.cancel(queued.getId());
+        assertThat(queued.getStatus()).isEqualTo(ReportJobService.Status.CANCELLED);
+
+        release.countDown();
+        awaitStatus(running, ReportJobService.Status.COMPLETED);
+        verify(reportService, times(1)).generateReport(any());
+    }
+}
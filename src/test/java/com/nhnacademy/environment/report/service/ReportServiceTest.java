@@ -0,0 +1,96 @@
+package com.nhnacademy.environment.report.service;
+
+import com.nhnacademy.environment.report.client.GeminiClient;
+import com.nhnacademy.environment.report.dto.ReportRequest;
+import com.nhnacademy.environment.report.dto.ReportResponse;
+import com.nhnacademy.environment.util.RunningStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: ReportService 리포트 캐시
+ * - 같은 의도 + 같은 통계이면 Gemini 호출 없이 저장된 리포트를 반환하는지 검증합니다.
+ */
+class ReportServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2025, 6, 8, 0, 0);
+
+    private AiReportDataService aiReportDataService;
+    private GeminiClient geminiClient;
+    private ReportCacheService reportCacheService;
+    private ReportService reportService;
+
+    @BeforeEach
+    void setUp() {
+        aiReportDataService = mock(AiReportDataService.class);
+        geminiClient = mock(GeminiClient.class);
+        reportCacheService = new ReportCacheService();
+        reportService = new ReportService(aiReportDataService, geminiClient, reportCacheService);
+    }
+
+    private static RunningStatistics statistics(double... values) {
+        RunningStatistics statistics = new RunningStatistics();
+        for (double value : values) {
+            statistics.add(value);
+        }
+        return statistics;
+    }
+
+    private static Map<String, Object> preparedData(RunningStatistics statistics) {
+        Map<String, Object> preparedData = new HashMap<>();
+        preparedData.put("success", true);
+        preparedData.put("gatewayId", "cpu");
+        preparedData.put("measurement", "usage_idle");
+        preparedData.put("summary", "CPU 요약");
+        preparedData.put("reportCacheKey",
+                ReportCacheService.key("cpu", "usage_idle", START, END, statistics));
+        return preparedData;
+    }
+
+    @Test
+    @DisplayName("generateReport(): 표현이 달라도 같은 의도 / 통계이면 Gemini 를 다시 호출하지 않음")
+    void testCacheHitSkipsGemini() {
+        Map<String, Object> first = preparedData(statistics(10, 20, 30));
+        Map<String, Object> second = preparedData(statistics(10, 20, 30));
+        when(aiReportDataService.prepareSimpleReport(anyString())).thenReturn(first, second);
+        when(geminiClient.generateSummary(any(), anyString())).thenReturn("## 리포트");
+
+        ReportResponse generated = reportService.generateReport(new ReportRequest("CPU 지난 주", null));
+        ReportResponse cached = reportService.generateReport(new ReportRequest("지난 주 CPU 사용률 알려줘", null));
+
+        assertThat(cached).isSameAs(generated);
+        verify(geminiClient, times(1)).generateSummary(any(), anyString());
+        assertThat(reportCacheService.getStats())
+                .containsEntry("hits", 1L)
+                .containsEntry("misses", 1L)
+                .containsEntry("hitRatio", 0.5);
+    }
+
+    @Test
+    @DisplayName("generateReport(): 통계가 바뀌거나 요약 생성에 실패하면 새로 생성")
+    void testStatisticsChangeOrFailureMisses() {
+        when(aiReportDataService.prepareSimpleReport(anyString()))
+                .thenReturn(preparedData(statistics(10, 20, 30)), preparedData(statistics(10, 20, 31)),
+                        preparedData(statistics(10, 20, 31)));
+        when(geminiClient.generateSummary(any(), anyString()))
+                .thenReturn("## 리포트", GeminiClient.SUMMARY_UNAVAILABLE_MESSAGE, "## 새 리포트");
+
+        reportService.generateReport(new ReportRequest("CPU 지난 주", null));
+        reportService.generateReport(new ReportRequest("CPU 지난 주", null));
+        ReportResponse third = reportService.generateReport(new ReportRequest("CPU 지난 주", null));
+
+        assertThat(third.getSummaryText()).isEqualTo("## 새 리포트");
+        verify(geminiClient, times(3)).generateSummary(any(), anyString());
+    }
+}
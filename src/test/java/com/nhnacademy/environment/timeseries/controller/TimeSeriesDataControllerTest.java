@@ -1,6 +1,7 @@
 package com.nhnacademy.environment.timeseries.controller;
 
 import com.nhnacademy.environment.controller.TimeSeriesDataController;
+import com.nhnacademy.environment.query.QueryCostGuard;
 import com.nhnacademy.environment.timeseries.dto.ChartDataDto;
 import com.nhnacademy.environment.timeseries.dto.TimeSeriesDataDto;
 import com.nhnacademy.environment.timeseries.service.TimeSeriesDataService;
@@ -18,6 +19,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -38,6 +41,11 @@ class TimeSeriesDataControllerTest {
         public TimeSeriesDataService timeSeriesDataService() {
             return mockService;
         }
+
+        @Bean
+        public Map<String, String> translationMap() {
+            return Map.of("temperature", "온도");
+        }
     }
 
     @BeforeEach
@@ -51,7 +59,13 @@ class TimeSeriesDataControllerTest {
         Mockito.when(mockService.getMeasurementList(anyMap()))
                 .thenReturn(List.of("temperature"));
 
-        Mockito.when(mockService.getTimeSeriesData(eq("sensor_data"), anyMap(), eq(180)))
+        Mockito.when(mockService.getTimeSeriesData(anyMap(), anyInt(), anyInt()))
+                .thenReturn(Map.of("temperature", List.of(new TimeSeriesDataDto())));
+
+        Mockito.when(mockService.planTimeSeriesQuery(anyMap(), anyInt(), anyInt()))
+                .thenReturn(QueryCostGuard.QueryPlan.unguarded());
+
+        Mockito.when(mockService.getTimeSeriesData(anyMap(), anyInt(), anyInt(), any(QueryCostGuard.QueryPlan.class)))
                 .thenReturn(Map.of("temperature", List.of(new TimeSeriesDataDto())));
 
         Mockito.when(mockService.getChartData(eq("temperature"), eq("value"), anyMap(), eq(60)))
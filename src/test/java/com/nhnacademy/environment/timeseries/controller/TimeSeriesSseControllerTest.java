@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.environment.controller.TimeSeriesSseController;
 import com.nhnacademy.environment.timeseries.dto.TimeSeriesDataDto;
 import com.nhnacademy.environment.timeseries.service.TimeSeriesDataService;
+import com.nhnacademy.environment.websocket.manager.ConnectionQuotaManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,15 +14,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TimeSeriesSseController.class)
@@ -33,6 +37,7 @@ class TimeSeriesSseControllerTest {
 
     private static final TimeSeriesDataService mockService = Mockito.mock(TimeSeriesDataService.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ConnectionQuotaManager quotaManager = new ConnectionQuotaManager();
 
     @TestConfiguration
     static class MockConfig {
@@ -45,11 +50,16 @@ class TimeSeriesSseControllerTest {
         public ObjectMapper objectMapper() {
             return objectMapper;
         }
+
+        @Bean
+        public ConnectionQuotaManager connectionQuotaManager() {
+            return quotaManager;
+        }
     }
 
     @BeforeEach
     void setUp() {
-        Mockito.when(mockService.getTimeSeriesData(eq("sensor_data"), anyMap(), anyInt()))
+        Mockito.when(mockService.getTimeSeriesData(anyMap(), anyInt(), anyInt()))
                 .thenReturn(Map.of("temperature", List.of(new TimeSeriesDataDto())));
     }
 
@@ -62,4 +72,20 @@ class TimeSeriesSseControllerTest {
                         .param("location", "lab"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("SSE 연결 수 제한 초과 시 429 + Retry-After 로 거절하고 스트림을 열지 않음")
+    void testSseRejectedWhenQuotaExceeded() throws Exception {
+        ReflectionTestUtils.setField(quotaManager, "maxTotal", 0);
+        try {
+            mockMvc.perform(get("/environment/nhnacademy.com/time-series-stream")
+                            .param("origin", "sensor_data")
+                            .param("range", "60"))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"));
+        } finally {
+            ReflectionTestUtils.setField(quotaManager, "maxTotal", 2000);
+        }
+        assertThat(quotaManager.getStats()).containsEntry("rejectedGlobal", 1L);
+    }
 }
\ No newline at end of file
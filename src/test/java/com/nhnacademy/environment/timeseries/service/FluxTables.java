@@ -0,0 +1,29 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 테스트용 FluxTable 목(mock) 생성 헬퍼
+ * - when(...).thenReturn(...) 인자 안에서 호출하지 말고 변수로 먼저 만들어 사용합니다. (중첩 stubbing 방지)
+ */
+final class FluxTables {
+
+    private FluxTables() {
+    }
+
+    static FluxTable table(FluxRecord... records) {
+        return table(List.of(records));
+    }
+
+    static FluxTable table(List<FluxRecord> records) {
+        FluxTable table = mock(FluxTable.class);
+        when(table.getRecords()).thenReturn(records);
+        return table;
+    }
+}
@@ -0,0 +1,112 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.query.QueryRejectedException;
+import com.nhnacademy.environment.timeseries.dto.TimeSeriesDataDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: LatestValueService
+ * - last() 구간 확장, 최신값 캐시, 여러 selector 의 일괄 조회를 검증합니다.
+ */
+class LatestValueServiceTest {
+
+    private QueryApi queryApi;
+    private LatestValueService latestValueService;
+
+    @BeforeEach
+    void setUp() {
+        queryApi = mock(QueryApi.class);
+        RecentDataStore recentDataStore = mock(RecentDataStore.class);
+        when(recentDataStore.latest(any(), any(), any(), anyMap())).thenReturn(Optional.empty());
+        latestValueService = new LatestValueService(new InfluxQueryExecutor(queryApi), "data", "my-org", recentDataStore);
+    }
+
+    private FluxTable table(String location, Instant time, double value) {
+        FluxRecord record = mock(FluxRecord.class);
+        when(record.getTime()).thenReturn(time);
+        when(record.getValue()).thenReturn(value);
+        when(record.getValueByKey("companyDomain")).thenReturn("nhnacademy");
+        when(record.getValueByKey("_measurement")).thenReturn("temperature");
+        when(record.getValueByKey("origin")).thenReturn("sensor_data");
+        when(record.getValueByKey("location")).thenReturn(location);
+
+        return FluxTables.table(record);
+    }
+
+    private Map<String, String> selector(String location) {
+        return Map.of("companyDomain", "nhnacademy", "origin", "sensor_data",
+                "location", location, "_measurement", "temperature");
+    }
+
+    @Test
+    @DisplayName("getLatest(): 짧은 구간에 없으면 넓은 구간으로 last() 재조회하고 결과를 캐시")
+    void testWidensRangeAndCaches() {
+        FluxTable old = table("입구", Instant.parse("2026-01-01T00:00:00Z"), 21.5);
+        when(queryApi.query(anyString(), anyString()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(old));
+
+        TimeSeriesDataDto latest = latestValueService.getLatest(selector("입구"));
+        assertThat(latest.getValue()).isEqualTo(21.5);
+        assertThat(latestValueService.getLatest(selector("입구")).getValue()).isEqualTo(21.5);
+
+        ArgumentCaptor<String> flux = ArgumentCaptor.forClass(String.class);
+        verify(queryApi, times(2)).query(flux.capture(), anyString());
+        assertThat(flux.getAllValues().get(0)).contains("range(start: -1h)").contains("|> last()")
+                .doesNotContain("sort(");
+        assertThat(flux.getAllValues().get(1)).contains("range(start: -24h)");
+    }
+
+    @Test
+    @DisplayName("getLatestBatch(): 여러 selector 를 한 번의 쿼리로 조회하고 selector 별로 결과 매칭")
+    void testBatchResolvesAllSelectorsInOneQuery() {
+        Instant now = Instant.now();
+        List<FluxTable> tables = List.of(table("입구", now, 20.0), table("창고", now.minusSeconds(5), 25.0));
+        when(queryApi.query(anyString(), anyString())).thenReturn(tables);
+
+        List<TimeSeriesDataDto> result = latestValueService.getLatestBatch(
+                List.of(selector("입구"), selector("창고"), selector("사무실")));
+
+        assertThat(result.get(0).getValue()).isEqualTo(20.0);
+        assertThat(result.get(1).getValue()).isEqualTo(25.0);
+        // 1h 조회 후 남은 selector(사무실) 만 24h, 7d 로 재조회
+        assertThat(result.get(2)).isNull();
+        verify(queryApi, times(3)).query(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("getLatest(): 조회 실패 시 구간을 넓히지 않고 캐시하지 않은 채 예외 전달")
+    void testFailureStopsWideningAndIsNotCached() {
+        FluxTable recent = table("입구", Instant.now(), 22.0);
+        when(queryApi.query(anyString(), anyString()))
+                .thenThrow(new QueryRejectedException("대기열 시간 초과"))
+                .thenReturn(List.of(recent));
+
+        assertThatThrownBy(() -> latestValueService.getLatest(selector("입구")))
+                .isInstanceOf(QueryRejectedException.class);
+        verify(queryApi, times(1)).query(anyString(), anyString());
+
+        // 실패는 "값 없음" 으로 캐시되지 않으므로 다음 조회는 다시 InfluxDB 로
+        assertThat(latestValueService.getLatest(selector("입구")).getValue()).isEqualTo(22.0);
+        assertThat(latestValueService.getStats()).containsEntry("failedQueries", 1L);
+    }
+}
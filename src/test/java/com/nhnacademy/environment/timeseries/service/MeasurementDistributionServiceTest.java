@@ -0,0 +1,78 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static com.nhnacademy.environment.timeseries.service.FluxTables.table;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: MeasurementDistributionService
+ * - 시간별 count 버킷 합계와 현재 시간만 다시 집계하는 증분 갱신을 검증합니다.
+ */
+class MeasurementDistributionServiceTest {
+
+    private static final Map<String, String> FILTERS = Map.of("companyDomain", "nhnacademy", "origin", "sensor_data");
+
+    private QueryApi queryApi;
+    private MeasurementDistributionService distributionService;
+    private Instant currentHour;
+
+    @BeforeEach
+    void setUp() {
+        queryApi = mock(QueryApi.class);
+        distributionService = new MeasurementDistributionService(new InfluxQueryExecutor(queryApi), "data", "my-org");
+        currentHour = Instant.now().truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private FluxRecord count(String measurement, Instant windowStop, long count) {
+        FluxRecord record = mock(FluxRecord.class);
+        when(record.getValueByKey("_measurement")).thenReturn(measurement);
+        when(record.getTime()).thenReturn(windowStop);
+        when(record.getValue()).thenReturn(count);
+        return record;
+    }
+
+    @Test
+    @DisplayName("getCounts(): 12시간 버킷 합계를 반환하고 갱신 시 현재 시간 버킷만 교체")
+    void testSumsHourlyBucketsAndRefreshesCurrentHour() {
+        FluxTable initial = table(
+                count("temperature", currentHour.minus(2, ChronoUnit.HOURS), 100),
+                count("temperature", currentHour, 50),
+                count("temperature", Instant.now(), 10),
+                count("humidity", currentHour, 30));
+        FluxTable recent = table(
+                count("temperature", Instant.now(), 25),
+                count("co2", Instant.now(), 5));
+        when(queryApi.query(anyString(), anyString()))
+                .thenReturn(List.of(initial))
+                .thenReturn(List.of(recent));
+
+        assertThat(distributionService.getCounts(FILTERS))
+                .containsExactly(entry("humidity", 30L), entry("temperature", 160L));
+
+        distributionService.refreshRecent();
+
+        assertThat(distributionService.getCounts(FILTERS))
+                .containsExactly(entry("co2", 5L), entry("humidity", 30L), entry("temperature", 175L));
+
+        ArgumentCaptor<String> flux = ArgumentCaptor.forClass(String.class);
+        verify(queryApi, times(2)).query(flux.capture(), anyString());
+        assertThat(flux.getAllValues().get(0)).contains(currentHour.minus(11, ChronoUnit.HOURS).toString());
+        assertThat(flux.getAllValues().get(1)).contains(currentHour.toString());
+    }
+}
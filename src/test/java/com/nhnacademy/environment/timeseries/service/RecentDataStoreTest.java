@@ -0,0 +1,191 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.nhnacademy.environment.timeseries.service.FluxTables.table;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: RecentDataStore
+ * - 초기화 후 메모리 응답, 증분 수집 시 중복 제거, 버퍼가 구간을 덮지 못할 때 / 수집이 밀렸을 때의 InfluxDB 위임을 검증합니다.
+ */
+class RecentDataStoreTest {
+
+    private QueryApi queryApi;
+    private RecentDataStore store;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        queryApi = mock(QueryApi.class);
+        store = new RecentDataStore(new InfluxQueryExecutor(queryApi), "data", "my-org", Runnable::run);
+        now = Instant.now();
+    }
+
+    private FluxRecord point(String gatewayId, Instant time, double value) {
+        FluxRecord record = mock(FluxRecord.class);
+        when(record.getMeasurement()).thenReturn("usage_idle");
+        when(record.getField()).thenReturn("value");
+        when(record.getValues()).thenReturn(Map.of(
+                "result", "_result", "table", 0,
+                "_measurement", "usage_idle", "_field", "value",
+                "companyDomain", "nhnacademy", "gatewayId", gatewayId));
+        when(record.getTime()).thenReturn(time);
+        when(record.getValue()).thenReturn(value);
+        return record;
+    }
+
+    @Test
+    @DisplayName("query(): 최초 조회 시 초기화하고 이후 조회와 최신값은 메모리에서 응답")
+    void testServesFromMemoryAfterBootstrap() {
+        FluxTable cpu = table(
+                point("cpu", now.minusSeconds(120), 10),
+                point("cpu", now.minusSeconds(20), 20));
+        FluxTable mem = table(point("mem", now.minusSeconds(10), 70));
+        when(queryApi.query(anyString(), anyString())).thenReturn(List.of(cpu, mem));
+
+        Optional<List<RecentDataStore.RecentSeries>> cpuSeries =
+                store.query("nhnacademy", "usage_idle", "value", Map.of("gatewayId", "cpu"), 5);
+        assertThat(cpuSeries).isPresent();
+        assertThat(cpuSeries.get()).hasSize(1);
+        assertThat(cpuSeries.get().get(0).values()).containsExactly(10, 20);
+
+        // 1분 구간은 마지막 점만
+        assertThat(store.query("nhnacademy", "usage_idle", "value", Map.of("gatewayId", "cpu"), 1).get()
+                .get(0).values()).containsExactly(20);
+
+        Optional<RecentDataStore.RecentSeries> latest = store.latest("nhnacademy", "usage_idle", null, Map.of());
+        assertThat(latest).isPresent();
+        assertThat(latest.get().lastValue()).isEqualTo(70);
+
+        // window 를 넘는 구간은 InfluxDB 로 위임
+        assertThat(store.query("nhnacademy", "usage_idle", "value", Map.of(), 24 * 60)).isEmpty();
+
+        verify(queryApi, times(1)).query(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("pollRecent(): 중복 점은 무시하고, 덮어쓰기로 요청 구간 앞부분이 사라지면 InfluxDB 로 위임")
+    void testPollDeduplicatesAndBoundsCapacity() {
+        ReflectionTestUtils.setField(store, "capacity", 3);
+        FluxTable initial = table(
+                point("cpu", now.minusSeconds(40), 1),
+                point("cpu", now.minusSeconds(30), 2));
+        FluxTable recent = table(
+                point("cpu", now.minusSeconds(30), 2),
+                point("cpu", now.minusSeconds(20), 3),
+                point("cpu", now.minusSeconds(10), 4));
+        when(queryApi.query(anyString(), anyString()))
+                .thenReturn(List.of(initial))
+                .thenReturn(List.of(recent));
+
+        assertThat(store.query("nhnacademy", null, null, Map.of(), 5).get().get(0).values())
+                .containsExactly(1, 2);
+
+        store.pollRecent();
+
+        // 가장 오래 남은 점(30초 전)이 5분 구간의 시작보다 뒤이므로 잘린 결과 대신 위임
+        assertThat(store.query("nhnacademy", null, null, Map.of(), 5)).isEmpty();
+        // 최신값은 마지막 점만 필요하므로 메모리에서 응답
+        assertThat(store.latest("nhnacademy", null, null, Map.of()).get().lastValue()).isEqualTo(4);
+        assertThat(store.getStats()).containsEntry("series", 1);
+    }
+
+    @Test
+    @DisplayName("query(): 최대 시계열 수를 넘어 버려진 시계열이 있으면 InfluxDB 로 위임")
+    void testFallsBackWhenSeriesDropped() {
+        ReflectionTestUtils.setField(store, "maxSeries", 1);
+        FluxTable cpu = table(point("cpu", now.minusSeconds(20), 20));
+        FluxTable mem = table(point("mem", now.minusSeconds(10), 70));
+        when(queryApi.query(anyString(), anyString())).thenReturn(List.of(cpu, mem));
+
+        assertThat(store.query("nhnacademy", "usage_idle", "value", Map.of(), 5)).isEmpty();
+        assertThat(store.getStats())
+                .containsEntry("series", 1)
+                .containsEntry("seriesDroppedTenants", 1L)
+                // 180분 / 10초 = 1080 점 + 25%
+                .containsEntry("capacity", 1351);
+    }
+
+    @Test
+    @DisplayName("query(): 한도 안으로 돌아온 수집 이후에는 버려진 점이 없는 구간만 메모리에서 응답")
+    void testSeriesDroppedClearsWhenPollFits() {
+        ReflectionTestUtils.setField(store, "maxSeries", 1);
+        FluxTable cpu = table(point("cpu", now.minusSeconds(20), 20));
+        FluxTable mem = table(point("mem", now.minusSeconds(170), 70));
+        FluxTable cpuOnly = table(point("cpu", now.minusSeconds(10), 30));
+        when(queryApi.query(anyString(), anyString()))
+                .thenReturn(List.of(cpu, mem))
+                .thenReturn(List.of(cpuOnly));
+
+        assertThat(store.query("nhnacademy", "usage_idle", "value", Map.of(), 1)).isEmpty();
+        assertThat(store.getStats()).containsEntry("seriesDroppedTenants", 1L);
+
+        store.pollRecent();
+
+        assertThat(store.getStats()).containsEntry("seriesDroppedTenants", 0L);
+        assertThat(store.query("nhnacademy", "usage_idle", "value", Map.of(), 1).get().get(0).values())
+                .containsExactly(20, 30);
+        // 버려진 mem 점(170초 전)이 들어가는 구간은 여전히 위임
+        assertThat(store.query("nhnacademy", "usage_idle", "value", Map.of(), 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("query() / latest(): 수집이 계속 실패해 버퍼가 밀리면 InfluxDB 로 위임하고, 수집이 살아나면 다시 메모리에서 응답")
+    void testFallsBackWhenPollsAreStale() throws InterruptedException {
+        FluxTable initial = table(point("cpu", now.minusSeconds(20), 20));
+        FluxTable recovered = table(point("cpu", now.minusSeconds(5), 25));
+        when(queryApi.query(anyString(), anyString()))
+                .thenReturn(List.of(initial))
+                .thenThrow(new RuntimeException("influx down"))
+                .thenReturn(List.of(recovered));
+        assertThat(store.latest("nhnacademy", null, null, Map.of())).isPresent();
+
+        ReflectionTestUtils.setField(store, "pollMs", 1L);
+        ReflectionTestUtils.setField(store, "maxStalePolls", 1);
+        store.pollRecent();
+        Thread.sleep(10);
+
+        assertThat(store.latest("nhnacademy", null, null, Map.of())).isEmpty();
+        assertThat(store.query("nhnacademy", null, null, Map.of(), 5)).isEmpty();
+        assertThat(store.getStats()).containsEntry("staleReads", 2L);
+
+        ReflectionTestUtils.setField(store, "pollMs", 5000L);
+        store.pollRecent();
+        assertThat(store.latest("nhnacademy", null, null, Map.of()).get().lastValue()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("query(): 첫 조회는 초기화를 백그라운드로 한 번만 시작하고, 끝나기 전까지는 InfluxDB 로 위임")
+    void testInitialLoadRunsInBackground() {
+        List<Runnable> tasks = new ArrayList<>();
+        RecentDataStore asyncStore = new RecentDataStore(new InfluxQueryExecutor(queryApi), "data", "my-org", tasks::add);
+        FluxTable cpu = table(point("cpu", now.minusSeconds(20), 20));
+        when(queryApi.query(anyString(), anyString())).thenReturn(List.of(cpu));
+
+        assertThat(asyncStore.query("nhnacademy", null, null, Map.of(), 5)).isEmpty();
+        assertThat(asyncStore.query("nhnacademy", null, null, Map.of(), 5)).isEmpty();
+        assertThat(tasks).hasSize(1);
+        verifyNoInteractions(queryApi);
+
+        tasks.get(0).run();
+
+        assertThat(asyncStore.query("nhnacademy", null, null, Map.of(), 5).get().get(0).values()).containsExactly(20);
+        verify(queryApi, times(1)).query(anyString(), anyString());
+    }
+}
@@ -3,6 +3,7 @@ package com.nhnacademy.environment.timeseries.service;
 import com.influxdb.client.QueryApi;
 import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
 import com.nhnacademy.environment.timeseries.service.TimeSeriesAverageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,7 +37,7 @@ class TimeSeriesAverageServiceTest {
 
     @BeforeEach
     void setUp() {
-        averageService = new TimeSeriesAverageService(queryApi, "data", "my-org");
+        averageService = new TimeSeriesAverageService(new InfluxQueryExecutor(queryApi), "data", "my-org");
     }
 
     /**
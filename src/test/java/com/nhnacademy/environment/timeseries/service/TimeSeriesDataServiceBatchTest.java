@@ -0,0 +1,136 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.query.QueryCostGuard;
+import com.nhnacademy.environment.timeseries.dto.ChartDataDto;
+import com.nhnacademy.environment.timeseries.dto.ChartSeriesSelector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: TimeSeriesDataService 다중 시계열 일괄 조회
+ * - 여러 차트 조건을 하나의 Flux 쿼리로 조회하고 결과를 차트별로 나누는지 검증합니다.
+ */
+class TimeSeriesDataServiceBatchTest {
+
+    private QueryApi queryApi;
+    private TimeSeriesDataService timeSeriesDataService;
+
+    @BeforeEach
+    void setUp() {
+        queryApi = mock(QueryApi.class);
+        RecentDataStore recentDataStore = mock(RecentDataStore.class);
+        when(recentDataStore.query(any(), any(), any(), anyMap(), anyInt())).thenReturn(Optional.empty());
+        InfluxQueryExecutor queryExecutor = new InfluxQueryExecutor(queryApi);
+        timeSeriesDataService = new TimeSeriesDataService(queryExecutor, "data", "my-org",
+                Map.of(), recentDataStore, mock(LatestValueService.class), mock(MeasurementDistributionService.class),
+                new QueryCostGuard(queryExecutor, "data", "my-org"));
+    }
+
+    private FluxTable table(String measurement, String location, double... values) {
+        List<FluxRecord> records = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            FluxRecord record = mock(FluxRecord.class);
+            when(record.getTime()).thenReturn(Instant.parse("2026-01-01T00:00:00Z").plusSeconds(60L * i));
+            when(record.getValue()).thenReturn(values[i]);
+            when(record.getValueByKey("_measurement")).thenReturn(measurement);
+            when(record.getValueByKey("_field")).thenReturn("value");
+            when(record.getValueByKey("companyDomain")).thenReturn("nhnacademy");
+            when(record.getValueByKey("origin")).thenReturn("sensor_data");
+            when(record.getValueByKey("location")).thenReturn(location);
+            records.add(record);
+        }
+        return FluxTables.table(records);
+    }
+
+    private ChartSeriesSelector selector(String key, String measurement) {
+        return new ChartSeriesSelector(key, measurement, "value", "sensor_data", null, null, null);
+    }
+
+    @Test
+    @DisplayName("getChartDataBatch(): 한 번의 쿼리 결과를 차트 조건별로 분리")
+    void testSplitsOneQueryIntoCharts() {
+        List<FluxTable> tables = List.of(
+                table("temperature", "입구", 20, 21),
+                table("humidity", "입구", 40, 41, 42),
+                table("temperature", "창고", 18));
+        when(queryApi.query(anyString(), anyString())).thenReturn(tables);
+
+        List<ChartDataDto> charts = timeSeriesDataService.getChartDataBatch("nhnacademy",
+                List.of(selector("temp", "temperature"), selector("hum", "humidity"), selector("co2", "co2")),
+                60, 0);
+
+        assertThat(charts).hasSize(3);
+        assertThat(charts.get(0).getTitle()).isEqualTo("temperature_value");
+        assertThat(charts.get(0).getData()).containsExactly(20.0, 21.0, 18.0);
+        assertThat(charts.get(1).getData()).containsExactly(40.0, 41.0, 42.0);
+        assertThat(charts.get(2).getData()).isEmpty();
+
+        ArgumentCaptor<String> flux = ArgumentCaptor.forClass(String.class);
+        verify(queryApi, times(1)).query(flux.capture(), anyString());
+        assertThat(flux.getValue()).contains("r._measurement == \"temperature\"")
+                .contains(" or ")
+                .contains("r._measurement == \"co2\"");
+    }
+
+    @Test
+    @DisplayName("getChartData(): maxPoints 가 없어도 기본 목표 점 개수로 aggregateWindow 집계")
+    void testChartWithoutMaxPointsUsesDefaultWindow() {
+        List<FluxTable> tables = List.of(table("temperature", "입구", 20, 21));
+        when(queryApi.query(anyString(), anyString())).thenReturn(tables);
+
+        ChartDataDto chart = timeSeriesDataService.getChartData("temperature", "value",
+                Map.of("companyDomain", "nhnacademy"), 1440, 0);
+
+        assertThat(chart.getData()).containsExactly(20.0, 21.0);
+        ArgumentCaptor<String> flux = ArgumentCaptor.forClass(String.class);
+        verify(queryApi).query(flux.capture(), anyString());
+        // 1440분 / 300점 = 4.8분 → 5m
+        assertThat(flux.getValue()).contains("aggregateWindow(every: 5m, fn: mean");
+    }
+
+    @Test
+    @DisplayName("getChartData(): 메모리에서 응답해도 InfluxDB 경로와 같은 간격으로 집계")
+    void testMemoryChartUsesSameWindowAsInflux() {
+        // 180분 동안 10초 간격 원시 점 1080개
+        long stop = Math.floorDiv(System.currentTimeMillis(), 60_000L) * 60_000L;
+        long[] times = new long[1080];
+        double[] values = new double[1080];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = stop - (times.length - i) * 10_000L;
+            values[i] = i % 6;
+        }
+        RecentDataStore recentDataStore = mock(RecentDataStore.class);
+        when(recentDataStore.query(any(), any(), any(), anyMap(), anyInt())).thenReturn(Optional.of(List.of(
+                new RecentDataStore.RecentSeries("temperature", "value", Map.of(), times, values))));
+        InfluxQueryExecutor queryExecutor = new InfluxQueryExecutor(queryApi);
+        TimeSeriesDataService service = new TimeSeriesDataService(queryExecutor, "data", "my-org",
+                Map.of(), recentDataStore, mock(LatestValueService.class), mock(MeasurementDistributionService.class),
+                new QueryCostGuard(queryExecutor, "data", "my-org"));
+
+        ChartDataDto chart = service.getChartData("temperature", "value",
+                Map.of("companyDomain", "nhnacademy"), 180, 0);
+
+        // 180분 / 300점 = 36초 → 1m 간격 평균 180개 (InfluxDB 경로의 aggregateWindow(every: 1m) 와 같은 모양)
+        assertThat(chart.getData()).hasSize(180).containsOnly(2.5);
+        verifyNoInteractions(queryApi);
+    }
+}
@@ -0,0 +1,228 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import com.nhnacademy.environment.timeseries.dto.DeviceDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: TimeSeriesStatsService
+ * - 대시보드 통계 스냅샷 집계/조회 동작을 검증합니다.
+ */
+class TimeSeriesStatsServiceTest {
+
+    private QueryApi queryApi;
+    private DeviceInventoryService inventoryService;
+    private TimeSeriesStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        queryApi = mock(QueryApi.class);
+        InfluxQueryExecutor queryExecutor = new InfluxQueryExecutor(queryApi);
+        inventoryService = new DeviceInventoryService(queryExecutor, "data", "my-org");
+        statsService = new TimeSeriesStatsService(Runnable::run, inventoryService,
+                new DeviceCountSketchService(inventoryService, Runnable::run),
+                new TrafficAccumulatorService(queryExecutor, "data", "my-org"));
+
+        List<FluxRecord> records = List.of(
+                device("server_resource_data", "192.168.0.10", "cpu"),
+                device("server_resource_data", "192.168.0.10", "mem"),
+                device("server_resource_data", "192.168.0.11", "cpu"),
+                device("server_resource_data", "192.168.0.12", "disk"),
+                device("service_resource_data", "192.168.0.10", "javame-auth"),
+                device("service_resource_data", "192.168.0.10", "javame-member"),
+                device("입구", "sensor-01", "sensors")
+        );
+        FluxTable table = mock(FluxTable.class);
+        when(table.getRecords()).thenReturn(records);
+        when(queryApi.query(anyString(), anyString())).thenReturn(List.of(table));
+    }
+
+    private FluxRecord device(String location, String deviceId, String gatewayId) {
+        FluxRecord record = mock(FluxRecord.class);
+        when(record.getValueByKey("location")).thenReturn(location);
+        when(record.getValueByKey("deviceId")).thenReturn(deviceId);
+        when(record.getValueByKey("gatewayId")).thenReturn(gatewayId);
+        return record;
+    }
+
+    @Test
+    @DisplayName("서버/센서/서비스 개수를 하나의 인벤토리 쿼리에서 계산")
+    void testCountsDerivedFromSingleInventoryQuery() {
+        assertThat(statsService.countUniqueServers("nhnacademy")).isEqualTo(3);
+        assertThat(statsService.countUniqueSensors("nhnacademy")).isEqualTo(1);
+        assertThat(statsService.countUniqueServices("nhnacademy")).isEqualTo(2);
+        assertThat(statsService.getDeviceList("nhnacademy", "service_resource_data")).hasSize(2);
+
+        verify(queryApi, times(1)).query(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("getDashboardStats(): 첫 조회 시 집계 후 스냅샷에서 재사용")
+    void testDashboardStatsServedFromSnapshot() {
+        Map<String, Object> first = statsService.getDashboardStats("nhnacademy.com");
+        int queriesAfterFirst = mockingDetails(queryApi).getInvocations().size();
+
+        Map<String, Object> second = statsService.getDashboardStats("nhnacademy");
+
+        assertThat(first).containsEntry("success", true)
+                .containsEntry("serverCount", 3)
+                .containsEntry("sensorCount", 1)
+                .containsEntry("serviceCount", 2)
+                .containsEntry("companyDomain", "nhnacademy.com")
+                .containsKey("snapshotAt");
+        assertThat(second).containsEntry("serverCount", 3)
+                .containsEntry("companyDomain", "nhnacademy");
+        assertThat(mockingDetails(queryApi).getInvocations()).hasSize(queriesAfterFirst);
+    }
+
+    @Test
+    @DisplayName("refreshDashboardSnapshots(): 조회된 회사의 스냅샷을 다시 집계")
+    void testRefreshDashboardSnapshots() {
+        // 인벤토리 캐시를 즉시 만료시켜 갱신 시 다시 조회되도록 함
+        ReflectionTestUtils.setField(inventoryService, "inventoryTtlSeconds", 0L);
+        statsService.getDashboardStats("nhnacademy");
+        int queriesAfterFirst = mockingDetails(queryApi).getInvocations().size();
+
+        statsService.refreshDashboardSnapshots();
+
+        assertThat(mockingDetails(queryApi).getInvocations().size()).isGreaterThan(queriesAfterFirst);
+    }
+
+    @Test
+    @DisplayName("APPROXIMATE 모드: 일자별 스케치를 병합한 추정치가 정확 계산과 일치")
+    void testApproximateCountsFromDailySketches() {
+        assertThat(statsService.countUniqueServers("nhnacademy", TimeSeriesStatsService.CountMode.APPROXIMATE))
+                .isEqualTo(new TimeSeriesStatsService.DeviceCount(3, TimeSeriesStatsService.CountMode.APPROXIMATE));
+        int queriesAfterBootstrap = mockingDetails(queryApi).getInvocations().size();
+
+        assertThat(statsService.countUniqueSensors("nhnacademy", TimeSeriesStatsService.CountMode.APPROXIMATE))
+                .isEqualTo(new TimeSeriesStatsService.DeviceCount(1, TimeSeriesStatsService.CountMode.APPROXIMATE));
+        assertThat(statsService.countUniqueServices("nhnacademy", TimeSeriesStatsService.CountMode.APPROXIMATE))
+                .isEqualTo(new TimeSeriesStatsService.DeviceCount(2, TimeSeriesStatsService.CountMode.APPROXIMATE));
+
+        // 스케치가 준비된 뒤에는 추가 쿼리 없이 병합만 수행
+        assertThat(mockingDetails(queryApi).getInvocations()).hasSize(queriesAfterBootstrap);
+    }
+
+    @Test
+    @DisplayName("인벤토리 첫 조회 실패: 0 개를 성공으로 보고하지 않고 실패로 전달, 이후 조회 실패 시에는 이전 인벤토리 사용")
+    void testInventoryFailureWithoutCacheIsNotReportedAsZero() {
+        when(queryApi.query(anyString(), anyString())).thenThrow(new RuntimeException("influx down"));
+
+        assertThat(statsService.getDashboardStats("nhnacademy"))
+                .containsEntry("success", false)
+                .containsEntry("error", true);
+        assertThatThrownBy(() -> statsService.countUniqueServers("nhnacademy"))
+                .isInstanceOf(IllegalStateException.class);
+
+        // 한 번 성공한 뒤에는 만료된 인벤토리로 대체
+        reset(queryApi);
+        FluxTable table = mock(FluxTable.class);
+        List<FluxRecord> records = List.of(device("server_resource_data", "192.168.0.10", "cpu"));
+        when(table.getRecords()).thenReturn(records);
+        when(queryApi.query(anyString(), anyString())).thenReturn(List.of(table));
+        ReflectionTestUtils.setField(inventoryService, "inventoryTtlSeconds", 0L);
+        assertThat(statsService.countUniqueServers("nhnacademy")).isEqualTo(1);
+
+        when(queryApi.query(anyString(), anyString())).thenThrow(new RuntimeException("influx down"));
+        assertThat(statsService.countUniqueServers("nhnacademy")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("getDashboardStats(): APPROXIMATE 모드라도 추정치가 없으면 0 대신 정확 계산")
+    void testApproximateFallsBackToExactWhenEstimateMissing() {
+        DeviceCountSketchService sketchService = mock(DeviceCountSketchService.class);
+        when(sketchService.estimate("nhnacademy", DeviceCountSketchService.DeviceClass.SERVICE))
+                .thenReturn(OptionalLong.of(2));
+        when(sketchService.estimate("nhnacademy", DeviceCountSketchService.DeviceClass.SERVER))
+                .thenReturn(OptionalLong.empty());
+        when(sketchService.estimate("nhnacademy", DeviceCountSketchService.DeviceClass.SENSOR))
+                .thenReturn(OptionalLong.of(1));
+        TimeSeriesStatsService service = new TimeSeriesStatsService(Runnable::run, inventoryService,
+                sketchService, mock(TrafficAccumulatorService.class));
+        ReflectionTestUtils.setField(service, "defaultCountMode", TimeSeriesStatsService.CountMode.APPROXIMATE);
+
+        assertThat(service.getDashboardStats("nhnacademy"))
+                .containsEntry("serverCount", 3)
+                .containsEntry("countMode", TimeSeriesStatsService.CountMode.EXACT);
+        // 개별 조회도 요청한 방식이 아닌 실제로 사용한 방식을 반환
+        assertThat(service.countUniqueServers("nhnacademy", TimeSeriesStatsService.CountMode.APPROXIMATE))
+                .isEqualTo(new TimeSeriesStatsService.DeviceCount(3, TimeSeriesStatsService.CountMode.EXACT));
+        assertThat(service.countUniqueSensors("nhnacademy", TimeSeriesStatsService.CountMode.APPROXIMATE).mode())
+                .isEqualTo(TimeSeriesStatsService.CountMode.APPROXIMATE);
+    }
+
+    private TimeSeriesStatsService statsServiceWith(DeviceInventoryService inventory) {
+        return new TimeSeriesStatsService(Runnable::run, inventory,
+                mock(DeviceCountSketchService.class), mock(TrafficAccumulatorService.class));
+    }
+
+    @Test
+    @DisplayName("refreshDashboardSnapshots(): 첫 집계가 실패한 회사도 다음 갱신에서 다시 집계")
+    void testRefreshRetriesFailedFirstCompute() {
+        DeviceInventoryService inventory = mock(DeviceInventoryService.class);
+        when(inventory.getInventory(eq("nhnacademy")))
+                .thenThrow(new IllegalStateException("influx down"))
+                .thenReturn(inventoryService.getInventory("nhnacademy"));
+        TimeSeriesStatsService service = statsServiceWith(inventory);
+
+        assertThat(service.getDashboardStats("nhnacademy")).containsEntry("success", false);
+
+        service.refreshDashboardSnapshots();
+
+        assertThat(service.getDashboardStats("nhnacademy")).containsEntry("success", true)
+                .containsEntry("serverCount", 3);
+        verify(inventory, times(2)).getInventory("nhnacademy");
+    }
+
+    @Test
+    @DisplayName("getDashboardStats(): 동시에 들어온 첫 조회는 하나의 집계를 공유")
+    void testConcurrentFirstReadsShareOneCompute() throws Exception {
+        List<DeviceDto> devices = inventoryService.getInventory("nhnacademy");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DeviceInventoryService inventory = mock(DeviceInventoryService.class);
+        when(inventory.getInventory(eq("nhnacademy"))).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return devices;
+        });
+        TimeSeriesStatsService service = statsServiceWith(inventory);
+
+        CompletableFuture<Map<String, Object>> leader =
+                CompletableFuture.supplyAsync(() -> service.getDashboardStats("nhnacademy"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread follower = new Thread(() -> service.getDashboardStats("nhnacademy.com"));
+        follower.start();
+        // 후속 조회가 진행 중인 첫 집계를 기다리는 상태가 될 때까지 대기
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (follower.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).containsEntry("serverCount", 3);
+        follower.join(5000);
+        verify(inventory, times(1)).getInventory("nhnacademy");
+    }
+}
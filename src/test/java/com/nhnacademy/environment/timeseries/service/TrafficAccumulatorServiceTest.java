@@ -0,0 +1,133 @@
+package com.nhnacademy.environment.timeseries.service;
+
+import com.influxdb.client.QueryApi;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import com.nhnacademy.environment.query.InfluxQueryExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.nhnacademy.environment.timeseries.service.FluxTables.table;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: TrafficAccumulatorService
+ * - 시간별 카운터 차이 누적, 카운터 리셋 처리, 증분 수집을 검증합니다.
+ */
+class TrafficAccumulatorServiceTest {
+
+    private QueryApi queryApi;
+    private TrafficAccumulatorService accumulator;
+    private Instant currentHour;
+
+    @BeforeEach
+    void setUp() {
+        queryApi = mock(QueryApi.class);
+        accumulator = new TrafficAccumulatorService(new InfluxQueryExecutor(queryApi), "data", "my-org");
+        currentHour = Instant.now().truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private FluxRecord point(String deviceId, String measurement, Instant windowStop, double value) {
+        FluxRecord record = mock(FluxRecord.class);
+        when(record.getValueByKey("deviceId")).thenReturn(deviceId);
+        when(record.getMeasurement()).thenReturn(measurement);
+        when(record.getTime()).thenReturn(windowStop);
+        when(record.getValue()).thenReturn(value);
+        return record;
+    }
+
+    @Test
+    @DisplayName("시간별 차이를 누적하고 카운터 리셋 시 새 값 전체를 증가량으로 계산")
+    void testAccumulatesHourlyDeltasWithCounterReset() {
+        FluxTable serverA = table(
+                point("192.168.0.10", "bytes_sent", currentHour.minus(Duration.ofHours(2)), 1000),
+                point("192.168.0.10", "bytes_sent", currentHour.minus(Duration.ofHours(1)), 3000),
+                point("192.168.0.10", "bytes_sent", currentHour, 500));
+        FluxTable serverB = table(
+                point("192.168.0.11", "bytes_sent", currentHour.minus(Duration.ofHours(1)), 100),
+                point("192.168.0.11", "bytes_sent", currentHour, 400));
+        FluxTable inbound = table(
+                point("192.168.0.10", "bytes_recv", currentHour.minus(Duration.ofHours(1)), 10),
+                point("192.168.0.10", "bytes_recv", currentHour, 20));
+        when(queryApi.query(anyString(), anyString())).thenReturn(List.of(serverA, serverB, inbound));
+
+        assertThat(accumulator.getTotalBytes("nhnacademy", TrafficAccumulatorService.Direction.OUTBOUND))
+                .isEqualTo(2000 + 500 + 300);
+        assertThat(accumulator.getBytesByDevice("nhnacademy", TrafficAccumulatorService.Direction.OUTBOUND))
+                .containsExactly(
+                        entry("192.168.0.10", 2500.0),
+                        entry("192.168.0.11", 300.0));
+        assertThat(accumulator.getTotalBytes("nhnacademy", TrafficAccumulatorService.Direction.INBOUND))
+                .isEqualTo(10);
+
+        // 초기화 이후 조회는 메모리에서 처리
+        verify(queryApi, times(1)).query(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("ingestRecent(): 마지막 수집 시간부터 새 값만 반영")
+    void testIngestRecentAddsOnlyNewDeltas() {
+        FluxTable initial = table(
+                point("192.168.0.10", "bytes_sent", currentHour.minus(Duration.ofHours(1)), 1000),
+                point("192.168.0.10", "bytes_sent", currentHour, 1500));
+        FluxTable recent = table(
+                point("192.168.0.10", "bytes_sent", currentHour, 1500),
+                point("192.168.0.10", "bytes_sent", currentHour.plus(Duration.ofHours(1)), 1900));
+        when(queryApi.query(anyString(), anyString()))
+                .thenReturn(List.of(initial))
+                .thenReturn(List.of(recent));
+
+        assertThat(accumulator.getTotalBytes("nhnacademy", TrafficAccumulatorService.Direction.OUTBOUND))
+                .isEqualTo(500);
+
+        accumulator.ingestRecent();
+
+        assertThat(accumulator.getTotalBytes("nhnacademy", TrafficAccumulatorService.Direction.OUTBOUND))
+                .isEqualTo(900);
+        verify(queryApi, times(2)).query(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("정각이 아닌 _time(현재 시간 구간)은 그 시각이 속한 시간 슬롯에 누적")
+    void testPartialHourRecordLandsInItsOwnHour() {
+        Instant oldestHour = currentHour.minus(Duration.ofHours(23));
+        FluxTable partial = table(
+                point("192.168.0.10", "bytes_sent", oldestHour, 1000),
+                point("192.168.0.10", "bytes_sent", oldestHour.plus(Duration.ofMinutes(30)), 1600));
+        when(queryApi.query(anyString(), anyString())).thenReturn(List.of(partial));
+
+        // 23시간 전 구간의 바이트는 아직 최근 24시간 합계에 포함되어야 함
+        assertThat(accumulator.getTotalBytes("nhnacademy", TrafficAccumulatorService.Direction.OUTBOUND))
+                .isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("수집 시 24시간 동안 값이 없는 장비 카운터는 제거")
+    void testEvictsSilentDevices() {
+        FluxTable initial = table(
+                point("192.168.0.10", "bytes_sent", currentHour.minus(Duration.ofHours(26)), 100),
+                point("192.168.0.10", "bytes_sent", currentHour.minus(Duration.ofHours(25)), 200),
+                point("192.168.0.11", "bytes_sent", currentHour.minus(Duration.ofHours(1)), 100),
+                point("192.168.0.11", "bytes_sent", currentHour, 400));
+        when(queryApi.query(anyString(), anyString()))
+                .thenReturn(List.of(initial))
+                .thenReturn(List.of());
+
+        assertThat(accumulator.getBytesByDevice("nhnacademy", TrafficAccumulatorService.Direction.OUTBOUND))
+                .containsOnlyKeys("192.168.0.11");
+
+        accumulator.ingestRecent();
+
+        assertThat(accumulator.getBytesByDevice("nhnacademy", TrafficAccumulatorService.Direction.OUTBOUND))
+                .containsExactly(entry("192.168.0.11", 300.0));
+    }
+}
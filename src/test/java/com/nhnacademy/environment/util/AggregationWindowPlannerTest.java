@@ -0,0 +1,43 @@
+package com.nhnacademy.environment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AggregationWindowPlannerTest {
+
+    @Test
+    @DisplayName("every: 기존 평균/리포트 간격(10m, 1h, 6h, 1d)을 목표 점 개수로 재현")
+    void testReproducesExistingIntervals() {
+        assertThat(AggregationWindowPlanner.every(Duration.ofHours(1), 6)).isEqualTo("10m");
+        assertThat(AggregationWindowPlanner.every(Duration.ofHours(24), 24)).isEqualTo("1h");
+        assertThat(AggregationWindowPlanner.every(Duration.ofDays(7), 28)).isEqualTo("6h");
+        assertThat(AggregationWindowPlanner.every(Duration.ofDays(30), 48)).isEqualTo("1d");
+    }
+
+    @Test
+    @DisplayName("plan: 구간/목표 점 개수 이상인 가장 작은 간격을 선택하고 최소 간격을 지킴")
+    void testRoundsUpAndRespectsMinimum() {
+        // 5분 / 300 = 1s
+        assertThat(AggregationWindowPlanner.plan(Duration.ofMinutes(5), 300)).isEqualTo(Duration.ofSeconds(1));
+        // 7일 / 48 = 3.5h → 6h
+        assertThat(AggregationWindowPlanner.plan(Duration.ofDays(7), 48)).isEqualTo(Duration.ofHours(6));
+        // 6시간 / 48 = 7.5m 이지만 최소 30m
+        assertThat(AggregationWindowPlanner.plan(Duration.ofHours(6), 48, Duration.ofMinutes(30)))
+                .isEqualTo(Duration.ofMinutes(30));
+        // 매우 긴 구간은 가장 큰 간격으로 제한
+        assertThat(AggregationWindowPlanner.plan(Duration.ofDays(3650), 10)).isEqualTo(Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("toFlux: Flux duration 문자열 변환")
+    void testToFlux() {
+        assertThat(AggregationWindowPlanner.toFlux(Duration.ofSeconds(30))).isEqualTo("30s");
+        assertThat(AggregationWindowPlanner.toFlux(Duration.ofMinutes(15))).isEqualTo("15m");
+        assertThat(AggregationWindowPlanner.toFlux(Duration.ofHours(12))).isEqualTo("12h");
+        assertThat(AggregationWindowPlanner.toFlux(Duration.ofDays(2))).isEqualTo("2d");
+    }
+}
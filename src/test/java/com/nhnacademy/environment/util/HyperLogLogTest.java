@@ -0,0 +1,55 @@
+package com.nhnacademy.environment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("estimate: 작은 집합은 정확히, 중복은 한 번만 계산")
+    void testSmallCardinalityIsExact() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (int i = 0; i < 3; i++) {
+            hll.add("192.168.0.10");
+            hll.add("192.168.0.11");
+            hll.add("192.168.0.12");
+        }
+        hll.add(null);
+
+        assertThat(hll.estimate()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("estimate: 큰 집합은 표준 오차 범위 내로 추정")
+    void testLargeCardinalityWithinError() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (int i = 0; i < 100_000; i++) {
+            hll.add("device-" + i);
+        }
+
+        assertThat((double) hll.estimate()).isCloseTo(100_000.0, within(5_000.0));
+    }
+
+    @Test
+    @DisplayName("merge: 겹치는 두 스케치를 합치면 합집합 크기를 추정")
+    void testMergeIsUnion() {
+        HyperLogLog first = new HyperLogLog(12);
+        HyperLogLog second = new HyperLogLog(12);
+        for (int i = 0; i < 600; i++) {
+            first.add("sensor-" + i);
+        }
+        for (int i = 400; i < 1000; i++) {
+            second.add("sensor-" + i);
+        }
+
+        first.merge(second);
+
+        assertThat((double) first.estimate()).isCloseTo(1000.0, within(50.0));
+        assertThatThrownBy(() -> first.merge(new HyperLogLog(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,7 +7,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -69,4 +71,37 @@ class InfluxUtilTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("toPredicate / matchesFilters: 시스템 컬럼과 태그 조건 변환 및 빈 값 무시")
+    void testPredicateAndMatches() {
+        Map<String, String> filters = new HashMap<>();
+        filters.put("_measurement", "temperature");
+        filters.put("location", "입구");
+        filters.put("gatewayId", "");
+
+        assertThat(InfluxUtil.toPredicate(filters))
+                .isEqualTo("(r._measurement == \"temperature\" and r[\"location\"] == \"입구\")");
+        assertThat(InfluxUtil.toPredicate(Map.of())).isEqualTo("true");
+
+        FluxRecord record = mock(FluxRecord.class);
+        when(record.getValueByKey("_measurement")).thenReturn("temperature");
+        when(record.getValueByKey("location")).thenReturn("입구");
+        assertThat(InfluxUtil.matchesFilters(record, filters)).isTrue();
+
+        when(record.getValueByKey("location")).thenReturn("창고");
+        assertThat(InfluxUtil.matchesFilters(record, filters)).isFalse();
+    }
+
+    @Test
+    @DisplayName("toPredicate: 따옴표 / 역슬래시 / ${} 가 섞인 키와 값은 리터럴 밖으로 빠져나가지 못함")
+    void testPredicateEscapesInjectedValues() {
+        Map<String, String> filters = new HashMap<>();
+        filters.put("companyDomain", "x\" or true or r.a == \"");
+        filters.put("loc\"ation", "a\\b${x}");
+
+        assertThat(InfluxUtil.toPredicate(filters)).isEqualTo(
+                "(r[\"companyDomain\"] == \"x\\\" or true or r.a == \\\"\""
+                        + " and r[\"loc\\\"ation\"] == \"a\\\\b\\${x}\")");
+    }
 }
@@ -0,0 +1,53 @@
+package com.nhnacademy.environment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeywordMatcherTest {
+
+    private static final List<String> KEYWORDS = List.of(
+            "he", "she", "his", "hers", "메모리", "힙메모리", "힙", "cpu", "네트", "네트워크", "gc", "user");
+
+    private static final List<String> PROMPTS = List.of(
+            "ushers", "인증 서비스 힙메모리 사용량 알려줘", "지난 3일간 cpu 사용률", "네트워크 트래픽 분석해줘",
+            "회원 서비스 user 스레드 수", "gc 횟수와 힙 메모리", "아무 키워드도 없는 문장", "");
+
+    @Test
+    @DisplayName("scan: 겹치는 키워드를 포함한 모든 적중 위치를 한 번의 순회로 찾음")
+    void testOverlappingMatches() {
+        KeywordMatcher matcher = KeywordMatcher.of(KEYWORDS);
+
+        assertThat(matcher.scan("ushers").matches()).containsExactly(
+                new KeywordMatcher.Match("she", 1),
+                new KeywordMatcher.Match("he", 2),
+                new KeywordMatcher.Match("hers", 2));
+    }
+
+    @Test
+    @DisplayName("any: 키워드별 String.contains 결과와 같음")
+    void testEquivalentToContains() {
+        KeywordMatcher matcher = KeywordMatcher.of(KEYWORDS);
+
+        for (String prompt : PROMPTS) {
+            KeywordMatcher.Hits hits = matcher.scan(prompt);
+            for (String keyword : KEYWORDS) {
+                assertThat(hits.any(keyword)).as("'%s' in '%s'", keyword, prompt).isEqualTo(prompt.contains(keyword));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ranked: 긴 키워드 우선, 같은 길이는 앞에 나온 순서 / 등록되지 않은 키워드는 거절")
+    void testRankedAndUnknownKeyword() {
+        KeywordMatcher.Hits hits = KeywordMatcher.of(KEYWORDS).scan("힙메모리 네트워크");
+
+        assertThat(hits.ranked()).extracting(KeywordMatcher.Match::keyword)
+                .containsExactly("힙메모리", "네트워크", "메모리", "네트", "힙");
+        assertThatThrownBy(() -> hits.any("disk")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.nhnacademy.environment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LttbDownsamplerTest {
+
+    @Test
+    @DisplayName("selectIndices: maxPoints 개를 선택하고 첫 점과 마지막 점을 유지")
+    void testSelectsMaxPointsKeepingEnds() {
+        int length = 10_000;
+        long[] x = new long[length];
+        double[] y = new double[length];
+        for (int i = 0; i < length; i++) {
+            x[i] = i * 1000L;
+            y[i] = Math.sin(i / 100.0);
+        }
+
+        int[] indices = LttbDownsampler.selectIndices(x, y, length, 500);
+
+        assertThat(indices).hasSize(500);
+        assertThat(indices[0]).isZero();
+        assertThat(indices[indices.length - 1]).isEqualTo(length - 1);
+        for (int i = 1; i < indices.length; i++) {
+            assertThat(indices[i]).isGreaterThan(indices[i - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("downsample: 단일 피크 값이 다운샘플링 후에도 보존")
+    void testPreservesSpike() {
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            points.add(new double[]{i, i == 2_345 ? 100.0 : 1.0});
+        }
+
+        List<double[]> sampled = LttbDownsampler.downsample(points, p -> (long) p[0], p -> p[1], 100);
+
+        assertThat(sampled).hasSize(100);
+        assertThat(sampled).anySatisfy(p -> assertThat(p[1]).isEqualTo(100.0));
+    }
+
+    @Test
+    @DisplayName("selectIndices: maxPoints 가 1, 2 이면 전체 대신 마지막 점 / 양 끝 점만 선택")
+    void testSelectsEndsWhenMaxPointsBelowThree() {
+        long[] x = {0, 1000, 2000, 3000, 4000};
+        double[] y = {1, 5, 2, 8, 3};
+
+        assertThat(LttbDownsampler.selectIndices(x, y, 5, 2)).containsExactly(0, 4);
+        assertThat(LttbDownsampler.selectIndices(x, y, 5, 1)).containsExactly(4);
+        assertThat(LttbDownsampler.selectIndices(x, y, 5, 0)).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("downsample: maxPoints 가 0 이하이거나 점이 적으면 원본 그대로")
+    void testNoDownsamplingWhenNotNeeded() {
+        List<double[]> points = List.of(new double[]{0, 1}, new double[]{1, 2}, new double[]{2, 3});
+
+        assertThat(LttbDownsampler.downsample(points, p -> (long) p[0], p -> p[1], 0)).isSameAs(points);
+        assertThat(LttbDownsampler.downsample(points, p -> (long) p[0], p -> p[1], 10)).isSameAs(points);
+        assertThat(LttbDownsampler.perSeriesLimit(1000, 4)).isEqualTo(250);
+        assertThat(LttbDownsampler.perSeriesLimit(0, 4)).isZero();
+    }
+}
@@ -0,0 +1,61 @@
+package com.nhnacademy.environment.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RunningStatisticsTest {
+
+    private static RunningStatistics of(double... values) {
+        RunningStatistics statistics = new RunningStatistics();
+        for (double value : values) {
+            statistics.add(value);
+        }
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("add: 평균 / 최소 / 최대 / 모표준편차를 한 번의 순회로 계산")
+    void testAdd() {
+        RunningStatistics statistics = of(2, 4, 4, 4, 5, 5, 7, 9);
+
+        assertThat(statistics.getCount()).isEqualTo(8);
+        assertThat(statistics.getMean()).isCloseTo(5.0, within(1e-9));
+        assertThat(statistics.getStdDev()).isCloseTo(2.0, within(1e-9));
+        assertThat(statistics.getMin()).isEqualTo(2.0);
+        assertThat(statistics.getMax()).isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("merge: 시계열별 집계를 합친 결과가 전체 값을 누적한 결과와 같음")
+    void testMergeMatchesAdd() {
+        RunningStatistics first = of(10.5, 11.0, 12.25);
+        RunningStatistics second = of(80, 95, 70, 60.5);
+        RunningStatistics all = of(10.5, 11.0, 12.25, 80, 95, 70, 60.5);
+
+        RunningStatistics merged = new RunningStatistics();
+        merged.merge(first.getCount(), first.getMean(), first.getStdDev(), first.getMin(), first.getMax());
+        merged.merge(second.getCount(), second.getMean(), second.getStdDev(), second.getMin(), second.getMax());
+        merged.merge(0, 0, 0, 0, 0);
+
+        assertThat(merged.getCount()).isEqualTo(all.getCount());
+        assertThat(merged.getMean()).isCloseTo(all.getMean(), within(1e-9));
+        assertThat(merged.getStdDev()).isCloseTo(all.getStdDev(), within(1e-9));
+        assertThat(merged.getMin()).isEqualTo(10.5);
+        assertThat(merged.getMax()).isEqualTo(95.0);
+    }
+
+    @Test
+    @DisplayName("데이터가 없으면 모든 값이 0")
+    void testEmpty() {
+        RunningStatistics statistics = new RunningStatistics();
+
+        assertThat(statistics.getCount()).isZero();
+        assertThat(statistics.getMean()).isZero();
+        assertThat(statistics.getStdDev()).isZero();
+        assertThat(statistics.getMin()).isZero();
+        assertThat(statistics.getMax()).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+package com.nhnacademy.environment.websocket.interceptor;
+
+import com.nhnacademy.environment.websocket.manager.ConnectionQuotaManager;
+import com.nhnacademy.environment.websocket.service.CompanyDomainResolver;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 단위 테스트: AuthHandshakeInterceptor 토큰 검증
+ * - 서명 검증 결과와 검증된 토큰 캐시 동작을 검증합니다.
+ */
+class AuthHandshakeInterceptorTest {
+
+    private static final String SECRET =
+            "jU2r0uAwblmEoa5/AGDP5iq2eHh0fox1SeZd5HCbnjbaFlhjy4fwauZ2bzj8BYcModYOaZkA+qnDVfd291ydBw==";
+
+    private AuthHandshakeInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new AuthHandshakeInterceptor(mock(CompanyDomainResolver.class), new ConnectionQuotaManager());
+        ReflectionTestUtils.setField(interceptor, "jwtSecret", SECRET);
+        interceptor.initJwtParser();
+    }
+
+    private String token(String secret, Instant expiration) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return Jwts.builder()
+                .subject("user@nhnacademy.com")
+                .claim("role", "ROLE_USER")
+                .expiration(Date.from(expiration))
+                .signWith(key)
+                .compact();
+    }
+
+    @Test
+    @DisplayName("verifyToken(): 같은 토큰은 한 번만 서명 검증하고 이후 캐시된 Claims 사용")
+    void testVerifiesOnceAndCaches() {
+        String token = token(SECRET, Instant.now().plusSeconds(600));
+
+        Claims first = interceptor.verifyToken(token);
+        Claims second = interceptor.verifyToken(token);
+
+        assertThat(first).isNotNull();
+        assertThat(first.getSubject()).isEqualTo("user@nhnacademy.com");
+        assertThat(first.get("role", String.class)).isEqualTo("ROLE_USER");
+        assertThat(second).isSameAs(first);
+        assertThat(interceptor.getStats())
+                .containsEntry("verifications", 1L)
+                .containsEntry("cacheHits", 1L)
+                .containsEntry("cacheEntries", 1);
+    }
+
+    @Test
+    @DisplayName("verifyToken(): 서명이 다르거나 만료된 토큰은 null 이고 캐시하지 않음")
+    void testRejectsInvalidTokens() {
+        String otherSecret = "c2VjcmV0LWtleS1mb3ItdGVzdGluZy1vbmx5LXNlY3JldC1rZXktZm9yLXRlc3Rpbmctb25seQ==";
+
+        assertThat(interceptor.verifyToken(token(otherSecret, Instant.now().plusSeconds(600)))).isNull();
+        assertThat(interceptor.verifyToken(token(SECRET, Instant.now().minusSeconds(60)))).isNull();
+        assertThat(interceptor.verifyToken("not-a-jwt")).isNull();
+        assertThat(interceptor.getStats()).containsEntry("cacheEntries", 0);
+    }
+}
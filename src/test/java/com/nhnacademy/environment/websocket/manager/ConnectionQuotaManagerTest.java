@@ -0,0 +1,58 @@
+package com.nhnacademy.environment.websocket.manager;
+
+import com.nhnacademy.environment.websocket.manager.ConnectionQuotaManager.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단위 테스트: ConnectionQuotaManager
+ * - 전체 / 회사별 연결 수 제한과 세션별 구독 요청 제한을 검증합니다.
+ */
+class ConnectionQuotaManagerTest {
+
+    private ConnectionQuotaManager quotaManager;
+
+    @BeforeEach
+    void setUp() {
+        quotaManager = new ConnectionQuotaManager();
+        ReflectionTestUtils.setField(quotaManager, "maxTotal", 3);
+        ReflectionTestUtils.setField(quotaManager, "maxPerCompany", 2);
+        ReflectionTestUtils.setField(quotaManager, "maxSubscribesPerMinute", 2);
+    }
+
+    @Test
+    @DisplayName("acquire(): 회사별 / 전체 제한을 WebSocket 과 SSE 합산으로 적용하고 release 후 다시 허용")
+    void testCompanyAndGlobalLimits() {
+        assertThat(quotaManager.acquire(Channel.WEBSOCKET, "nhnacademy", "ws-1")).isEmpty();
+        assertThat(quotaManager.acquire(Channel.SSE, "nhnacademy", "sse-1")).isEmpty();
+        assertThat(quotaManager.acquire(Channel.WEBSOCKET, "nhnacademy", "ws-2"))
+                .hasValueSatisfying(rejection -> assertThat(rejection.retryAfterSeconds()).isEqualTo(10));
+
+        assertThat(quotaManager.acquire(Channel.WEBSOCKET, "other", "ws-3")).isEmpty();
+        assertThat(quotaManager.check(null)).isPresent();
+        assertThat(quotaManager.acquire(Channel.SSE, "third", "sse-2")).isPresent();
+
+        quotaManager.release("sse-1");
+        quotaManager.release("sse-1");
+        assertThat(quotaManager.companyCount("nhnacademy")).isEqualTo(1);
+        assertThat(quotaManager.acquire(Channel.WEBSOCKET, "nhnacademy", "ws-2")).isEmpty();
+        assertThat(quotaManager.getStats())
+                .containsEntry("totalConnections", 3)
+                .containsEntry("rejectedCompany", 1L)
+                .containsEntry("rejectedGlobal", 2L);
+    }
+
+    @Test
+    @DisplayName("tryRecordSubscribe(): 분당 구독 요청 제한 초과 시 다음 구간까지의 retry-after 반환")
+    void testSubscribeLimit() {
+        assertThat(quotaManager.tryRecordSubscribe("ws-1")).isEmpty();
+        assertThat(quotaManager.tryRecordSubscribe("ws-1")).isEmpty();
+        assertThat(quotaManager.tryRecordSubscribe("ws-1"))
+                .hasValueSatisfying(rejection -> assertThat(rejection.retryAfterSeconds()).isBetween(1L, 60L));
+        assertThat(quotaManager.tryRecordSubscribe("ws-2")).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.nhnacademy.environment.websocket.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단위 테스트: CompanyDomainResolver
+ * - companyDomain 캐시와 Member API 장애 시 stale 값 사용을 검증합니다.
+ */
+class CompanyDomainResolverTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<HttpStatus> status = new AtomicReference<>(HttpStatus.OK);
+
+    private CompanyDomainResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(status.get())
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(status.get() == HttpStatus.OK
+                            ? "{\"memberNo\":1,\"memberEmail\":\"user@nhnacademy.com\",\"companyDomain\":\"nhnacademy.com\"}"
+                            : "{}")
+                    .build());
+        });
+        resolver = new CompanyDomainResolver(builder, CircuitBreakerRegistry.ofDefaults());
+        ReflectionTestUtils.setField(resolver, "memberApiUrl", "http://MEMBER-API");
+        ReflectionTestUtils.setField(resolver, "memberMeUri", "/members/me");
+        resolver.initWebClient();
+    }
+
+    @Test
+    @DisplayName("resolve(): TTL 안에서는 Member API 를 다시 호출하지 않음")
+    void testCachesCompanyDomain() {
+        assertThat(resolver.resolve("user@nhnacademy.com", "ROLE_USER")).isEqualTo("nhnacademy.com");
+        assertThat(resolver.resolve("user@nhnacademy.com", "ROLE_USER")).isEqualTo("nhnacademy.com");
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(resolver.getStats()).containsEntry("cacheHits", 1L);
+    }
+
+    @Test
+    @DisplayName("resolve(): Member API 5xx 이면 만료된 캐시 값을 반환하고, 4xx 이면 null")
+    void testServesStaleOnError() {
+        ReflectionTestUtils.setField(resolver, "cacheTtlSeconds", 0L);
+        assertThat(resolver.resolve("user@nhnacademy.com", "ROLE_USER")).isEqualTo("nhnacademy.com");
+
+        status.set(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(resolver.resolve("user@nhnacademy.com", "ROLE_USER")).isEqualTo("nhnacademy.com");
+        assertThat(resolver.resolve("other@nhnacademy.com", "ROLE_USER")).isNull();
+
+        status.set(HttpStatus.NOT_FOUND);
+        assertThat(resolver.resolve("user@nhnacademy.com", "ROLE_USER")).isNull();
+
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(resolver.getStats()).containsEntry("staleHits", 1L);
+    }
+}